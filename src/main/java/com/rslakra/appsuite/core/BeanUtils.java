@@ -30,6 +30,7 @@
  *****************************************************************************/
 package com.rslakra.appsuite.core;
 
+import com.rslakra.appsuite.core.monitoring.CacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,11 +63,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -98,9 +103,14 @@ public enum BeanUtils {
     // IMMUTABLE_ATTRIBUTES
     private final Set<String> immutableAttributes = new HashSet<>(Arrays.asList(ID));
     // CLASS_PROPERTY_DESCRIPTORS
-    private final Map<Class<?>, Map<String, PropertyDescriptor>> classPropertyDescriptors = new ConcurrentHashMap<>();
+    private final ClassMetadataCache<Map<String, PropertyDescriptor>> classPropertyDescriptors =
+        new ClassMetadataCache<>("classPropertyDescriptors", this::loadPropertyDescriptors);
     // CLASS_PROPERTIES
-    private final ConcurrentMap<Class<?>, ClassProperties> classProperties = new ConcurrentHashMap<>(256);
+    private final ClassMetadataCache<ClassProperties> classProperties =
+        new ClassMetadataCache<>("classProperties", ClassProperties::new);
+    // COPY_PLANS (by the source type)
+    private final ClassMetadataCache<ConcurrentMap<CopyPlanKey, CopyPlan<?, ?>>> copyPlans =
+        new ClassMetadataCache<>("copyPlans", sourceType -> new ConcurrentHashMap<>());
     private boolean copyOnlyNonNullValues = false;
 
     BeanUtils() {
@@ -1111,45 +1121,64 @@ public enum BeanUtils {
     }
 
     /**
+     * Returns the public single argument <code>set</code> methods of the <code>classType</code> grouped by their names.
+     *
      * @param classType
+     * @return
+     */
+    private Map<String, List<Method>> findSetterMethods(final Class<?> classType) {
+        final Map<String, List<Method>> setterMethods = new HashMap<>();
+        for (Method method : classType.getMethods()) {
+            if (isSetter(method)) {
+                setterMethods.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+            }
+        }
+
+        return setterMethods;
+    }
+
+    /**
+     * @param setterMethods
      * @param propertyDescriptor
      * @throws IntrospectionException
      */
-    private void findWriteMethod(final Class<?> classType, final PropertyDescriptor propertyDescriptor)
-        throws IntrospectionException {
+    private void findWriteMethod(final Map<String, List<Method>> setterMethods,
+                                 final PropertyDescriptor propertyDescriptor) throws IntrospectionException {
         if (!isClassPropertyDescriptor(propertyDescriptor) && propertyDescriptor.getReadMethod() != null) {
-            final String setterMethod = getSetterMethod(propertyDescriptor);
-            final Class<?> propType = getReturnType(propertyDescriptor);
-            for (Method method : classType.getMethods()) {
-                if (setterMethod.equals(method.getName()) && method.getParameterTypes().length == 1
-                    && method.getParameterTypes()[0].isAssignableFrom(propType)) {
-                    propertyDescriptor.setWriteMethod(method);
-                    return;
+            final List<Method> methods = setterMethods.get(getSetterMethod(propertyDescriptor));
+            if (isNotNull(methods)) {
+                final Class<?> propType = getReturnType(propertyDescriptor);
+                for (Method method : methods) {
+                    if (method.getParameterTypes()[0].isAssignableFrom(propType)) {
+                        propertyDescriptor.setWriteMethod(method);
+                        return;
+                    }
                 }
             }
         }
     }
 
     /**
+     * Loads the property descriptors of the <code>classType</code> by their names.
+     *
      * @param classType
      * @return
      */
-    public final Map<String, PropertyDescriptor> findByClass(final Class<?> classType) {
+    private Map<String, PropertyDescriptor> loadPropertyDescriptors(final Class<?> classType) {
         try {
-            Map<String, PropertyDescriptor> typePropertyDescriptor = classPropertyDescriptors.get(classType);
-            if (isNull(typePropertyDescriptor)) {
-                typePropertyDescriptor = new LinkedHashMap<>();
-                final PropertyDescriptor[] propertyDescriptors = getBeanInfo(classType);
-                for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-                    if (isNull(propertyDescriptor.getWriteMethod())) {
-                        findWriteMethod(classType, propertyDescriptor);
+            final Map<String, PropertyDescriptor> typePropertyDescriptor = new LinkedHashMap<>();
+            final PropertyDescriptor[] propertyDescriptors = getBeanInfo(classType);
+            // the setters are indexed once, only if any property is missing its write method.
+            Map<String, List<Method>> setterMethods = null;
+            for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+                if (isNull(propertyDescriptor.getWriteMethod())) {
+                    if (isNull(setterMethods)) {
+                        setterMethods = findSetterMethods(classType);
                     }
-
-                    typePropertyDescriptor.put(propertyDescriptor.getName(), propertyDescriptor);
+                    findWriteMethod(setterMethods, propertyDescriptor);
                 }
 
-                classPropertyDescriptors.putIfAbsent(classType, typePropertyDescriptor);
-                typePropertyDescriptor = classPropertyDescriptors.get(classType);
+                typePropertyDescriptor.put(propertyDescriptor.getName(), propertyDescriptor);
             }
 
             return typePropertyDescriptor;
@@ -1159,6 +1188,14 @@ public enum BeanUtils {
         }
     }
 
+    /**
+     * @param classType
+     * @return
+     */
+    public final Map<String, PropertyDescriptor> findByClass(final Class<?> classType) {
+        return classPropertyDescriptors.get(classType);
+    }
+
     /**
      * Returns true if the <code>PropertyDescriptor</code> name is class otherwise false.
      *
@@ -1391,13 +1428,59 @@ public enum BeanUtils {
      * @return
      */
     private ClassProperties getPropertyDescriptors(final Class<?> classType) {
-        ClassProperties classProperties = this.classProperties.get(classType);
-        if (isNull(classProperties)) {
-            this.classProperties.putIfAbsent(classType, new ClassProperties(classType));
-            classProperties = this.classProperties.get(classType);
-        }
+        return classProperties.get(classType);
+    }
 
-        return classProperties;
+    /**
+     * Builds and caches the metadata (the property descriptors and accessors) of the <code>classType</code>.
+     *
+     * @param classType
+     * @return the number of the properties of the <code>classType</code>
+     */
+    int loadMetadata(final Class<?> classType) {
+        return getPropertyDescriptors(classType).readProperties.size();
+    }
+
+    /**
+     * Returns the number of the classes having the cached metadata.
+     *
+     * @return
+     */
+    int getMetadataSize() {
+        return classProperties.size();
+    }
+
+    /**
+     * Evicts the cached metadata (the property descriptors, accessors and copy plans) of all the classes loaded by the
+     * <code>classLoader</code> or any of its child class loaders, so the class loader can be collected right away
+     * (i.e. on the redeploy of a plugin jar).
+     * <p>
+     * The metadata is held weakly by its class anyway, but the copy plans between the classes of different class
+     * loaders are only released by this call.
+     *
+     * @param classLoader
+     * @return the number of the evicted classes
+     */
+    public static int evict(final ClassLoader classLoader) {
+        LOGGER.debug("+evict({})", classLoader);
+        // drop the plans of the other classes, which copy into the classes of this class loader.
+        INSTANCE.copyPlans.forEach(copyPlans -> copyPlans.keySet()
+            .removeIf(planKey -> ClassMetadataCache.isLoadedBy(planKey.targetType, classLoader)));
+        int evicted = INSTANCE.copyPlans.evict(classLoader);
+        evicted = Math.max(evicted, INSTANCE.classProperties.evict(classLoader));
+        evicted = Math.max(evicted, INSTANCE.classPropertyDescriptors.evict(classLoader));
+        LOGGER.debug("-evict(), evicted:{}", evicted);
+        return evicted;
+    }
+
+    /**
+     * Returns the statistics (the hits, misses, evictions and size) of the class metadata caches.
+     *
+     * @return
+     */
+    public static List<CacheStats> getCacheStats() {
+        return Arrays.asList(INSTANCE.classPropertyDescriptors.getStats(), INSTANCE.classProperties.getStats(),
+                             INSTANCE.copyPlans.getStats());
     }
 
     /**
@@ -1411,7 +1494,7 @@ public enum BeanUtils {
 
     /**
      * The <code>BeanPropertyDescriptor</code> contains the bean <code>name</code>, <code>classType</code>,
-     * <code>readMethod</code>, and <code>writeMethod</code>.
+     * <code>readMethod</code>, <code>writeMethod</code> and the generated <code>accessor</code> of these methods.
      */
     private final class BeanPropertyDescriptor {
 
@@ -1419,6 +1502,7 @@ public enum BeanUtils {
         private final Class<?> classType;
         private final Method readMethod;
         private final Method writeMethod;
+        private final PropertyAccessor accessor;
 
         /**
          * @param propertyDescriptor
@@ -1429,47 +1513,10 @@ public enum BeanUtils {
             this.classType = propertyDescriptor.getReadMethod().getReturnType();
             this.readMethod = propertyDescriptor.getReadMethod();
             this.writeMethod = propertyDescriptor.getWriteMethod();
+            this.accessor = PropertyAccessor.of(readMethod, writeMethod);
             LOGGER.trace("-BeanPropertyDescriptor()");
         }
 
-        /**
-         * Returns the <code>newInstance</code> of the property class.
-         *
-         * @return
-         * @throws ReflectiveOperationException
-         */
-        public Object newInstance() throws ReflectiveOperationException {
-            if (classType.equals(Set.class)) {
-                return new HashSet<>();
-            } else if (classType.equals(Map.class)) {
-                return new HashMap<>();
-            } else if (classType.equals(List.class)) {
-                return new ArrayList<>();
-            } else {
-                return INSTANCE.newInstance(classType);
-            }
-        }
-
-        /**
-         * @param sourceProperty
-         * @param source
-         * @param target
-         * @throws InvocationTargetException
-         * @throws IllegalAccessException
-         */
-        private void setTargetProperty(BeanPropertyDescriptor sourceProperty, Object source, Object target)
-            throws InvocationTargetException, IllegalAccessException {
-            setTargetProperty(target, sourceProperty.readMethod.invoke(source));
-        }
-
-        private void setTargetProperty(Object target, Object value) {
-            try {
-                this.writeMethod.invoke(target, value);
-            } catch (IllegalAccessException | InvocationTargetException ex) {
-                //ignore me
-            }
-        }
-
         /**
          * Returns the string representation of this object.
          *
@@ -1482,6 +1529,7 @@ public enum BeanUtils {
                 .add("classType", classType)
                 .add("readMethod", readMethod)
                 .add("writeMethod", writeMethod)
+                .add("accessor", accessor)
                 .toString();
         }
     }
@@ -1548,6 +1596,153 @@ public enum BeanUtils {
         }
     }
 
+    /**
+     * The key of the cached <code>CopyPlan</code>, which is the pair of the classes and the ignored properties.
+     * <p>
+     * The lookup keys hold the caller's <code>ignoredProperties</code> array as is, so finding a cached plan doesn't
+     * allocate any set; the array is copied only when a new plan is cached.
+     */
+    private static final class CopyPlanKey {
+
+        private static final String[] NO_PROPERTIES = new String[0];
+
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+        private final String[] ignoredProperties;
+        private final int hashCode;
+
+        /**
+         * @param sourceType
+         * @param targetType
+         * @param ignoredProperties
+         */
+        private CopyPlanKey(final Class<?> sourceType, final Class<?> targetType, final String[] ignoredProperties) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.ignoredProperties = (isNull(ignoredProperties) ? NO_PROPERTIES : ignoredProperties);
+            this.hashCode = 31 * (31 * sourceType.hashCode() + targetType.hashCode())
+                            + Arrays.hashCode(this.ignoredProperties);
+        }
+
+        /**
+         * Returns the key, which owns the copy of the <code>ignoredProperties</code>, to be cached.
+         *
+         * @return
+         */
+        private CopyPlanKey toCacheKey() {
+            return (ignoredProperties.length == 0 ? this
+                                                  : new CopyPlanKey(sourceType, targetType, ignoredProperties.clone()));
+        }
+
+        /**
+         * @param object
+         * @return
+         */
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            } else if (!(object instanceof CopyPlanKey)) {
+                return false;
+            }
+
+            final CopyPlanKey other = (CopyPlanKey) object;
+            return (sourceType == other.sourceType && targetType == other.targetType
+                    && Arrays.equals(ignoredProperties, other.ignoredProperties));
+        }
+
+        /**
+         * @return
+         */
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resolves the matching <code>source</code> read and <code>target</code> write properties into a new plan.
+     *
+     * @param planKey
+     * @param <S>
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private <S, T> CopyPlan<S, T> newCopyPlan(final CopyPlanKey planKey) {
+        LOGGER.trace("+newCopyPlan({}, {}, {})", planKey.sourceType, planKey.targetType, planKey.ignoredProperties);
+        final Set<String> ignoredProperties = new HashSet<>(Arrays.asList(planKey.ignoredProperties));
+        final ClassProperties sourceProperties = getPropertyDescriptors(planKey.sourceType);
+        final ClassProperties targetProperties = getPropertyDescriptors(planKey.targetType);
+        final List<String> names = new ArrayList<>(targetProperties.getWritePropertiesLength());
+        final List<PropertyAccessor> readers = new ArrayList<>(targetProperties.getWritePropertiesLength());
+        final List<PropertyAccessor> writers = new ArrayList<>(targetProperties.getWritePropertiesLength());
+        for (int i = 0; i < targetProperties.getWritePropertiesLength(); ++i) {
+            final BeanPropertyDescriptor targetProperty = targetProperties.getWritePropertyByIndex(i);
+            if (!ignoredProperties.contains(targetProperty.name)) {
+                final BeanPropertyDescriptor sourceProperty =
+                    sourceProperties.getReadPropertyByName(targetProperty.name);
+                if (isNotNull(sourceProperty)) {
+                    names.add(targetProperty.name);
+                    readers.add(sourceProperty.accessor);
+                    writers.add(targetProperty.accessor);
+                }
+            }
+        }
+
+        final CopyPlan<S, T> copyPlan = new CopyPlan<>((Class<S>) planKey.sourceType, (Class<T>) planKey.targetType,
+                                                       names.toArray(new String[0]),
+                                                       readers.toArray(new PropertyAccessor[0]),
+                                                       writers.toArray(new PropertyAccessor[0]));
+        LOGGER.trace("-newCopyPlan(), copyPlan:{}", copyPlan);
+        return copyPlan;
+    }
+
+    /**
+     * Returns the cached <code>CopyPlan</code> of the provided classes and ignored properties.
+     *
+     * @param sourceType
+     * @param targetType
+     * @param ignoredProperties
+     * @param <S>
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private <S, T> CopyPlan<S, T> findCopyPlan(final Class<?> sourceType, final Class<?> targetType,
+                                               final String... ignoredProperties) {
+        final ConcurrentMap<CopyPlanKey, CopyPlan<?, ?>> sourcePlans = copyPlans.get(sourceType);
+        final CopyPlanKey planKey = new CopyPlanKey(sourceType, targetType, ignoredProperties);
+        CopyPlan<?, ?> copyPlan = sourcePlans.get(planKey);
+        if (isNull(copyPlan)) {
+            final CopyPlanKey cacheKey = planKey.toCacheKey();
+            sourcePlans.putIfAbsent(cacheKey, newCopyPlan(cacheKey));
+            copyPlan = sourcePlans.get(cacheKey);
+        }
+
+        return (CopyPlan<S, T>) copyPlan;
+    }
+
+    /**
+     * Returns the <code>CopyPlan</code> which copies the properties of the <code>sourceType</code> objects into the
+     * <code>targetType</code> objects except the <code>ignoredProperties</code>.
+     * <p>
+     * The plans are cached per the class pair and the ignored properties, so it's cheap to call it repeatedly.
+     *
+     * @param sourceType
+     * @param targetType
+     * @param ignoredProperties
+     * @param <S>
+     * @param <T>
+     * @return
+     */
+    public static <S, T> CopyPlan<S, T> planCopy(final Class<S> sourceType, final Class<T> targetType,
+                                                 final String... ignoredProperties) {
+        assertNonNull(sourceType, "Source type must not be null!");
+        assertNonNull(targetType, "Target type must not be null!");
+        return INSTANCE.findCopyPlan(sourceType, targetType, ignoredProperties);
+    }
+
     /**
      * @param source
      * @param target
@@ -1559,33 +1754,187 @@ public enum BeanUtils {
         LOGGER.trace("+copyProperties({}, {}, {})", source, target, ignoredProperties);
         assertNonNull(source, "Source must not be null!");
         assertNonNull(target, "Target must not be null!");
-        BeanPropertyDescriptor targetProperty = null;
-        try {
-            final ClassProperties sourceProperties = INSTANCE.getPropertyDescriptors(source.getClass());
-            final ClassProperties targetProperties = INSTANCE.getPropertyDescriptors(target.getClass());
-            LOGGER.trace("sourceProperties:{}, targetProperties:{}", sourceProperties, targetProperties);
-            final Set<String> lookupIgnored = Sets.asSet(ignoredProperties);
-            LOGGER.trace("lookupIgnored:{}", lookupIgnored);
-            for (int i = 0; i < targetProperties.getWritePropertiesLength(); ++i) {
-                targetProperty = targetProperties.getWritePropertyByIndex(i);
-                LOGGER.trace("targetProperty:{}", targetProperty);
-                if (!lookupIgnored.contains(targetProperty.name)) {
-                    BeanPropertyDescriptor sourceProperty = sourceProperties.getReadPropertyByName(targetProperty.name);
-                    if (sourceProperty != null) {
-                        final Object value = sourceProperty.readMethod.invoke(source);
-                        // only copy non-null values.
-                        if (allowsObjectCopying(value)) {
-                            targetProperty.setTargetProperty(target, value);
-                        }
-                    }
+        INSTANCE.findCopyPlan(source.getClass(), target.getClass(), ignoredProperties).copy(source, target);
+    }
+
+    /**
+     * Copies the <code>sources</code> from the <code>fromIndex</code> (inclusive) to the <code>toIndex</code>
+     * (exclusive) into the new targets of the <code>targetSupplier</code>. The copy plan is resolved once and only
+     * looked up again, if the class of a source or target changes.
+     *
+     * @param sources
+     * @param targetSupplier
+     * @param targets
+     * @param fromIndex
+     * @param toIndex
+     * @param ignoredProperties
+     */
+    private void copyRange(final List<?> sources, final Supplier<?> targetSupplier, final Object[] targets,
+                           final int fromIndex, final int toIndex, final String... ignoredProperties) {
+        CopyPlan<Object, Object> copyPlan = null;
+        for (int index = fromIndex; index < toIndex; index++) {
+            final Object source = sources.get(index);
+            if (isNotNull(source)) {
+                final Object target = targetSupplier.get();
+                if (isNull(copyPlan) || copyPlan.getSourceType() != source.getClass()
+                    || copyPlan.getTargetType() != target.getClass()) {
+                    copyPlan = findCopyPlan(source.getClass(), target.getClass(), ignoredProperties);
                 }
+                targets[index] = copyPlan.copy(source, target);
+            }
+        }
+    }
+
+    /**
+     * The <code>CopyAllTask</code> splits the range of the sources until it fits in a chunk and copies the chunks in
+     * parallel. Each chunk writes its targets at the indices of its sources, so the order is preserved.
+     */
+    private static final class CopyAllTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        // MIN_CHUNK_SIZE
+        private static final int MIN_CHUNK_SIZE = 256;
+        // the task is never serialized
+        private final transient List<?> sources;
+        private final transient Supplier<?> targetSupplier;
+        private final transient Object[] targets;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int chunkSize;
+        private final String[] ignoredProperties;
+
+        /**
+         * @param sources
+         * @param targetSupplier
+         * @param targets
+         * @param fromIndex
+         * @param toIndex
+         * @param chunkSize
+         * @param ignoredProperties
+         */
+        private CopyAllTask(final List<?> sources, final Supplier<?> targetSupplier, final Object[] targets,
+                            final int fromIndex, final int toIndex, final int chunkSize,
+                            final String[] ignoredProperties) {
+            this.sources = sources;
+            this.targetSupplier = targetSupplier;
+            this.targets = targets;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.chunkSize = chunkSize;
+            this.ignoredProperties = ignoredProperties;
+        }
+
+        /**
+         * Copies the chunk or splits it into two halves.
+         */
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= chunkSize) {
+                INSTANCE.copyRange(sources, targetSupplier, targets, fromIndex, toIndex, ignoredProperties);
+            } else {
+                final int midIndex = (fromIndex + toIndex) >>> 1;
+                invokeAll(new CopyAllTask(sources, targetSupplier, targets, fromIndex, midIndex, chunkSize,
+                                          ignoredProperties),
+                          new CopyAllTask(sources, targetSupplier, targets, midIndex, toIndex, chunkSize,
+                                          ignoredProperties));
             }
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | SecurityException ex) {
-            LOGGER.error("Error coping [{}] property of [{}] class!", targetProperty.name, target.getClass().getName());
-            throw new IllegalStateException(ex);
         }
     }
 
+    /**
+     * Copies each of the <code>sources</code> into a new target of the <code>targetSupplier</code> and returns the
+     * targets in the same order as the sources. The <code>null</code> sources are mapped to <code>null</code>.
+     * <p>
+     * When the <code>forkJoinPool</code> is provided and the size of the <code>sources</code> reaches the
+     * <code>parallelThreshold</code>, the sources are split into chunks and copied in parallel, so the
+     * <code>targetSupplier</code> must be thread-safe.
+     *
+     * @param sources
+     * @param targetSupplier
+     * @param forkJoinPool
+     * @param parallelThreshold
+     * @param ignoredProperties
+     * @param <S>
+     * @param <T>
+     * @return
+     * @throws IllegalStateException
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> List<T> copyAll(final List<S> sources, final Supplier<T> targetSupplier,
+                                         final ForkJoinPool forkJoinPool, final int parallelThreshold,
+                                         final String... ignoredProperties) throws IllegalStateException {
+        LOGGER.trace("+copyAll({}, {}, {})", getLength(sources), forkJoinPool, parallelThreshold);
+        assertNonNull(sources, "Sources must not be null!");
+        assertNonNull(targetSupplier, "Target supplier must not be null!");
+        final List<S> sourceList = (sources instanceof RandomAccess ? sources : new ArrayList<>(sources));
+        final Object[] targets = new Object[sourceList.size()];
+        if (isNotNull(forkJoinPool) && targets.length >= parallelThreshold && targets.length > 1) {
+            final int chunkSize = Math.max(CopyAllTask.MIN_CHUNK_SIZE,
+                                           targets.length / (forkJoinPool.getParallelism() * 4));
+            forkJoinPool.invoke(new CopyAllTask(sourceList, targetSupplier, targets, 0, targets.length, chunkSize,
+                                                ignoredProperties));
+        } else {
+            INSTANCE.copyRange(sourceList, targetSupplier, targets, 0, targets.length, ignoredProperties);
+        }
+
+        LOGGER.trace("-copyAll(), targets:{}", targets.length);
+        return new ArrayList<>(Arrays.asList((T[]) targets));
+    }
+
+    /**
+     * Copies each of the <code>sources</code> into a new target of the <code>targetSupplier</code> in parallel on the
+     * common pool, if the size of the <code>sources</code> reaches the <code>parallelThreshold</code>.
+     *
+     * @param sources
+     * @param targetSupplier
+     * @param parallelThreshold
+     * @param ignoredProperties
+     * @param <S>
+     * @param <T>
+     * @return
+     * @throws IllegalStateException
+     */
+    public static <S, T> List<T> copyAll(final List<S> sources, final Supplier<T> targetSupplier,
+                                         final int parallelThreshold, final String... ignoredProperties)
+        throws IllegalStateException {
+        return copyAll(sources, targetSupplier, ForkJoinPool.commonPool(), parallelThreshold, ignoredProperties);
+    }
+
+    /**
+     * Copies each of the <code>sources</code> into a new target of the <code>targetSupplier</code> on the caller's
+     * thread and returns the targets in the same order as the sources.
+     *
+     * @param sources
+     * @param targetSupplier
+     * @param ignoredProperties
+     * @param <S>
+     * @param <T>
+     * @return
+     * @throws IllegalStateException
+     */
+    public static <S, T> List<T> copyAll(final List<S> sources, final Supplier<T> targetSupplier,
+                                         final String... ignoredProperties) throws IllegalStateException {
+        return copyAll(sources, targetSupplier, null, Integer.MAX_VALUE, ignoredProperties);
+    }
+
+    /**
+     * Deep copies the properties of the <code>source</code> into the <code>target</code> object except the
+     * <code>ignoredProperties</code>. The nested beans, collections, maps and arrays are copied up to the
+     * <code>maxDepth</code> levels and the deeper objects are shared by the reference.
+     * <p>
+     * The shared objects are copied only once and the cycles are preserved in the copied graph.
+     *
+     * @param source
+     * @param target
+     * @param maxDepth
+     * @param ignoredProperties
+     * @throws IllegalStateException
+     */
+    public static void deepCopyProperties(final Object source, final Object target, final int maxDepth,
+                                          final String... ignoredProperties) throws IllegalStateException {
+        new DeepCopier(maxDepth).copy(source, target, ignoredProperties);
+    }
+
     /**
      * @param source
      * @param target
@@ -1594,41 +1943,7 @@ public enum BeanUtils {
      */
     public static void deepCopyProperties(final Object source, final Object target, final String... ignoredProperties)
         throws IllegalStateException {
-        assertNonNull(source, "Source must not be null!");
-        assertNonNull(target, "Target must not be null!");
-        BeanPropertyDescriptor targetProperty = null;
-        try {
-            final ClassProperties sourceProperties = INSTANCE.getPropertyDescriptors(source.getClass());
-            final ClassProperties targetProperties = INSTANCE.getPropertyDescriptors(target.getClass());
-            LOGGER.trace("sourceProperties:{}, targetProperties:{}", sourceProperties, targetProperties);
-            final Set<String> lookupIgnored = Sets.asSet(ignoredProperties);
-            LOGGER.trace("lookupIgnored:{}", lookupIgnored);
-            for (int i = 0; i < targetProperties.getWritePropertiesLength(); ++i) {
-                targetProperty = targetProperties.getWritePropertyByIndex(i);
-                LOGGER.trace("targetProperty:{}", targetProperty);
-                if (!lookupIgnored.contains(targetProperty.name)) {
-                    BeanPropertyDescriptor sourceProperty = sourceProperties.getReadPropertyByName(targetProperty.name);
-                    if (sourceProperty != null) {
-                        if (INSTANCE.isSimpleProperty(sourceProperty.classType)) {
-                            targetProperty.setTargetProperty(sourceProperty, source, target);
-                        } else {
-                            try {
-                                final Object sourceObject = sourceProperty.readMethod.invoke(source);
-                                final Object targetValue = targetProperty.newInstance();
-                                deepCopyProperties(sourceObject, targetValue);
-                                targetProperty.setTargetProperty(target, targetValue);
-                            } catch (InstantiationException ex) {
-                                LOGGER.error("{}, {}", ex.getLocalizedMessage(), ex);
-                                ex.printStackTrace();
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (ReflectiveOperationException ex) {
-            LOGGER.error("Error coping [{}] property of [{}] class!", targetProperty.name, target.getClass().getName());
-            throw new IllegalStateException(ex);
-        }
+        deepCopyProperties(source, target, DeepCopier.DEFAULT_MAX_DEPTH, ignoredProperties);
     }
 
     /**
@@ -0,0 +1,263 @@
+package com.rslakra.appsuite.core;
+
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>BufferPool</code> is the bounded pool of the scratch <code>byte[]</code> buffers of the power-of-two size
+ * classes (i.e. 4K, 8K ... 1M).
+ * <p>
+ * Each size class is striped by the borrowing thread, so the concurrent copies rarely contend for the same stripe.
+ * The pooled buffers never exceed the <code>maxPooledBytes</code>; the buffers released over that limit or larger than
+ * the <code>maxBufferSize</code> are left to the GC.
+ *
+ * <pre>
+ *  final byte[] buffer = bufferPool.borrow(available);
+ *  try {
+ *      ...
+ *  } finally {
+ *      bufferPool.release(buffer);
+ *  }
+ * </pre>
+ * <p>
+ * Only the borrowed buffers should be released, and only once, as the released buffer may be handed out to another
+ * thread immediately.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 9:10 PM
+ */
+public final class BufferPool {
+
+    private static final int MIN_BUFFER_SIZE = IOUtils.BUFFER_4K;
+    private static final int STRIPE_CAPACITY = 8;
+
+    private final String name;
+    private final int maxBufferSize;
+    private final long maxPooledBytes;
+    private final int stripeMask;
+    // the stripes of each size class
+    private final ArrayBlockingQueue<byte[]>[][] sizeClasses;
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final LongAdder bytesInUse = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name
+     * @param maxBufferSize
+     * @param maxPooledBytes
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BufferPool(final String name, final int maxBufferSize, final long maxPooledBytes) {
+        BeanUtils.assertNonNull(name, "Name must not be null!");
+        if (maxBufferSize < MIN_BUFFER_SIZE || maxPooledBytes < 0) {
+            throw new IllegalArgumentException("Invalid maxBufferSize:" + maxBufferSize + ", maxPooledBytes:"
+                                               + maxPooledBytes);
+        }
+
+        this.name = name;
+        this.maxBufferSize = toSizeClass(maxBufferSize);
+        this.maxPooledBytes = maxPooledBytes;
+        this.stripeMask = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) - 1;
+        this.sizeClasses = new ArrayBlockingQueue[indexOf(this.maxBufferSize) + 1][];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new ArrayBlockingQueue[stripeMask + 1];
+            for (int j = 0; j <= stripeMask; j++) {
+                sizeClasses[i][j] = new ArrayBlockingQueue<>(STRIPE_CAPACITY);
+            }
+        }
+    }
+
+    /**
+     * Returns the pool of the buffers up to the <code>maxBufferSize</code>, which retains up to the
+     * <code>maxPooledBytes</code>.
+     *
+     * @param name
+     * @param maxBufferSize
+     * @param maxPooledBytes
+     * @return
+     */
+    public static BufferPool of(final String name, final int maxBufferSize, final long maxPooledBytes) {
+        return new BufferPool(name, maxBufferSize, maxPooledBytes);
+    }
+
+    /**
+     * Returns the size class (the power of two) of the <code>size</code>.
+     *
+     * @param size
+     * @return
+     */
+    private static int toSizeClass(final int size) {
+        return (size <= MIN_BUFFER_SIZE ? MIN_BUFFER_SIZE : Integer.highestOneBit(size - 1) << 1);
+    }
+
+    /**
+     * Returns the index of the <code>sizeClass</code>.
+     *
+     * @param sizeClass
+     * @return
+     */
+    private static int indexOf(final int sizeClass) {
+        return Integer.numberOfTrailingZeros(sizeClass) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the stripe of the current thread of the <code>sizeClass</code>.
+     *
+     * @param sizeClass
+     * @return
+     */
+    private ArrayBlockingQueue<byte[]> stripeOf(final int sizeClass) {
+        return sizeClasses[indexOf(sizeClass)][(int) Thread.currentThread().threadId() & stripeMask];
+    }
+
+    /**
+     * Returns the name of this pool.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the size of the largest pooled buffer.
+     *
+     * @return
+     */
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * Borrows the buffer of at least the <code>size</code> bytes. The buffers larger than the
+     * <code>maxBufferSize</code> are allocated with the exact size.
+     *
+     * @param size
+     * @return
+     */
+    public byte[] borrow(final int size) {
+        byte[] buffer = null;
+        if (size <= maxBufferSize) {
+            final int sizeClass = toSizeClass(size);
+            buffer = stripeOf(sizeClass).poll();
+            if (BeanUtils.isNull(buffer)) {
+                buffer = new byte[sizeClass];
+                misses.increment();
+            } else {
+                pooledBytes.addAndGet(-buffer.length);
+                hits.increment();
+            }
+        } else {
+            buffer = new byte[size];
+            misses.increment();
+        }
+
+        bytesInUse.add(buffer.length);
+        return buffer;
+    }
+
+    /**
+     * Returns the borrowed <code>buffer</code> to this pool.
+     *
+     * @param buffer
+     */
+    public void release(final byte[] buffer) {
+        if (BeanUtils.isNull(buffer)) {
+            return;
+        }
+
+        bytesInUse.add(-buffer.length);
+        final int length = buffer.length;
+        if (length < MIN_BUFFER_SIZE || length > maxBufferSize || Integer.bitCount(length) != 1) {
+            // not the buffer of any size class
+            return;
+        }
+
+        if (pooledBytes.addAndGet(length) > maxPooledBytes || !stripeOf(length).offer(buffer)) {
+            pooledBytes.addAndGet(-length);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Returns the number of the bytes of the borrowed buffers, which aren't released yet.
+     *
+     * @return
+     */
+    public long getBytesInUse() {
+        return bytesInUse.sum();
+    }
+
+    /**
+     * Returns the number of the bytes of the pooled buffers.
+     *
+     * @return
+     */
+    public long getPooledBytes() {
+        return pooledBytes.get();
+    }
+
+    /**
+     * Returns the number of the pooled buffers.
+     *
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (ArrayBlockingQueue<byte[]>[] stripes : sizeClasses) {
+            for (ArrayBlockingQueue<byte[]> stripe : stripes) {
+                size += stripe.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes all the pooled buffers.
+     */
+    public void clear() {
+        for (ArrayBlockingQueue<byte[]>[] stripes : sizeClasses) {
+            for (ArrayBlockingQueue<byte[]> stripe : stripes) {
+                final List<byte[]> buffers = new ArrayList<>();
+                stripe.drainTo(buffers);
+                for (byte[] buffer : buffers) {
+                    pooledBytes.addAndGet(-buffer.length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics of this pool. The hits are the borrows served by the pooled buffers, and the evictions
+     * are the released buffers, which are discarded, as the pool is full.
+     *
+     * @return
+     */
+    public CacheStats getStats() {
+        return CacheStats.of(name, hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(BufferPool.class)
+            .add("name", name)
+            .add("maxBufferSize", maxBufferSize)
+            .add("maxPooledBytes", maxPooledBytes)
+            .add("pooledBytes", getPooledBytes())
+            .add("bytesInUse", getBytesInUse())
+            .toString();
+    }
+}
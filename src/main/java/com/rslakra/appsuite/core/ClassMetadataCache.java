@@ -0,0 +1,188 @@
+package com.rslakra.appsuite.core;
+
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The <code>ClassMetadataCache</code> caches the metadata of the classes without pinning their class loaders.
+ * <p>
+ * The values are kept in a <code>ClassValue</code>, so they are reachable only through their classes and are
+ * collected along with the class loader (i.e. on the hot redeploy of a plugin jar), even though the values refer
+ * back to their classes. The classes are also tracked weakly to count the entries and to evict all the classes of a
+ * class loader explicitly.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 4:48 PM
+ */
+final class ClassMetadataCache<V> {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassMetadataCache.class);
+
+    private final String name;
+    private final ClassValue<V> values;
+    // the classes having the cached values
+    private final Map<Class<?>, Boolean> classes = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name
+     * @param valueLoader
+     */
+    ClassMetadataCache(final String name, final Function<Class<?>, V> valueLoader) {
+        this.name = name;
+        this.values = new ClassValue<V>() {
+            @Override
+            protected V computeValue(final Class<?> classType) {
+                misses.increment();
+                final V value = valueLoader.apply(classType);
+                classes.put(classType, Boolean.TRUE);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns true if the <code>classType</code> is loaded by the <code>classLoader</code> or any of its child class
+     * loaders otherwise false.
+     *
+     * @param classType
+     * @param classLoader
+     * @return
+     */
+    static boolean isLoadedBy(final Class<?> classType, final ClassLoader classLoader) {
+        ClassLoader typeLoader = classType.getClassLoader();
+        while (BeanUtils.isNotNull(typeLoader)) {
+            if (typeLoader == classLoader) {
+                return true;
+            }
+            typeLoader = typeLoader.getParent();
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the name of this cache.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the cached value of the <code>classType</code>, loading it on the first request.
+     *
+     * @param classType
+     * @return
+     */
+    public V get(final Class<?> classType) {
+        requests.increment();
+        return values.get(classType);
+    }
+
+    /**
+     * Passes the cached value of each class to the <code>consumer</code>.
+     *
+     * @param consumer
+     */
+    public void forEach(final Consumer<V> consumer) {
+        for (Class<?> classType : snapshot(null)) {
+            consumer.accept(values.get(classType));
+        }
+    }
+
+    /**
+     * Returns the classes of this cache loaded by the <code>classLoader</code>, or all the classes if it's null.
+     *
+     * @param classLoader
+     * @return
+     */
+    private List<Class<?>> snapshot(final ClassLoader classLoader) {
+        final List<Class<?>> classTypes = new ArrayList<>();
+        synchronized (classes) {
+            for (Class<?> classType : classes.keySet()) {
+                if (BeanUtils.isNull(classLoader) || isLoadedBy(classType, classLoader)) {
+                    classTypes.add(classType);
+                }
+            }
+        }
+
+        return classTypes;
+    }
+
+    /**
+     * Evicts the cached value of the <code>classType</code>.
+     *
+     * @param classType
+     */
+    private void evict(final Class<?> classType) {
+        values.remove(classType);
+        classes.remove(classType);
+        evictions.increment();
+    }
+
+    /**
+     * Evicts the cached values of all the classes loaded by the <code>classLoader</code> or any of its child class
+     * loaders.
+     *
+     * @param classLoader
+     * @return the number of the evicted classes
+     */
+    public int evict(final ClassLoader classLoader) {
+        BeanUtils.assertNonNull(classLoader, "ClassLoader must not be null!");
+        final List<Class<?>> classTypes = snapshot(classLoader);
+        classTypes.forEach(this::evict);
+        LOGGER.debug("Evicted [{}] classes of [{}] from [{}] cache.", classTypes.size(), classLoader, name);
+        return classTypes.size();
+    }
+
+    /**
+     * Evicts the cached values of all the classes.
+     */
+    public void clear() {
+        snapshot(null).forEach(this::evict);
+    }
+
+    /**
+     * Returns the number of the classes having the cached values.
+     *
+     * @return
+     */
+    public int size() {
+        return classes.size();
+    }
+
+    /**
+     * Returns the current statistics of this cache.
+     *
+     * @return
+     */
+    public CacheStats getStats() {
+        final long missCount = misses.sum();
+        return CacheStats.of(name, Math.max(0, requests.sum() - missCount), missCount, evictions.sum(), size());
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return getStats().toString();
+    }
+}
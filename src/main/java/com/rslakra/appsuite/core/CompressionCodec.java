@@ -0,0 +1,566 @@
+package com.rslakra.appsuite.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * The <code>CompressionCodec</code> wraps the streams to compress or decompress their bytes incrementally in the
+ * GZIP or the raw Deflate format with the configured compression level.
+ * <p>
+ * The native <code>Deflater</code> and <code>Inflater</code> of the streams are pooled, and are returned to the pool
+ * when the streams are closed, so the streams must always be closed. The GZIP streams are compatible with the
+ * <code>GZIPInputStream</code> and the <code>GZIPOutputStream</code> (the single member only).
+ *
+ * <pre>
+ *  try (OutputStream outputStream = CompressionCodec.GZIP.wrap(new FileOutputStream(file))) {
+ *      ...
+ *  }
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 9:05 AM
+ */
+public final class CompressionCodec {
+
+    /**
+     * The compressed data format.
+     */
+    public enum Format {
+        NONE,
+        GZIP,
+        DEFLATE
+    }
+
+    private static final int POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    // magic, deflate method, no flags, no mtime, no extra flags, unknown OS
+    private static final byte[] GZIP_HEADER = {(byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final Map<String, CompressionCodec> CODECS = new ConcurrentHashMap<>();
+    // the inflaters are the same for all the levels
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * No compression.
+     */
+    public static final CompressionCodec NONE = of(Format.NONE, Deflater.NO_COMPRESSION);
+    /**
+     * GZIP with the default level.
+     */
+    public static final CompressionCodec GZIP = of(Format.GZIP, Deflater.DEFAULT_COMPRESSION);
+    /**
+     * Raw Deflate with the default level.
+     */
+    public static final CompressionCodec DEFLATE = of(Format.DEFLATE, Deflater.DEFAULT_COMPRESSION);
+
+    private final Format format;
+    private final int level;
+    private final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * @param format
+     * @param level
+     */
+    private CompressionCodec(final Format format, final int level) {
+        this.format = format;
+        this.level = level;
+    }
+
+    /**
+     * Returns the codec of the <code>format</code> with the compression <code>level</code> (<code>-1</code> for the
+     * default or <code>0-9</code>). The codecs of the same format and level share their pools.
+     *
+     * @param format
+     * @param level
+     * @return
+     */
+    public static CompressionCodec of(final Format format, final int level) {
+        BeanUtils.assertNonNull(format, "Format must not be null!");
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid level:" + level);
+        }
+
+        final int codecLevel = (format == Format.NONE ? Deflater.NO_COMPRESSION : level);
+        return CODECS.computeIfAbsent(format + ":" + codecLevel, key -> new CompressionCodec(format, codecLevel));
+    }
+
+    /**
+     * Returns the format of this codec.
+     *
+     * @return
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the compression level of this codec.
+     *
+     * @return
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the stream, which compresses the bytes written into the <code>outputStream</code>. Closing the returned
+     * stream finishes the compressed data and closes the <code>outputStream</code>.
+     *
+     * @param outputStream
+     * @return
+     * @throws IOException
+     */
+    public OutputStream wrap(final OutputStream outputStream) throws IOException {
+        BeanUtils.assertNonNull(outputStream, "OutputStream must not be null!");
+        switch (format) {
+            case GZIP:
+                return new GzipOutputStream(outputStream, this);
+            case DEFLATE:
+                return new PooledDeflaterOutputStream(outputStream, this);
+            default:
+                return outputStream;
+        }
+    }
+
+    /**
+     * Returns the stream, which decompresses the bytes read from the <code>inputStream</code>. Closing the returned
+     * stream closes the <code>inputStream</code>.
+     *
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    public InputStream wrap(final InputStream inputStream) throws IOException {
+        BeanUtils.assertNonNull(inputStream, "InputStream must not be null!");
+        switch (format) {
+            case GZIP:
+                return new GzipInputStream(inputStream);
+            case DEFLATE:
+                return new PooledInflaterInputStream(inputStream);
+            default:
+                return inputStream;
+        }
+    }
+
+    /**
+     * Returns the pooled deflater of this codec's level.
+     *
+     * @return
+     */
+    private Deflater borrowDeflater() {
+        final Deflater deflater = deflaters.poll();
+        return (BeanUtils.isNull(deflater) ? new Deflater(level, true) : deflater);
+    }
+
+    /**
+     * @param deflater
+     */
+    private void releaseDeflater(final Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the pooled inflater of the raw Deflate data.
+     *
+     * @return
+     */
+    private static Inflater borrowInflater() {
+        final Inflater inflater = INFLATERS.poll();
+        return (BeanUtils.isNull(inflater) ? new Inflater(true) : inflater);
+    }
+
+    /**
+     * @param inflater
+     */
+    private static void releaseInflater(final Inflater inflater) {
+        inflater.reset();
+        if (!INFLATERS.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(CompressionCodec.class)
+            .add("format", format)
+            .add("level", level)
+            .toString();
+    }
+
+    /**
+     * The raw Deflate output stream of the pooled deflater.
+     */
+    private static class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+        private final CompressionCodec codec;
+        private boolean closed;
+
+        /**
+         * @param outputStream
+         * @param codec
+         */
+        private PooledDeflaterOutputStream(final OutputStream outputStream, final CompressionCodec codec) {
+            super(outputStream, codec.borrowDeflater(), IOUtils.BUFFER_8K);
+            this.codec = codec;
+        }
+
+        /**
+         * Throws the <code>IOException</code> once closed, so the deflater returned to the pool is never used by this
+         * stream again.
+         *
+         * @throws IOException
+         */
+        void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        /**
+         * @param bytes
+         * @param offset
+         * @param length
+         * @throws IOException
+         */
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            ensureOpen();
+            super.write(bytes, offset, length);
+        }
+
+        /**
+         * @throws IOException
+         */
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            super.finish();
+        }
+
+        /**
+         * @throws IOException
+         */
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            super.flush();
+        }
+
+        /**
+         * @throws IOException
+         */
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                try {
+                    super.close();
+                } finally {
+                    closed = true;
+                    codec.releaseDeflater(def);
+                }
+            }
+        }
+    }
+
+    /**
+     * The GZIP output stream of the pooled deflater.
+     */
+    private static final class GzipOutputStream extends PooledDeflaterOutputStream {
+
+        private final CRC32 crc = new CRC32();
+        private boolean finished;
+
+        /**
+         * @param outputStream
+         * @param codec
+         * @throws IOException
+         */
+        private GzipOutputStream(final OutputStream outputStream, final CompressionCodec codec) throws IOException {
+            super(outputStream, codec);
+            out.write(GZIP_HEADER);
+        }
+
+        /**
+         * @param bytes
+         * @param offset
+         * @param length
+         * @throws IOException
+         */
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            super.write(bytes, offset, length);
+            crc.update(bytes, offset, length);
+        }
+
+        /**
+         * Finishes the compressed data and writes the GZIP trailer.
+         *
+         * @throws IOException
+         */
+        @Override
+        public void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                super.finish();
+                final byte[] trailer = new byte[8];
+                writeInt(trailer, 0, (int) crc.getValue());
+                writeInt(trailer, 4, (int) def.getBytesRead());
+                out.write(trailer);
+            }
+        }
+
+        /**
+         * Writes the <code>value</code> in the little-endian order.
+         *
+         * @param bytes
+         * @param offset
+         * @param value
+         */
+        private static void writeInt(final byte[] bytes, final int offset, final int value) {
+            for (int i = 0; i < 4; i++) {
+                bytes[offset + i] = (byte) (value >>> (8 * i));
+            }
+        }
+    }
+
+    /**
+     * The raw Deflate input stream of the pooled inflater.
+     */
+    private static class PooledInflaterInputStream extends InflaterInputStream {
+
+        private boolean closed;
+
+        /**
+         * @param inputStream
+         */
+        private PooledInflaterInputStream(final InputStream inputStream) {
+            super(inputStream, borrowInflater(), IOUtils.BUFFER_8K);
+        }
+
+        /**
+         * Throws the <code>IOException</code> once closed, so the inflater returned to the pool is never used by this
+         * stream again.
+         *
+         * @throws IOException
+         */
+        void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        /**
+         * @param bytes
+         * @param offset
+         * @param length
+         * @return
+         * @throws IOException
+         */
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            ensureOpen();
+            return super.read(bytes, offset, length);
+        }
+
+        /**
+         * @return
+         * @throws IOException
+         */
+        @Override
+        public int available() throws IOException {
+            ensureOpen();
+            return super.available();
+        }
+
+        /**
+         * @param count
+         * @return
+         * @throws IOException
+         */
+        @Override
+        public long skip(final long count) throws IOException {
+            ensureOpen();
+            return super.skip(count);
+        }
+
+        /**
+         * @throws IOException
+         */
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                try {
+                    super.close();
+                } finally {
+                    closed = true;
+                    releaseInflater(inf);
+                }
+            }
+        }
+    }
+
+    /**
+     * The GZIP input stream of the pooled inflater.
+     */
+    private static final class GzipInputStream extends PooledInflaterInputStream {
+
+        private final CRC32 crc = new CRC32();
+        private boolean eos;
+
+        /**
+         * @param inputStream
+         * @throws IOException
+         */
+        private GzipInputStream(final InputStream inputStream) throws IOException {
+            super(inputStream);
+            try {
+                readHeader();
+            } catch (IOException ex) {
+                close();
+                throw ex;
+            }
+        }
+
+        /**
+         * @return
+         * @throws IOException
+         */
+        private int readByte() throws IOException {
+            final int value = in.read();
+            if (value < 0) {
+                throw new EOFException("Unexpected end of GZIP header!");
+            }
+
+            return value;
+        }
+
+        /**
+         * @return
+         * @throws IOException
+         */
+        private int readShort() throws IOException {
+            return (readByte() | (readByte() << 8));
+        }
+
+        /**
+         * Reads and skips the GZIP header.
+         *
+         * @throws IOException
+         */
+        private void readHeader() throws IOException {
+            if (readShort() != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format!");
+            }
+            if (readByte() != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method!");
+            }
+
+            final int flags = readByte();
+            // mtime, extra flags and OS
+            for (int i = 0; i < 6; i++) {
+                readByte();
+            }
+
+            if ((flags & FEXTRA) == FEXTRA) {
+                for (int i = readShort(); i > 0; i--) {
+                    readByte();
+                }
+            }
+            if ((flags & FNAME) == FNAME) {
+                while (readByte() != 0) {
+                    // skip the file name
+                }
+            }
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                while (readByte() != 0) {
+                    // skip the comment
+                }
+            }
+            if ((flags & FHCRC) == FHCRC) {
+                readShort();
+            }
+        }
+
+        /**
+         * @param bytes
+         * @param offset
+         * @param length
+         * @return
+         * @throws IOException
+         */
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            ensureOpen();
+            if (eos) {
+                return -1;
+            }
+
+            final int count = super.read(bytes, offset, length);
+            if (count < 0) {
+                eos = true;
+                readTrailer();
+            } else {
+                crc.update(bytes, offset, count);
+            }
+
+            return count;
+        }
+
+        /**
+         * Reads and validates the GZIP trailer, which starts with the bytes left in the inflater's buffer.
+         *
+         * @throws IOException
+         */
+        private void readTrailer() throws IOException {
+            final byte[] trailer = new byte[8];
+            final int remaining = Math.min(inf.getRemaining(), trailer.length);
+            System.arraycopy(buf, len - inf.getRemaining(), trailer, 0, remaining);
+            for (int i = remaining; i < trailer.length; i++) {
+                trailer[i] = (byte) readByte();
+            }
+
+            if (readInt(trailer, 0) != (int) crc.getValue() || readInt(trailer, 4) != (int) inf.getBytesWritten()) {
+                throw new ZipException("Corrupt GZIP trailer!");
+            }
+        }
+
+        /**
+         * Returns the little-endian int at the <code>offset</code>.
+         *
+         * @param bytes
+         * @param offset
+         * @return
+         */
+        private static int readInt(final byte[] bytes, final int offset) {
+            int value = 0;
+            for (int i = 3; i >= 0; i--) {
+                value = (value << 8) | (bytes[offset + i] & 0xff);
+            }
+
+            return value;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * The <code>CopyPlan</code> contains the resolved pairs of the readable <code>source</code> and writable
+ * <code>target</code> properties of the provided classes.
+ * <p>
+ * The plan is built once by <code>BeanUtils.planCopy()</code>, so copying the objects is just a loop over the matched
+ * properties, without any lookups of the names or the ignored properties.
+ *
+ * <pre>
+ *  final CopyPlan&lt;User, User&gt; copyPlan = BeanUtils.planCopy(User.class, User.class, "id");
+ *  copyPlan.copy(source, target);
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 11:05 AM
+ */
+public final class CopyPlan<S, T> {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(CopyPlan.class);
+
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final String[] names;
+    private final PropertyAccessor[] readers;
+    private final PropertyAccessor[] writers;
+
+    /**
+     * @param sourceType
+     * @param targetType
+     * @param names
+     * @param readers
+     * @param writers
+     */
+    CopyPlan(final Class<S> sourceType, final Class<T> targetType, final String[] names,
+             final PropertyAccessor[] readers, final PropertyAccessor[] writers) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.names = names;
+        this.readers = readers;
+        this.writers = writers;
+    }
+
+    /**
+     * Returns the source type of this plan.
+     *
+     * @return
+     */
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * Returns the target type of this plan.
+     *
+     * @return
+     */
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Returns the number of properties copied by this plan.
+     *
+     * @return
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the names of the properties copied by this plan.
+     *
+     * @return
+     */
+    public List<String> getPropertyNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Copies the matched properties of the <code>source</code> into the <code>target</code> object.
+     *
+     * @param source
+     * @param target
+     * @return
+     * @throws IllegalStateException
+     */
+    public T copy(final S source, final T target) throws IllegalStateException {
+        return copy(source, target, null);
+    }
+
+    /**
+     * Copies the matched properties of the <code>source</code> into the <code>target</code> object. Each value is
+     * passed through the <code>valueMapper</code> (with the declared type of the target property) before it is set,
+     * if provided.
+     *
+     * @param source
+     * @param target
+     * @param valueMapper
+     * @return
+     * @throws IllegalStateException
+     */
+    T copy(final S source, final T target, final BiFunction<Object, Class<?>, Object> valueMapper)
+        throws IllegalStateException {
+        BeanUtils.assertNonNull(source, "Source must not be null!");
+        BeanUtils.assertNonNull(target, "Target must not be null!");
+        int index = 0;
+        try {
+            for (; index < names.length; index++) {
+                Object value = readers[index].get(source);
+                // only copy non-null values.
+                if (BeanUtils.allowsObjectCopying(value)) {
+                    if (BeanUtils.isNotNull(valueMapper)) {
+                        value = valueMapper.apply(value, writers[index].getPropertyType());
+                    }
+                    try {
+                        writers[index].set(target, value);
+                    } catch (IllegalAccessException | InvocationTargetException ex) {
+                        //ignore me
+                    }
+                }
+            }
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | SecurityException ex) {
+            LOGGER.error("Error coping [{}] property of [{}] class!", names[index], target.getClass().getName());
+            throw new IllegalStateException(ex);
+        }
+
+        return target;
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(CopyPlan.class)
+            .add("sourceType", sourceType)
+            .add("targetType", targetType)
+            .add("names", Arrays.toString(names))
+            .toString();
+    }
+}
@@ -0,0 +1,368 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The <code>DeepCopier</code> deep copies the object graph of a bean into another bean.
+ * <p>
+ * It walks the graph with an explicit work stack instead of the recursion, and keeps the copies of the already visited
+ * objects in an identity map by their source object and type. So, the shared objects are copied only once per target
+ * type and the cycles (i.e. the back-references) are preserved in the copied graph instead of overflowing the stack.
+ * The collections, maps and arrays are copied element-by-element.
+ * <p>
+ * The simple values (primitives, strings, numbers, enums etc.), the objects which can't be instantiated and the objects
+ * deeper than the <code>maxDepth</code> are shared by the reference.
+ * <p>
+ * An instance is not thread-safe and should be used for a single copy only.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 1:26 PM
+ */
+final class DeepCopier {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeepCopier.class);
+    // DEFAULT_MAX_DEPTH
+    public static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+    private static final String[] NO_IGNORED_PROPERTIES = new String[0];
+
+    private final int maxDepth;
+    // the copies of the visited objects, by their source object
+    private final Map<Object, List<Object>> copies = new IdentityHashMap<>();
+    private final Deque<Runnable> workStack = new ArrayDeque<>();
+    // the work added while running the current work
+    private final List<Runnable> pendingWork = new ArrayList<>();
+
+    /**
+     * @param maxDepth
+     */
+    DeepCopier(final int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("The maxDepth must not be negative!");
+        }
+
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Registers the <code>copy</code> of the <code>source</code>.
+     *
+     * @param source
+     * @param copy
+     */
+    private void putCopy(final Object source, final Object copy) {
+        copies.computeIfAbsent(source, key -> new ArrayList<>(1)).add(copy);
+    }
+
+    /**
+     * Returns the copy of the <code>source</code>, which can be assigned to the <code>targetType</code>, if any. So,
+     * the same source copied into the properties of the different types gets a copy of each type.
+     *
+     * @param source
+     * @param targetType
+     * @return
+     */
+    private Object findCopy(final Object source, final Class<?> targetType) {
+        final List<Object> sourceCopies = copies.get(source);
+        if (BeanUtils.isNotNull(sourceCopies)) {
+            for (Object copy : sourceCopies) {
+                if (targetType.isInstance(copy)) {
+                    return copy;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Deep copies the properties of the <code>source</code> into the <code>target</code> object except the
+     * <code>ignoredProperties</code>.
+     *
+     * @param source
+     * @param target
+     * @param ignoredProperties
+     * @throws IllegalStateException
+     */
+    public void copy(final Object source, final Object target, final String... ignoredProperties)
+        throws IllegalStateException {
+        LOGGER.trace("+copy({}, {}, {})", source, target, ignoredProperties);
+        BeanUtils.assertNonNull(source, "Source must not be null!");
+        BeanUtils.assertNonNull(target, "Target must not be null!");
+        putCopy(source, target);
+        workStack.push(() -> copyBean(source, target, 0, ignoredProperties));
+        while (!workStack.isEmpty()) {
+            workStack.pop().run();
+            // keep the order of the pending work
+            for (int index = pendingWork.size() - 1; index >= 0; index--) {
+                workStack.push(pendingWork.get(index));
+            }
+            pendingWork.clear();
+        }
+
+        LOGGER.trace("-copy(), copies:{}", copies.size());
+    }
+
+    /**
+     * Copies the properties of the <code>source</code> bean into the <code>target</code> bean.
+     *
+     * @param source
+     * @param target
+     * @param depth
+     * @param ignoredProperties
+     */
+    @SuppressWarnings("unchecked")
+    private void copyBean(final Object source, final Object target, final int depth,
+                          final String... ignoredProperties) {
+        final CopyPlan<Object, Object> copyPlan = BeanUtils.planCopy((Class<Object>) source.getClass(),
+                                                                     (Class<Object>) target.getClass(),
+                                                                     ignoredProperties);
+        copyPlan.copy(source, target, (value, valueType) -> copyOf(value, valueType, depth + 1));
+    }
+
+    /**
+     * Returns the copy of the <code>value</code>. The new containers and beans are registered in the identity map
+     * right away and filled later by the work stack.
+     *
+     * @param value
+     * @param targetType
+     * @param depth
+     * @return
+     */
+    private Object copyOf(final Object value, final Class<?> targetType, final int depth) {
+        if (BeanUtils.isNull(value)) {
+            return null;
+        }
+
+        final Class<?> valueType = value.getClass();
+        if (!valueType.isArray() && BeanUtils.INSTANCE.isSimpleValueType(valueType)) {
+            return value;
+        }
+
+        final Object copy = findCopy(value, targetType);
+        if (BeanUtils.isNotNull(copy)) {
+            return copy;
+        } else if (depth > maxDepth) {
+            return value;
+        } else if (valueType.isArray()) {
+            return copyArray(value, depth);
+        } else if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value, targetType, depth);
+        } else if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value, targetType, depth);
+        }
+
+        return copyObject(value, targetType, depth);
+    }
+
+    /**
+     * Copies the array. The primitive arrays are copied at once and the object arrays element-by-element.
+     *
+     * @param value
+     * @param depth
+     * @return
+     */
+    private Object copyArray(final Object value, final int depth) {
+        final Class<?> componentType = value.getClass().getComponentType();
+        final int length = Array.getLength(value);
+        final Object copy = Array.newInstance(componentType, length);
+        putCopy(value, copy);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(value, 0, copy, 0, length);
+        } else {
+            final Object[] sourceArray = (Object[]) value;
+            final Object[] targetArray = (Object[]) copy;
+            pendingWork.add(() -> {
+                for (int index = 0; index < length; index++) {
+                    targetArray[index] = copyOf(sourceArray[index], componentType, depth + 1);
+                }
+            });
+        }
+
+        return copy;
+    }
+
+    /**
+     * Copies the collection element-by-element.
+     * <p>
+     * The elements are added only after they are filled completely, so the hash based collections get the right
+     * hash codes.
+     *
+     * @param value
+     * @param targetType
+     * @param depth
+     * @return
+     */
+    private Collection<Object> copyCollection(final Collection<?> value, final Class<?> targetType,
+                                              final int depth) {
+        final Collection<Object> copy = newCollection(value, targetType);
+        putCopy(value, copy);
+        pendingWork.add(() -> {
+            final List<Object> elements = new ArrayList<>(value.size());
+            for (Object element : value) {
+                elements.add(copyOf(element, Object.class, depth + 1));
+            }
+            // the pending work of the elements runs before adding them.
+            workStack.push(() -> copy.addAll(elements));
+        });
+
+        return copy;
+    }
+
+    /**
+     * Copies the map entry-by-entry.
+     *
+     * @param value
+     * @param targetType
+     * @param depth
+     * @return
+     */
+    private Map<Object, Object> copyMap(final Map<?, ?> value, final Class<?> targetType, final int depth) {
+        final Map<Object, Object> copy = newMap(value, targetType);
+        putCopy(value, copy);
+        pendingWork.add(() -> {
+            final List<Object> entries = new ArrayList<>(value.size() * 2);
+            for (Map.Entry<?, ?> entry : value.entrySet()) {
+                entries.add(copyOf(entry.getKey(), Object.class, depth + 1));
+                entries.add(copyOf(entry.getValue(), Object.class, depth + 1));
+            }
+            // the pending work of the entries runs before putting them.
+            workStack.push(() -> {
+                for (int index = 0; index < entries.size(); index += 2) {
+                    copy.put(entries.get(index), entries.get(index + 1));
+                }
+            });
+        });
+
+        return copy;
+    }
+
+    /**
+     * Copies the bean. The instance of the value's class is created, if it can be assigned to the
+     * <code>targetType</code>, otherwise the instance of the <code>targetType</code>.
+     *
+     * @param value
+     * @param targetType
+     * @param depth
+     * @return
+     */
+    private Object copyObject(final Object value, final Class<?> targetType, final int depth) {
+        final Class<?> copyType = (targetType.isInstance(value) ? value.getClass() : targetType);
+        final Object copy;
+        try {
+            copy = BeanUtils.newInstance(copyType);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.debug("Sharing the instance of [{}], reason:{}", copyType, ex.getMessage());
+            return value;
+        }
+
+        putCopy(value, copy);
+        pendingWork.add(() -> copyBean(value, copy, depth, NO_IGNORED_PROPERTIES));
+        return copy;
+    }
+
+    /**
+     * Returns the new instance of the <code>classType</code>, if it's a public concrete class assignable to the
+     * <code>targetType</code> otherwise null.
+     *
+     * @param classType
+     * @param targetType
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstanceOf(final Class<?> classType, final Class<?> targetType) {
+        if (targetType.isAssignableFrom(classType) && Modifier.isPublic(classType.getModifiers())
+            && !Modifier.isAbstract(classType.getModifiers())) {
+            try {
+                return (T) BeanUtils.newInstance(classType);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                LOGGER.trace("Unable to create [{}], reason:{}", classType, ex.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the new empty collection of the same kind as the <code>value</code>.
+     *
+     * @param value
+     * @param targetType
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newCollection(final Collection<?> value, final Class<?> targetType) {
+        if (value instanceof EnumSet) {
+            final EnumSet<?> copy = ((EnumSet<?>) value).clone();
+            copy.clear();
+            return (Collection<Object>) (Collection<?>) copy;
+        } else if (value instanceof SortedSet) {
+            return new TreeSet<>(((SortedSet<Object>) value).comparator());
+        }
+
+        Collection<Object> copy = newInstanceOf(value.getClass(), targetType);
+        if (BeanUtils.isNull(copy)) {
+            copy = newInstanceOf(targetType, targetType);
+        }
+
+        if (BeanUtils.isNull(copy)) {
+            if (value instanceof Set) {
+                copy = new LinkedHashSet<>();
+            } else if (value instanceof Queue) {
+                copy = new LinkedList<>();
+            } else {
+                copy = new ArrayList<>(value.size());
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Returns the new empty map of the same kind as the <code>value</code>.
+     *
+     * @param value
+     * @param targetType
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(final Map<?, ?> value, final Class<?> targetType) {
+        if (value instanceof EnumMap) {
+            final EnumMap<?, ?> copy = new EnumMap<>((EnumMap<?, ?>) value);
+            copy.clear();
+            return (Map<Object, Object>) (Map<?, ?>) copy;
+        } else if (value instanceof SortedMap) {
+            return new TreeMap<>(((SortedMap<Object, Object>) value).comparator());
+        }
+
+        Map<Object, Object> copy = newInstanceOf(value.getClass(), targetType);
+        if (BeanUtils.isNull(copy)) {
+            copy = newInstanceOf(targetType, targetType);
+        }
+
+        return (BeanUtils.isNull(copy) ? new LinkedHashMap<>() : copy);
+    }
+}
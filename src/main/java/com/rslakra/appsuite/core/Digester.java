@@ -0,0 +1,347 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The <code>Digester</code> computes the message digest (i.e. <code>SHA-256</code>, <code>MD5</code>) of the streams,
+ * the channels and the files in chunks, so the large inputs are never loaded into the memory as a whole.
+ * <p>
+ * The streams and the channels are read through the scratch buffers of the <code>IOUtils.getBufferPool()</code>, and
+ * the files of at least the <code>IOUtils.MAPPED_THRESHOLD</code> bytes are digested through the read-only
+ * memory-mapped regions. Each call uses its own <code>MessageDigest</code>, so the <code>Digester</code> is
+ * thread-safe and many files can be digested in parallel.
+ *
+ * <pre>
+ *  final Digester digester = Digester.of(Digester.SHA_256);
+ *  final String checksum = digester.digestHex(artifactPath);
+ *  digester.writeManifest(FileWalker.of(releasePath).toList(), manifestPath, executor);
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 11:05 AM
+ */
+public final class Digester {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(Digester.class);
+
+    public static final String MD5 = "MD5";
+    public static final String SHA_1 = "SHA-1";
+    public static final String SHA_256 = "SHA-256";
+    public static final String SHA_512 = "SHA-512";
+    // the separator of the path and the hash of the manifest line
+    public static final String MANIFEST_SEPARATOR = " -> ";
+
+    private final String algorithm;
+    private final MessageDigest prototype;
+
+    /**
+     * @param algorithm
+     */
+    private Digester(final String algorithm) {
+        BeanUtils.assertNonNull(algorithm, "Algorithm must not be null!");
+        try {
+            this.prototype = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalArgumentException("Unsupported algorithm:" + algorithm, ex);
+        }
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Returns the <code>Digester</code> of the <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     */
+    public static Digester of(final String algorithm) {
+        return new Digester(algorithm);
+    }
+
+    /**
+     * Returns the algorithm of this digester.
+     *
+     * @return
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the new <code>MessageDigest</code> of the algorithm. The prototype is cloned when the provider supports
+     * it, which skips the provider lookup of the <code>MessageDigest.getInstance()</code>.
+     *
+     * @return
+     */
+    public MessageDigest newMessageDigest() {
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            try {
+                return MessageDigest.getInstance(algorithm, prototype.getProvider());
+            } catch (NoSuchAlgorithmException nex) {
+                throw new IllegalStateException(nex);
+            }
+        }
+    }
+
+    /**
+     * Returns the digest of the <code>bytes</code>.
+     *
+     * @param bytes
+     * @return
+     */
+    public byte[] digest(final byte[] bytes) {
+        BeanUtils.assertNonNull(bytes, "Bytes must not be null!");
+        return newMessageDigest().digest(bytes);
+    }
+
+    /**
+     * Returns the digest of the remaining bytes of the <code>inputStream</code>, which is read through the pooled
+     * buffer. The stream is not closed.
+     *
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    public byte[] digest(final InputStream inputStream) throws IOException {
+        BeanUtils.assertNonNull(inputStream, "InputStream must not be null!");
+        final MessageDigest messageDigest = newMessageDigest();
+        final byte[] buffer = IOUtils.borrowBuffer(inputStream.available());
+        try {
+            int byteCount;
+            while ((byteCount = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, byteCount);
+            }
+        } finally {
+            IOUtils.releaseBuffer(buffer);
+        }
+
+        return messageDigest.digest();
+    }
+
+    /**
+     * Returns the digest of the remaining bytes of the <code>channel</code>, which is read through the pooled buffer.
+     * The channel is not closed.
+     *
+     * @param channel
+     * @return
+     * @throws IOException
+     */
+    public byte[] digest(final ReadableByteChannel channel) throws IOException {
+        BeanUtils.assertNonNull(channel, "Channel must not be null!");
+        return digest(channel, IOUtils.BUFFER_20K);
+    }
+
+    /**
+     * Returns the digest of the remaining bytes of the <code>channel</code>, which is read through the pooled buffer
+     * of the size of the <code>available</code> bytes.
+     *
+     * @param channel
+     * @param available
+     * @return
+     * @throws IOException
+     */
+    private byte[] digest(final ReadableByteChannel channel, final int available) throws IOException {
+        final MessageDigest messageDigest = newMessageDigest();
+        final byte[] buffer = IOUtils.borrowBuffer(available);
+        try {
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            while (channel.read(byteBuffer) != -1) {
+                messageDigest.update(buffer, 0, byteBuffer.position());
+                byteBuffer.clear();
+            }
+        } finally {
+            IOUtils.releaseBuffer(buffer);
+        }
+
+        return messageDigest.digest();
+    }
+
+    /**
+     * Returns the digest of the file of the <code>path</code>. The files of at least the
+     * <code>IOUtils.MAPPED_THRESHOLD</code> bytes are digested through the memory-mapped regions of the
+     * <code>IOUtils.MAPPED_REGION_SIZE</code>, and the smaller files through the pooled buffer.
+     *
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    public byte[] digest(final Path path) throws IOException {
+        BeanUtils.assertNonNull(path, "Path must not be null!");
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = fileChannel.size();
+            if (size < IOUtils.MAPPED_THRESHOLD) {
+                return digest(fileChannel, (int) size);
+            }
+
+            final MessageDigest messageDigest = newMessageDigest();
+            long position = 0;
+            while (position < size) {
+                final long regionSize = Math.min(IOUtils.MAPPED_REGION_SIZE, size - position);
+                final MappedByteBuffer mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position,
+                                                                      regionSize);
+                messageDigest.update(mappedBuffer);
+                position += regionSize;
+            }
+
+            return messageDigest.digest();
+        }
+    }
+
+    /**
+     * Returns the lower-case hex digest of the file of the <code>path</code>.
+     *
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    public String digestHex(final Path path) throws IOException {
+        return HexCodec.encode(digest(path));
+    }
+
+    /**
+     * Returns the lower-case hex digest of the remaining bytes of the <code>inputStream</code>.
+     *
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    public String digestHex(final InputStream inputStream) throws IOException {
+        return HexCodec.encode(digest(inputStream));
+    }
+
+    /**
+     * Returns the digests of the files of the <code>paths</code> in their iteration order, which are computed in
+     * parallel on the <code>executor</code>. The first failure is thrown once all the files are done.
+     *
+     * @param paths
+     * @param executor
+     * @return
+     * @throws IOException
+     */
+    public Map<Path, byte[]> digestAll(final Collection<Path> paths, final Executor executor) throws IOException {
+        LOGGER.debug("+digestAll({}, {})", (BeanUtils.isNull(paths) ? null : paths.size()), executor);
+        BeanUtils.assertNonNull(paths, "Paths must not be null!");
+        BeanUtils.assertNonNull(executor, "Executor must not be null!");
+        final List<CompletableFuture<byte[]>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return digest(path);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) ex.getCause()).getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+
+        final Map<Path, byte[]> digests = new LinkedHashMap<>();
+        int index = 0;
+        for (Path path : paths) {
+            digests.put(path, futures.get(index++).join());
+        }
+
+        LOGGER.debug("-digestAll(), digests:{}", digests.size());
+        return digests;
+    }
+
+    /**
+     * Returns the digests of the files of the <code>paths</code>, which are computed in parallel on the common
+     * <code>ForkJoinPool</code>.
+     *
+     * @param paths
+     * @return
+     * @throws IOException
+     */
+    public Map<Path, byte[]> digestAll(final Collection<Path> paths) throws IOException {
+        return digestAll(paths, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes the manifest of the files of the <code>paths</code> into the <code>manifestPath</code>, one
+     * <code>path -&gt; hash</code> line per file in their iteration order, with the lower-case hex digests computed in
+     * parallel on the <code>executor</code>.
+     *
+     * @param paths
+     * @param manifestPath
+     * @param executor
+     * @return the number of the files written.
+     * @throws IOException
+     */
+    public int writeManifest(final Collection<Path> paths, final Path manifestPath, final Executor executor)
+        throws IOException {
+        LOGGER.debug("+writeManifest({}, {})", manifestPath, executor);
+        BeanUtils.assertNonNull(manifestPath, "ManifestPath must not be null!");
+        final Map<Path, byte[]> digests = digestAll(paths, executor);
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+            for (Map.Entry<Path, byte[]> entry : digests.entrySet()) {
+                writer.write(entry.getKey().toString());
+                writer.write(MANIFEST_SEPARATOR);
+                writer.write(HexCodec.encode(entry.getValue()));
+                writer.newLine();
+            }
+        }
+
+        LOGGER.debug("-writeManifest(), files:{}", digests.size());
+        return digests.size();
+    }
+
+    /**
+     * Writes the manifest of the files of the <code>paths</code> into the <code>manifestPath</code>, with the digests
+     * computed in parallel on the common <code>ForkJoinPool</code>.
+     *
+     * @param paths
+     * @param manifestPath
+     * @return the number of the files written.
+     * @throws IOException
+     */
+    public int writeManifest(final Collection<Path> paths, final Path manifestPath) throws IOException {
+        return writeManifest(paths, manifestPath, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(Digester.class)
+            .add("algorithm", algorithm)
+            .toString();
+    }
+}
@@ -0,0 +1,480 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The <code>FileWalker</code> walks the directory tree and streams its regular files lazily, so the trees of millions
+ * of files are never materialized unless asked with <code>toList()</code>.
+ * <p>
+ * The directories are read with the <code>DirectoryStream</code> and only the open directories of the current branch
+ * are kept. With the <code>parallel()</code>, the subdirectories are fanned out on the <code>ForkJoinPool</code> and
+ * the files are handed over to the stream through a bounded queue (in no particular order). The symbolic links are not
+ * followed and the unreadable directories are skipped.
+ *
+ * <pre>
+ *  try (Stream&lt;Path&gt; paths = FileWalker.of(rootPath).glob("**&#47;*.jar").maxDepth(4).parallel().walk()) {
+ *      paths.forEach(...);
+ *  }
+ * </pre>
+ * <p>
+ * The returned stream should be closed to release the open directories or to stop the parallel walk.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 10:05 PM
+ */
+public final class FileWalker {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileWalker.class);
+    private static final int QUEUE_CAPACITY = 4 * IOUtils.BUFFER_1K;
+    // marks the end of the parallel walk
+    private static final Path END_OF_WALK = Paths.get("");
+
+    private final Path root;
+    private int maxDepth = Integer.MAX_VALUE;
+    private PathMatcher pathMatcher;
+    private String[] extensions;
+    private ForkJoinPool forkJoinPool;
+
+    /**
+     * @param root
+     */
+    private FileWalker(final Path root) {
+        BeanUtils.assertNonNull(root, "Root must not be null!");
+        this.root = root;
+    }
+
+    /**
+     * Returns the walker of the <code>root</code> directory.
+     *
+     * @param root
+     * @return
+     */
+    public static FileWalker of(final Path root) {
+        return new FileWalker(root);
+    }
+
+    /**
+     * Returns the walker of the <code>root</code> directory.
+     *
+     * @param root
+     * @return
+     */
+    public static FileWalker of(final File root) {
+        BeanUtils.assertNonNull(root, "Root must not be null!");
+        return of(root.toPath());
+    }
+
+    /**
+     * Limits the walk to the <code>maxDepth</code> levels of the directories. The files of the root directory are at
+     * the depth <code>1</code>.
+     *
+     * @param maxDepth
+     * @return
+     */
+    public FileWalker maxDepth(final int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Invalid maxDepth:" + maxDepth);
+        }
+
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Includes only the files, whose path relative to the root directory matches the glob <code>pattern</code> (i.e.
+     * <code>**&#47;*.zip</code> or <code>*.{jar,war}</code>).
+     *
+     * @param pattern
+     * @return
+     */
+    public FileWalker glob(final String pattern) {
+        this.pathMatcher = (BeanUtils.isEmpty(pattern) ? null : root.getFileSystem().getPathMatcher("glob:" + pattern));
+        return this;
+    }
+
+    /**
+     * Includes only the files, whose name ends with any of the <code>extensions</code> (i.e. <code>.zip</code>). The
+     * null or empty <code>extensions</code> include all the files.
+     *
+     * @param extensions
+     * @return
+     */
+    public FileWalker extensions(final String... extensions) {
+        this.extensions = IOUtils.toExtensions(extensions);
+        return this;
+    }
+
+    /**
+     * Fans out the subdirectories on the <code>forkJoinPool</code>.
+     *
+     * @param forkJoinPool
+     * @return
+     */
+    public FileWalker parallel(final ForkJoinPool forkJoinPool) {
+        BeanUtils.assertNonNull(forkJoinPool, "ForkJoinPool must not be null!");
+        this.forkJoinPool = forkJoinPool;
+        return this;
+    }
+
+    /**
+     * Fans out the subdirectories on the common <code>ForkJoinPool</code>.
+     *
+     * @return
+     */
+    public FileWalker parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns true if the <code>path</code> of the regular file passes the filters otherwise false.
+     *
+     * @param path
+     * @return
+     */
+    private boolean matches(final Path path) {
+        if (BeanUtils.isNotNull(extensions) && !IOUtils.endsWith(path.getFileName().toString(), extensions)) {
+            return false;
+        }
+
+        return (BeanUtils.isNull(pathMatcher) || pathMatcher.matches(root.relativize(path)));
+    }
+
+    /**
+     * Returns the stream of the directory entries or null if the <code>directory</code> can't be read.
+     *
+     * @param directory
+     * @return
+     */
+    private static DirectoryStream<Path> openDirectory(final Path directory) {
+        try {
+            return Files.newDirectoryStream(directory);
+        } catch (IOException ex) {
+            LOGGER.debug("Skipping directory [{}], reason:{}", directory, ex.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Closes the <code>directoryStream</code> silently. It can't be closed with the <code>IOUtils.closeSilently()</code>,
+     * as its iterator can be obtained only once.
+     *
+     * @param directoryStream
+     */
+    private static void closeDirectory(final DirectoryStream<Path> directoryStream) {
+        try {
+            directoryStream.close();
+        } catch (IOException ex) {
+            LOGGER.warn("Error while closing directory stream!", ex);
+        }
+    }
+
+    /**
+     * Returns the lazy stream of the regular files of the tree, which passes the filters. The stream must be closed.
+     *
+     * @return
+     */
+    public Stream<Path> walk() {
+        LOGGER.debug("+walk(), root:{}, maxDepth:{}, parallel:{}", root, maxDepth, BeanUtils.isNotNull(forkJoinPool));
+        if (maxDepth == 0 || !Files.isDirectory(root)) {
+            return Stream.empty();
+        }
+
+        if (BeanUtils.isNull(forkJoinPool)) {
+            final PathIterator pathIterator = new PathIterator();
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pathIterator, Spliterator.NONNULL), false)
+                .onClose(pathIterator::close);
+        }
+
+        final QueueIterator queueIterator = new QueueIterator();
+        forkJoinPool.execute(() -> {
+            try {
+                new WalkTask(queueIterator, root, 1).invoke();
+            } catch (RuntimeException ex) {
+                LOGGER.error("Error walking [{}]!", root, ex);
+            } finally {
+                queueIterator.put(END_OF_WALK);
+            }
+        });
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(queueIterator, Spliterator.NONNULL), false)
+            .onClose(queueIterator::close);
+    }
+
+    /**
+     * Returns the list of all the files of the tree, which passes the filters.
+     *
+     * @return
+     */
+    public List<Path> toList() {
+        try (Stream<Path> paths = walk()) {
+            return paths.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(FileWalker.class)
+            .add("root", root)
+            .add("maxDepth", maxDepth)
+            .add("extensions", IOUtils.toString(extensions))
+            .add("parallel", BeanUtils.isNotNull(forkJoinPool))
+            .toString();
+    }
+
+    /**
+     * Walks the tree depth-first on the caller thread, keeping only the open directories of the current branch.
+     */
+    private final class PathIterator implements Iterator<Path>, Closeable {
+
+        private final Deque<DirectoryStream<Path>> directoryStreams = new ArrayDeque<>();
+        private final Deque<Iterator<Path>> iterators = new ArrayDeque<>();
+        private Path next;
+
+        private PathIterator() {
+            push(root);
+        }
+
+        /**
+         * @param directory
+         */
+        private void push(final Path directory) {
+            final DirectoryStream<Path> directoryStream = openDirectory(directory);
+            if (BeanUtils.isNotNull(directoryStream)) {
+                directoryStreams.push(directoryStream);
+                iterators.push(directoryStream.iterator());
+            }
+        }
+
+        private void pop() {
+            iterators.pop();
+            closeDirectory(directoryStreams.pop());
+        }
+
+        /**
+         * @return
+         */
+        @Override
+        public boolean hasNext() {
+            while (BeanUtils.isNull(next) && !iterators.isEmpty()) {
+                final Path path;
+                try {
+                    if (!iterators.peek().hasNext()) {
+                        pop();
+                        continue;
+                    }
+                    path = iterators.peek().next();
+                } catch (DirectoryIteratorException ex) {
+                    LOGGER.debug("Skipping the rest of the directory, reason:{}", ex.toString());
+                    pop();
+                    continue;
+                }
+
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    // the entries of this directory are at the (size + 1) depth
+                    if (directoryStreams.size() < maxDepth) {
+                        push(path);
+                    }
+                } else if (matches(path)) {
+                    next = path;
+                }
+            }
+
+            return BeanUtils.isNotNull(next);
+        }
+
+        /**
+         * @return
+         */
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Path path = next;
+            next = null;
+            return path;
+        }
+
+        @Override
+        public void close() {
+            while (!iterators.isEmpty()) {
+                pop();
+            }
+        }
+    }
+
+    /**
+     * Streams the files put by the <code>WalkTask</code> from the bounded queue.
+     */
+    private static final class QueueIterator implements Iterator<Path>, Closeable {
+
+        private final BlockingQueue<Path> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Path next;
+
+        /**
+         * Puts the <code>path</code> into the queue, waiting while it's full. The path is dropped if the stream is
+         * closed.
+         * <p>
+         * The wait is managed by the <code>ForkJoinPool.managedBlock()</code>, so the pool (i.e. the common pool) may
+         * compensate the blocked workers while the consumer is slow.
+         *
+         * @param path
+         */
+        private void put(final Path path) {
+            try {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                    @Override
+                    public boolean block() throws InterruptedException {
+                        // wait for the consumer
+                        return (closed.get() || queue.offer(path, 100, TimeUnit.MILLISECONDS));
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return (closed.get() || queue.offer(path));
+                    }
+                });
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                closed.set(true);
+            }
+        }
+
+        /**
+         * @return
+         */
+        private boolean isClosed() {
+            return closed.get();
+        }
+
+        /**
+         * @return
+         */
+        @Override
+        public boolean hasNext() {
+            if (BeanUtils.isNull(next) && !closed.get()) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    closed.set(true);
+                    next = END_OF_WALK;
+                }
+            }
+
+            return (BeanUtils.isNotNull(next) && next != END_OF_WALK);
+        }
+
+        /**
+         * @return
+         */
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Path path = next;
+            next = null;
+            return path;
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+            queue.clear();
+        }
+    }
+
+    /**
+     * Reads a directory and forks the tasks of its subdirectories.
+     */
+    private final class WalkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient QueueIterator queueIterator;
+        private final transient Path directory;
+        // the depth of the entries of the directory
+        private final int depth;
+
+        /**
+         * @param queueIterator
+         * @param directory
+         * @param depth
+         */
+        private WalkTask(final QueueIterator queueIterator, final Path directory, final int depth) {
+            this.queueIterator = queueIterator;
+            this.directory = directory;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            final List<WalkTask> subTasks = new ArrayList<>();
+            final DirectoryStream<Path> directoryStream = openDirectory(directory);
+            if (BeanUtils.isNull(directoryStream)) {
+                return;
+            }
+
+            try {
+                for (Path path : directoryStream) {
+                    if (queueIterator.isClosed()) {
+                        return;
+                    }
+
+                    if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                        if (depth < maxDepth) {
+                            subTasks.add(new WalkTask(queueIterator, path, depth + 1));
+                        }
+                    } else if (matches(path)) {
+                        queueIterator.put(path);
+                    }
+                }
+            } catch (DirectoryIteratorException ex) {
+                LOGGER.debug("Skipping the rest of the directory [{}], reason:{}", directory, ex.toString());
+            } finally {
+                closeDirectory(directoryStream);
+            }
+
+            invokeAll(subTasks);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.rslakra.appsuite.core;
 
-import org.bouncycastle.util.encoders.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.Path;
 import java.util.Objects;
 
 /**
@@ -19,24 +18,8 @@ public enum HashUtils {
     // LOGGER
     private static final Logger LOGGER = LoggerFactory.getLogger(HashUtils.class);
     public static final String ALGO_SHA256 = "SHA-256";
-    private MessageDigest messageDigest;
-
-    /**
-     * @return
-     */
-    private MessageDigest getMessageDigest() {
-        if (Objects.isNull(messageDigest)) {
-            try {
-                messageDigest = MessageDigest.getInstance(ALGO_SHA256);
-                LOGGER.info("Initialized messageDigest!");
-            } catch (NoSuchAlgorithmException ex) {
-                LOGGER.info(ex.getLocalizedMessage(), ex);
-                ex.printStackTrace();
-            }
-        }
-
-        return messageDigest;
-    }
+    // each digest uses its own MessageDigest, so it's safe to share.
+    private static final Digester SHA256_DIGESTER = Digester.of(ALGO_SHA256);
 
     /**
      * @param objects
@@ -59,11 +42,22 @@ public enum HashUtils {
      * @return
      */
     public static String sha256Hex(final String value) {
-        final byte[] hashBytes = INSTANCE.getMessageDigest().digest(value.getBytes(StandardCharsets.UTF_8));
-        final String sha256hex = new String(Hex.encode(hashBytes));
+        final byte[] hashBytes = SHA256_DIGESTER.digest(value.getBytes(StandardCharsets.UTF_8));
+        final String sha256hex = HexCodec.encode(hashBytes);
         return sha256hex;
     }
 
+    /**
+     * Returns the SHA-256 hex of the file of the <code>path</code>, which is read in chunks.
+     *
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    public static String sha256Hex(final Path path) throws IOException {
+        return SHA256_DIGESTER.digestHex(path);
+    }
+
     /**
      * @param values
      * @return
@@ -0,0 +1,233 @@
+package com.rslakra.appsuite.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The <code>HexCodec</code> encodes the bytes into the hexadecimal digits and decodes them back with the precomputed
+ * lookup tables, without the <code>StringBuilder</code> or the per-digit parsing.
+ * <p>
+ * The encoding writes both the digits of a byte from the 512-entry table of its value, and the decoding maps each
+ * digit (of any case) to its nibble with a 128-entry table. The invalid digits are rejected with the
+ * <code>NumberFormatException</code>.
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 10:15 AM
+ */
+public enum HexCodec {
+    INSTANCE;
+
+    private static final String UPPER_DIGITS = "0123456789ABCDEF";
+    private static final String LOWER_DIGITS = "0123456789abcdef";
+    // the two digits of each byte value
+    private static final byte[] UPPER_TABLE = newEncodeTable(UPPER_DIGITS);
+    private static final byte[] LOWER_TABLE = newEncodeTable(LOWER_DIGITS);
+    // the nibble of each ASCII digit or -1
+    private static final byte[] NIBBLES = newDecodeTable();
+
+    /**
+     * @param digits
+     * @return
+     */
+    private static byte[] newEncodeTable(final String digits) {
+        final byte[] encodeTable = new byte[512];
+        for (int value = 0; value < 256; value++) {
+            encodeTable[value << 1] = (byte) digits.charAt(value >>> 4);
+            encodeTable[(value << 1) + 1] = (byte) digits.charAt(value & 0x0F);
+        }
+
+        return encodeTable;
+    }
+
+    /**
+     * @return
+     */
+    private static byte[] newDecodeTable() {
+        final byte[] decodeTable = new byte[128];
+        Arrays.fill(decodeTable, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            decodeTable[UPPER_DIGITS.charAt(i)] = (byte) i;
+            decodeTable[LOWER_DIGITS.charAt(i)] = (byte) i;
+        }
+
+        return decodeTable;
+    }
+
+    /**
+     * Validates the <code>offset</code> and the <code>length</code> of the range of the <code>size</code>.
+     *
+     * @param size
+     * @param offset
+     * @param length
+     */
+    private static void checkRange(final int size, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("Invalid range, offset:" + offset + ", length:" + length + ", size:"
+                                                + size);
+        }
+    }
+
+    /**
+     * Writes the hex digits of the <code>length</code> bytes starting at the <code>offset</code> into the
+     * <code>target</code> at the <code>targetOffset</code> as the ASCII bytes.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @param target
+     * @param targetOffset
+     * @param upperCase
+     * @return the number of the digits written.
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final byte[] target,
+                             final int targetOffset, final boolean upperCase) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, length << 1);
+        final byte[] encodeTable = (upperCase ? UPPER_TABLE : LOWER_TABLE);
+        for (int i = offset, j = targetOffset, end = offset + length; i < end; i++, j += 2) {
+            final int index = (bytes[i] & 0xFF) << 1;
+            target[j] = encodeTable[index];
+            target[j + 1] = encodeTable[index + 1];
+        }
+
+        return (length << 1);
+    }
+
+    /**
+     * Writes the hex digits of the <code>length</code> bytes starting at the <code>offset</code> into the
+     * <code>target</code> at the <code>targetOffset</code>.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @param target
+     * @param targetOffset
+     * @param upperCase
+     * @return the number of the digits written.
+     */
+    public static int encode(final byte[] bytes, final int offset, final int length, final char[] target,
+                             final int targetOffset, final boolean upperCase) {
+        checkRange(bytes.length, offset, length);
+        checkRange(target.length, targetOffset, length << 1);
+        final byte[] encodeTable = (upperCase ? UPPER_TABLE : LOWER_TABLE);
+        for (int i = offset, j = targetOffset, end = offset + length; i < end; i++, j += 2) {
+            final int index = (bytes[i] & 0xFF) << 1;
+            target[j] = (char) encodeTable[index];
+            target[j + 1] = (char) encodeTable[index + 1];
+        }
+
+        return (length << 1);
+    }
+
+    /**
+     * Returns the hex digits of the <code>bytes</code> as the ASCII bytes.
+     *
+     * @param bytes
+     * @param upperCase
+     * @return
+     */
+    public static byte[] encodeToBytes(final byte[] bytes, final boolean upperCase) {
+        final byte[] hexBytes = new byte[bytes.length << 1];
+        encode(bytes, 0, bytes.length, hexBytes, 0, upperCase);
+        return hexBytes;
+    }
+
+    /**
+     * Returns the hex digits of the <code>bytes</code>.
+     *
+     * @param bytes
+     * @param upperCase
+     * @return
+     */
+    public static char[] encodeToChars(final byte[] bytes, final boolean upperCase) {
+        final char[] hexChars = new char[bytes.length << 1];
+        encode(bytes, 0, bytes.length, hexChars, 0, upperCase);
+        return hexChars;
+    }
+
+    /**
+     * Returns the hex string of the <code>length</code> bytes starting at the <code>offset</code>.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @param upperCase
+     * @return
+     */
+    public static String encode(final byte[] bytes, final int offset, final int length, final boolean upperCase) {
+        final byte[] hexBytes = new byte[length << 1];
+        encode(bytes, offset, length, hexBytes, 0, upperCase);
+        // the latin-1 bytes are used as they're by the compact strings
+        return new String(hexBytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the hex string of the <code>bytes</code>.
+     *
+     * @param bytes
+     * @param upperCase
+     * @return
+     */
+    public static String encode(final byte[] bytes, final boolean upperCase) {
+        return encode(bytes, 0, bytes.length, upperCase);
+    }
+
+    /**
+     * Returns the lower-case hex string of the <code>bytes</code>.
+     *
+     * @param bytes
+     * @return
+     */
+    public static String encode(final byte[] bytes) {
+        return encode(bytes, false);
+    }
+
+    /**
+     * Returns the nibble of the hex <code>digit</code>.
+     *
+     * @param digit
+     * @param index
+     * @return
+     */
+    private static int toNibble(final char digit, final int index) {
+        final int nibble = (digit < 128 ? NIBBLES[digit] : -1);
+        if (nibble < 0) {
+            throw new NumberFormatException("Invalid hex digit:'" + digit + "' at index:" + index);
+        }
+
+        return nibble;
+    }
+
+    /**
+     * Returns the bytes of the <code>length</code> hex digits (of any case) starting at the <code>offset</code> of the
+     * <code>hexString</code>. The <code>length</code> must be even.
+     *
+     * @param hexString
+     * @param offset
+     * @param length
+     * @return
+     */
+    public static byte[] decode(final CharSequence hexString, final int offset, final int length) {
+        checkRange(hexString.length(), offset, length);
+        if ((length & 1) != 0) {
+            throw new NumberFormatException("Odd number of hex digits:" + length);
+        }
+
+        final byte[] bytes = new byte[length >>> 1];
+        for (int i = 0, j = offset; i < bytes.length; i++, j += 2) {
+            bytes[i] = (byte) ((toNibble(hexString.charAt(j), j) << 4) | toNibble(hexString.charAt(j + 1), j + 1));
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the bytes of the hex digits (of any case) of the <code>hexString</code>.
+     *
+     * @param hexString
+     * @return
+     */
+    public static byte[] decode(final CharSequence hexString) {
+        return decode(hexString, 0, hexString.length());
+    }
+}
@@ -35,7 +35,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
@@ -60,6 +59,12 @@ import java.net.Socket;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
@@ -67,6 +72,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -81,10 +87,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.stream.Stream;
 
 /**
  * This class handles the file handling operations.
@@ -115,10 +121,31 @@ public enum IOUtils {
      * BUFFER_8K
      */
     public static final int BUFFER_8K = 8 * BUFFER_1K;
+    /**
+     * BUFFER_16K
+     */
+    public static final int BUFFER_16K = 16 * BUFFER_1K;
     /**
      * BUFFER_20K
      */
     public static final int BUFFER_20K = 20 * BUFFER_1K;
+    /**
+     * BUFFER_1M
+     */
+    public static final int BUFFER_1M = BUFFER_1K * BUFFER_1K;
+    /**
+     * The file size, starting from which the file is read through the memory-mapped buffers, when it can't be
+     * transferred directly to the target channel.
+     */
+    public static final long MAPPED_THRESHOLD = 64L * BUFFER_1M;
+    /**
+     * The size of each memory-mapped region of the large files.
+     */
+    public static final int MAPPED_REGION_SIZE = 32 * BUFFER_1M;
+    /**
+     * The pool of the scratch buffers of the copy and read methods.
+     */
+    private static final BufferPool BUFFER_POOL = BufferPool.of(IOUtils.class.getSimpleName(), BUFFER_1M, 32L * BUFFER_1M);
 
     /**
      * SLASH
@@ -637,6 +664,267 @@ public enum IOUtils {
         return getBuffer(available, BUFFER_20K);
     }
 
+    /**
+     * Returns the pool of the scratch buffers of the copy and read methods.
+     *
+     * @return
+     */
+    public static BufferPool getBufferPool() {
+        return BUFFER_POOL;
+    }
+
+    /**
+     * Borrows the scratch buffer from the pool of the size of the <code>available</code> bytes, limited to the
+     * <code>BUFFER_16K</code> and the largest pooled buffer. It should be released with the
+     * <code>releaseBuffer()</code> once done.
+     * <p>
+     * The pooled sizes are the powers of two, so the small reads get the <code>BUFFER_16K</code> size class, the
+     * largest one not above the <code>BUFFER_20K</code> of the <code>getBuffer()</code>, instead of being rounded up
+     * to the 32K size class.
+     *
+     * @param available
+     * @return
+     */
+    public static byte[] borrowBuffer(final int available) {
+        return BUFFER_POOL.borrow(Math.min(Math.max(available, BUFFER_16K), BUFFER_POOL.getMaxBufferSize()));
+    }
+
+    /**
+     * Returns the borrowed <code>buffer</code> to the pool.
+     *
+     * @param buffer
+     */
+    public static void releaseBuffer(final byte[] buffer) {
+        BUFFER_POOL.release(buffer);
+    }
+
+    /**
+     * Returns true if the <code>channel</code> is seekable (i.e. of a regular file), otherwise false (i.e. of a pipe,
+     * socket or terminal, or null).
+     *
+     * @param channel
+     * @return
+     */
+    private static boolean isSeekable(final FileChannel channel) {
+        if (BeanUtils.isNull(channel)) {
+            return false;
+        }
+
+        try {
+            channel.position();
+            return true;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Copies the bytes of the <code>sourceChannel</code> into the <code>targetChannel</code> through the pooled
+     * buffer, until the end of the <code>sourceChannel</code> is reached.
+     *
+     * @param sourceChannel
+     * @param targetChannel
+     * @return the number of bytes copied.
+     * @throws IOException
+     */
+    private static long copyChannel(final ReadableByteChannel sourceChannel, final WritableByteChannel targetChannel)
+        throws IOException {
+        long copied = 0;
+        final byte[] buffer = borrowBuffer(0);
+        try {
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int byteCount;
+            while ((byteCount = sourceChannel.read(byteBuffer)) != -1) {
+                byteBuffer.flip();
+                while (byteBuffer.hasRemaining()) {
+                    targetChannel.write(byteBuffer);
+                }
+                byteBuffer.clear();
+                copied += byteCount;
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+
+        return copied;
+    }
+
+    /**
+     * Transfers the remaining bytes of the <code>sourceChannel</code> into the <code>targetChannel</code> with the
+     * <code>FileChannel.transferTo()</code>, which lets the OS copy the bytes without the user-space buffers (i.e.
+     * <code>sendfile</code> for the sockets). The <code>sourceChannel</code> must be seekable and the
+     * <code>targetChannel</code> should be in the blocking mode.
+     * <p>
+     * The <code>transferTo()</code> is bounded by the size of the source, so the rest of the special files, which
+     * report no size (i.e. procfs), is read until the end.
+     *
+     * @param sourceChannel
+     * @param targetChannel
+     * @return the number of bytes transferred.
+     * @throws IOException
+     */
+    public static long transferTo(final FileChannel sourceChannel, final WritableByteChannel targetChannel)
+        throws IOException {
+        LOGGER.debug("+transferTo({}, {})", sourceChannel, targetChannel);
+        final long startPosition = sourceChannel.position();
+        final long size = sourceChannel.size();
+        long position = startPosition;
+        while (position < size) {
+            final long count = sourceChannel.transferTo(position, size - position, targetChannel);
+            if (count <= 0) {
+                // the source is truncated meanwhile
+                break;
+            }
+            position += count;
+        }
+        sourceChannel.position(position);
+        position += copyChannel(sourceChannel, targetChannel);
+
+        LOGGER.debug("-transferTo(), transferred:{}", (position - startPosition));
+        return (position - startPosition);
+    }
+
+    /**
+     * Transfers the bytes of the <code>sourceChannel</code> into the <code>targetChannel</code> at its current
+     * position with the <code>FileChannel.transferFrom()</code>, until the end of the <code>sourceChannel</code> is
+     * reached. The <code>targetChannel</code> must be seekable.
+     *
+     * @param sourceChannel
+     * @param targetChannel
+     * @return the number of bytes transferred.
+     * @throws IOException
+     */
+    public static long transferFrom(final ReadableByteChannel sourceChannel, final FileChannel targetChannel)
+        throws IOException {
+        LOGGER.debug("+transferFrom({}, {})", sourceChannel, targetChannel);
+        final long startPosition = targetChannel.position();
+        long position = startPosition;
+        ByteBuffer byteBuffer = null;
+        while (true) {
+            final long count = targetChannel.transferFrom(sourceChannel, position, MAPPED_REGION_SIZE);
+            if (count > 0) {
+                position += count;
+                continue;
+            }
+
+            // the transferFrom() returns 0 before the end of the source too, so the end is confirmed by a read
+            if (BeanUtils.isNull(byteBuffer)) {
+                byteBuffer = ByteBuffer.allocate(BUFFER_8K);
+            }
+            byteBuffer.clear();
+            if (sourceChannel.read(byteBuffer) == -1) {
+                break;
+            }
+            byteBuffer.flip();
+            while (byteBuffer.hasRemaining()) {
+                position += targetChannel.write(byteBuffer, position);
+            }
+        }
+        // the transferFrom() doesn't update the position of the target channel.
+        targetChannel.position(position);
+
+        LOGGER.debug("-transferFrom(), transferred:{}", (position - startPosition));
+        return (position - startPosition);
+    }
+
+    /**
+     * Writes the remaining bytes of the <code>sourceChannel</code> into the <code>targetChannel</code> through the
+     * read-only memory-mapped regions of the <code>MAPPED_REGION_SIZE</code>, so the large files aren't copied into
+     * the heap.
+     *
+     * @param sourceChannel
+     * @param targetChannel
+     * @return the number of bytes written.
+     * @throws IOException
+     */
+    public static long writeMapped(final FileChannel sourceChannel, final WritableByteChannel targetChannel)
+        throws IOException {
+        LOGGER.debug("+writeMapped({}, {})", sourceChannel, targetChannel);
+        final long startPosition = sourceChannel.position();
+        final long size = sourceChannel.size();
+        long position = startPosition;
+        while (position < size) {
+            final long regionSize = Math.min(MAPPED_REGION_SIZE, size - position);
+            final MappedByteBuffer mappedBuffer = sourceChannel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+            while (mappedBuffer.hasRemaining()) {
+                targetChannel.write(mappedBuffer);
+            }
+            position += regionSize;
+        }
+        sourceChannel.position(position);
+
+        LOGGER.debug("-writeMapped(), written:{}", (position - startPosition));
+        return (position - startPosition);
+    }
+
+    /**
+     * Copies the <code>sourceStream</code> into the <code>targetStream</code> through the heap buffer.
+     *
+     * @param sourceStream
+     * @param targetStream
+     * @return
+     * @throws IOException
+     */
+    private static long copyBuffered(final InputStream sourceStream, final OutputStream targetStream)
+        throws IOException {
+        long copied = 0;
+        final byte[] buffer = borrowBuffer(sourceStream.available());
+        try {
+            int byteCount;
+            while ((byteCount = sourceStream.read(buffer)) != -1) {
+                targetStream.write(buffer, 0, byteCount);
+                copied += byteCount;
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+
+        return copied;
+    }
+
+    /**
+     * Transfers the contents of the <code>sourceStream</code> into the <code>targetStream</code> with the fastest
+     * available way:
+     * <pre>
+     *  file to file:                   FileChannel.transferTo()
+     *  file to stream (large files):   the memory-mapped regions
+     *  file to stream:                 FileChannel.transferTo()
+     *  stream to file:                 FileChannel.transferFrom()
+     *  stream to stream:               the heap buffer
+     * </pre>
+     * <p>
+     * The channels are only used for the seekable files; the pipes, sockets and terminals are copied through the heap
+     * buffer. The streams are neither flushed nor closed.
+     *
+     * @param sourceStream
+     * @param targetStream
+     * @return the number of bytes transferred.
+     * @throws IOException
+     */
+    public static long transfer(final InputStream sourceStream, final OutputStream targetStream) throws IOException {
+        final FileChannel sourceChannel = (sourceStream instanceof FileInputStream
+                                           ? ((FileInputStream) sourceStream).getChannel() : null);
+        final FileChannel targetChannel = (targetStream instanceof FileOutputStream
+                                           ? ((FileOutputStream) targetStream).getChannel() : null);
+        if (isSeekable(sourceChannel)) {
+            if (BeanUtils.isNotNull(targetChannel)) {
+                return transferTo(sourceChannel, targetChannel);
+            }
+
+            // the channel writes directly into the target stream (not closed by this method)
+            final WritableByteChannel streamChannel = Channels.newChannel(targetStream);
+            if (sourceChannel.size() - sourceChannel.position() >= MAPPED_THRESHOLD) {
+                return writeMapped(sourceChannel, streamChannel);
+            }
+
+            return transferTo(sourceChannel, streamChannel);
+        } else if (BeanUtils.isNull(sourceChannel) && isSeekable(targetChannel)) {
+            return transferFrom(Channels.newChannel(sourceStream), targetChannel);
+        }
+
+        return copyBuffered(sourceStream, targetStream);
+    }
+
     /**
      * Copies the contents of an <code>sourceStream</code> into an
      * <code>targetStream</code>.
@@ -646,19 +934,14 @@ public enum IOUtils {
      * @param closeStreams
      * @return
      * @throws IOException
+     * @see #transfer(InputStream, OutputStream)
      */
     public static int copyStream(InputStream sourceStream, OutputStream targetStream, boolean closeStreams) throws IOException {
         LOGGER.debug("+copyStream({}, {}, {})", sourceStream, targetStream, closeStreams);
-        int fileSize = 0;
+        long fileSize = 0;
         if (BeanUtils.isNotNull(sourceStream) && BeanUtils.isNotNull(targetStream)) {
             try {
-                byte[] buffer = getBuffer(sourceStream.available());
-                int byteCount = 0;
-                while ((byteCount = sourceStream.read(buffer)) != -1) {
-                    targetStream.write(buffer, 0, byteCount);
-                    fileSize += byteCount;
-                }
-
+                fileSize = transfer(sourceStream, targetStream);
                 /* flush output streams. */
                 targetStream.flush();
             } catch (IOException ex) {
@@ -673,7 +956,7 @@ public enum IOUtils {
         }
 
         LOGGER.debug("-copyStream(), fileSize:{}", fileSize);
-        return fileSize;
+        return (int) Math.min(fileSize, Integer.MAX_VALUE);
     }
 
     /**
@@ -715,34 +998,55 @@ public enum IOUtils {
      * @param file
      * @param outputStream
      * @throws IOException
+     * @see #transfer(InputStream, OutputStream)
      */
     public static void sendLocalFile(File file, OutputStream outputStream) throws IOException {
-        System.out.println("+sendLocalFile(" + file + ", " + outputStream + ")");
+        LOGGER.debug("+sendLocalFile({}, {})", file, outputStream);
         FileInputStream inputStream = null;
         try {
             inputStream = new FileInputStream(file);
-            byte[] buffer = getBuffer(inputStream.available());
-            int byteCount = 0;
-            while ((byteCount = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, byteCount);
-            }
-
+            transfer(inputStream, outputStream);
             // flush output streams.
             outputStream.flush();
         } catch (IOException ex) {
-            System.err.println(ex);
+            LOGGER.error(ex.getMessage(), ex);
             throw ex;
         } finally {
             /* close streams. */
             closeSilently(inputStream, outputStream);
         }
 
-        System.out.println("-sendLocalFile()");
+        LOGGER.debug("-sendLocalFile()");
+    }
+
+    /**
+     * Transfers the <code>file</code> contents to the given <code>targetChannel</code> (i.e. the
+     * <code>SocketChannel</code>) without copying them into the user-space buffers. The <code>targetChannel</code> is
+     * not closed.
+     *
+     * @param file
+     * @param targetChannel
+     * @return the number of bytes transferred.
+     * @throws IOException
+     */
+    public static long sendLocalFile(final File file, final WritableByteChannel targetChannel) throws IOException {
+        LOGGER.debug("+sendLocalFile({}, {})", file, targetChannel);
+        BeanUtils.assertNonNull(targetChannel, "TargetChannel must not be null!");
+        final long transferred;
+        try (FileChannel sourceChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            transferred = transferTo(sourceChannel, targetChannel);
+        }
+
+        LOGGER.debug("-sendLocalFile(), transferred:{}", transferred);
+        return transferred;
     }
 
     /**
      * Copies the contents of an <code>sourceStream</code> into an
-     * <code>targetFile</code>.
+     * <code>targetFile</code>. The bytes are transferred between the file channels, unless either is a pipe.
+     * <p>
+     * The returned size is limited to the <code>Integer.MAX_VALUE</code>, so use the
+     * <code>copyFile(Path, Path)</code> for the larger files.
      *
      * @param sourceFile
      * @param targetFile
@@ -751,21 +1055,15 @@ public enum IOUtils {
      * @throws IOException
      */
     public static int copyFile(FileInputStream sourceFile, FileOutputStream targetFile, boolean closeStreams) throws IOException {
-        System.out.println("+copyFile(" + sourceFile + ", " + targetFile + ", " + closeStreams + ")");
-        int fileSize = 0;
+        LOGGER.debug("+copyFile({}, {}, {})", sourceFile, targetFile, closeStreams);
+        long fileSize = 0;
         if (sourceFile != null && targetFile != null) {
             try {
-                byte[] buffer = getBuffer(sourceFile.available());
-                int byteCount = 0;
-                while ((byteCount = sourceFile.read(buffer)) != -1) {
-                    targetFile.write(buffer, 0, byteCount);
-                    fileSize += byteCount;
-                }
-
+                fileSize = transfer(sourceFile, targetFile);
                 // flush output streams.
                 targetFile.flush();
             } catch (IOException ex) {
-                System.err.println(ex);
+                LOGGER.error(ex.getMessage(), ex);
                 throw ex;
             } finally {
                 /* close streams. */
@@ -775,7 +1073,30 @@ public enum IOUtils {
             }
         }
 
-        System.out.println("-copyFile(), fileSize:" + fileSize);
+        LOGGER.debug("-copyFile(), fileSize:{}", fileSize);
+        return (int) Math.min(fileSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Copies the <code>sourcePath</code> file at the <code>targetPath</code>, replacing the existing one, with the
+     * <code>FileChannel.transferTo()</code>.
+     *
+     * @param sourcePath
+     * @param targetPath
+     * @return the number of bytes copied.
+     * @throws IOException
+     */
+    public static long copyFile(final Path sourcePath, final Path targetPath) throws IOException {
+        LOGGER.debug("+copyFile({}, {})", sourcePath, targetPath);
+        final long fileSize;
+        try (FileChannel sourceChannel = FileChannel.open(sourcePath, StandardOpenOption.READ);
+             FileChannel targetChannel = FileChannel.open(targetPath, StandardOpenOption.CREATE,
+                                                          StandardOpenOption.WRITE,
+                                                          StandardOpenOption.TRUNCATE_EXISTING)) {
+            fileSize = transferTo(sourceChannel, targetChannel);
+        }
+
+        LOGGER.debug("-copyFile(), fileSize:{}", fileSize);
         return fileSize;
     }
 
@@ -790,7 +1111,7 @@ public enum IOUtils {
         // ")");
         if (BeanUtils.isNotNull(inputStream) && BeanUtils.isNotEmpty(filePath)) {
             OutputStream outputStream = null;
-            int fileSize = 0;
+            long fileSize = 0;
             try {
                 File file = new File(filePath);
                 /* create the file if it does not exist. */
@@ -799,13 +1120,8 @@ public enum IOUtils {
                 }
 
                 // write the contents of the input stream to output stream
-                outputStream = new BufferedOutputStream(new FileOutputStream(file));
-                byte[] buffer = getBuffer(inputStream.available());
-                int byteCount = 0;
-                while ((byteCount = inputStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, byteCount);
-                    fileSize += byteCount;
-                }
+                outputStream = new FileOutputStream(file);
+                fileSize = transfer(inputStream, outputStream);
 
                 // flush output streams.
                 outputStream.flush();
@@ -1085,10 +1401,14 @@ public enum IOUtils {
             ByteArrayOutputStream byteStream = null;
             try {
                 byteStream = new ByteArrayOutputStream();
-                byte[] buffer = getBuffer(inputStream.available(), BUFFER_20K);
-                int length = 0;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    byteStream.write(buffer, 0, length);
+                byte[] buffer = borrowBuffer(inputStream.available());
+                try {
+                    int length = 0;
+                    while ((length = inputStream.read(buffer)) != -1) {
+                        byteStream.write(buffer, 0, length);
+                    }
+                } finally {
+                    releaseBuffer(buffer);
                 }
 
                 byteStream.flush();
@@ -1282,23 +1602,7 @@ public enum IOUtils {
      * @return
      */
     public static String toHexString(final byte[] bytes) {
-        String hexString = null;
-        if (BeanUtils.isNotEmpty(bytes)) {
-            StringBuilder hexBuilder = new StringBuilder(bytes.length * 2);
-            for (int index = 0; index < bytes.length; index++) {
-                int hn = ((int) (bytes[index]) & 0x00ff) / 16;
-                int ln = ((int) (bytes[index]) & 0x000f);
-
-                hexBuilder.append(HEX_DIGITS.charAt(hn));
-                hexBuilder.append(HEX_DIGITS.charAt(ln));
-            }
-
-            hexString = hexBuilder.toString();
-            // available for GC.
-            hexBuilder = null;
-        }
-
-        return hexString;
+        return (BeanUtils.isNotEmpty(bytes) ? HexCodec.encode(bytes, true) : null);
     }
 
     /**
@@ -1308,16 +1612,8 @@ public enum IOUtils {
      * @return
      */
     public static byte[] toHexBytes(final String hexString) {
-        byte[] hexBytes = null;
-        if (BeanUtils.isNotEmpty(hexString)) {
-            int length = hexString.length() / 2;
-            hexBytes = new byte[length];
-            for (int i = 0; i < length; i++) {
-                hexBytes[i] = Integer.valueOf(hexString.substring(2 * i, 2 * i + 2), 16).byteValue();
-            }
-        }
-
-        return hexBytes;
+        // the last odd digit is ignored
+        return (BeanUtils.isNotEmpty(hexString) ? HexCodec.decode(hexString, 0, hexString.length() & ~1) : null);
     }
 
     /**
@@ -1456,26 +1752,55 @@ public enum IOUtils {
     }
 
     /**
+     * Returns the stream, which compresses the bytes written into the <code>outputStream</code> with the
+     * <code>codec</code> incrementally. The returned stream must be closed to finish the compressed data.
+     *
+     * @param outputStream
+     * @param codec
+     * @return
+     * @throws IOException
+     */
+    public static OutputStream compressingOutput(final OutputStream outputStream, final CompressionCodec codec)
+        throws IOException {
+        BeanUtils.assertNonNull(codec, "Codec must not be null!");
+        return codec.wrap(outputStream);
+    }
+
+    /**
+     * Returns the stream, which decompresses the bytes read from the <code>inputStream</code> with the
+     * <code>codec</code> incrementally. The returned stream must be closed.
+     *
+     * @param inputStream
+     * @param codec
+     * @return
+     * @throws IOException
+     */
+    public static InputStream decompressingInput(final InputStream inputStream, final CompressionCodec codec)
+        throws IOException {
+        BeanUtils.assertNonNull(codec, "Codec must not be null!");
+        return codec.wrap(inputStream);
+    }
+
+    /**
+     * Writes the serialized <code>object</code> into the <code>outputStream</code> compressed with the
+     * <code>codec</code>, and closes it.
+     *
      * @param outputStream
      * @param object
-     * @param compress
-     * @throws Exception
+     * @param codec
+     * @throws IOException
      */
-    public static void writeObject(OutputStream outputStream, Object object, boolean compress) throws IOException {
+    @SuppressWarnings("serial")
+    public static void writeObject(OutputStream outputStream, Object object, CompressionCodec codec) throws IOException {
         if (outputStream != null) {
             ObjectOutputStream objOutputStream = null;
             try {
-                objOutputStream = new ObjectOutputStream(outputStream);
-                if (compress) {
-                    /* avoid resources leak. */
-                    objOutputStream.close();
-                    outputStream = new ObjectOutputStream(new GZIPOutputStream(outputStream));
-                }
-
+                objOutputStream = new ObjectOutputStream(compressingOutput(outputStream, codec));
                 objOutputStream.writeObject(object);
                 objOutputStream.flush();
             } catch (IOException ex) {
-                System.err.println(ex);
+                LOGGER.error(ex.getMessage(), ex);
+                closeSilently(outputStream);
                 throw ex;
             } finally {
                 closeSilently(objOutputStream);
@@ -1483,6 +1808,16 @@ public enum IOUtils {
         }
     }
 
+    /**
+     * @param outputStream
+     * @param object
+     * @param compress
+     * @throws Exception
+     */
+    public static void writeObject(OutputStream outputStream, Object object, boolean compress) throws IOException {
+        writeObject(outputStream, object, (compress ? CompressionCodec.GZIP : CompressionCodec.NONE));
+    }
+
     /**
      * @param outputStream
      * @param object
@@ -1493,26 +1828,25 @@ public enum IOUtils {
     }
 
     /**
+     * Reads the serialized object from the <code>inputStream</code> compressed with the <code>codec</code>, and
+     * closes it.
+     *
      * @param inputStream
-     * @param compress
+     * @param codec
      * @return
      * @throws Exception
      */
-    public static Object readObject(InputStream inputStream, boolean compress) throws Exception {
+    @SuppressWarnings("serial")
+    public static Object readObject(InputStream inputStream, CompressionCodec codec) throws Exception {
         Object object = null;
         if (inputStream != null) {
             ObjectInputStream objInputStream = null;
             try {
-                objInputStream = new ObjectInputStream(inputStream);
-                if (compress) {
-                    /* avoid resources leak. */
-                    objInputStream.close();
-                    objInputStream = new ObjectInputStream(new GZIPInputStream(inputStream));
-                }
-
+                objInputStream = new ObjectInputStream(decompressingInput(inputStream, codec));
                 object = objInputStream.readObject();
             } catch (Exception ex) {
-                System.err.println(ex);
+                LOGGER.error(ex.getMessage(), ex);
+                closeSilently(inputStream);
                 throw ex;
             } finally {
                 closeSilently(objInputStream);
@@ -1522,6 +1856,16 @@ public enum IOUtils {
         return object;
     }
 
+    /**
+     * @param inputStream
+     * @param compress
+     * @return
+     * @throws Exception
+     */
+    public static Object readObject(InputStream inputStream, boolean compress) throws Exception {
+        return readObject(inputStream, (compress ? CompressionCodec.GZIP : CompressionCodec.NONE));
+    }
+
     /**
      * @param inputStream
      * @return
@@ -1670,6 +2014,49 @@ public enum IOUtils {
         return result;
     }
 
+    /**
+     * Returns the non-null <code>extensions</code> or null if there isn't any.
+     *
+     * @param extensions
+     * @return
+     */
+    static String[] toExtensions(final String... extensions) {
+        if (BeanUtils.isEmpty(extensions)) {
+            return null;
+        }
+
+        final String[] nonNullExtensions = Arrays.stream(extensions).filter(Objects::nonNull).toArray(String[]::new);
+        return (nonNullExtensions.length == 0 ? null : nonNullExtensions);
+    }
+
+    /**
+     * Returns the lazy stream of the regular files of the given <code>extensions</code> from the given
+     * <code>directory</code> tree up to the <code>maxDepth</code> levels. If the given <code>extensions</code> is null
+     * or empty, all files are returned. The stream must be closed.
+     *
+     * @param directory
+     * @param maxDepth
+     * @param extensions
+     * @return
+     * @see FileWalker
+     */
+    public static Stream<Path> walkFiles(final Path directory, final int maxDepth, final String... extensions) {
+        return FileWalker.of(directory).maxDepth(maxDepth).extensions(extensions).walk();
+    }
+
+    /**
+     * Returns the lazy stream of the regular files of the given <code>extensions</code> from the given
+     * <code>directory</code> tree. The stream must be closed.
+     *
+     * @param directory
+     * @param extensions
+     * @return
+     * @see FileWalker
+     */
+    public static Stream<Path> walkFiles(final Path directory, final String... extensions) {
+        return walkFiles(directory, Integer.MAX_VALUE, extensions);
+    }
+
     /**
      * Returns the list of all files of the given <code>extensions</code> from the given <code>directory</code> (and
      * optionally its sub-directories, if recursive is true). If the given <code>extensions</code> is null or empty, all
@@ -1681,14 +2068,15 @@ public enum IOUtils {
      * @return
      */
     public static List<File> listFiles(File directory, String[] extensions, boolean recursive) {
-        System.out.println("+listFiles(" + directory + ", " + toString(extensions) + ", " + recursive + ")");
+        LOGGER.debug("+listFiles({}, {}, {})", directory, toString(extensions), recursive);
+        extensions = toExtensions(extensions);
         List<File> listFiles = new ArrayList<File>();
         if (isExistAndFolder(directory)) {
             File[] files = directory.listFiles();
             if (BeanUtils.isNotEmpty(files)) {
                 for (File file : files) {
                     if (recursive && isDirectory(file)) {
-                        listFiles.addAll(listFiles(directory, extensions, recursive));
+                        listFiles.addAll(listFiles(file, extensions, recursive));
                     } else {
                         if (BeanUtils.isEmpty(extensions)) {
                             listFiles.add(file);
@@ -1702,7 +2090,7 @@ public enum IOUtils {
             }
         }
 
-        System.out.println("-listFiles(), listFiles:" + listFiles);
+        LOGGER.debug("-listFiles(), size:{}", listFiles.size());
         return listFiles;
     }
 
@@ -1740,13 +2128,14 @@ public enum IOUtils {
      * @return
      */
     public static List<String> listFileNames(File directory, String[] extensions, boolean recursive) {
+        extensions = toExtensions(extensions);
         List<String> listFiles = new ArrayList<String>();
         if (isExistAndFolder(directory)) {
             File[] files = directory.listFiles();
             if (BeanUtils.isNotEmpty(files)) {
                 for (File file : files) {
                     if (recursive && isDirectory(file)) {
-                        listFiles.addAll(listFileNames(directory, extensions, recursive));
+                        listFiles.addAll(listFileNames(file, extensions, recursive));
                     } else {
                         if (BeanUtils.isEmpty(extensions)) {
                             listFiles.add(file.getName());
@@ -1862,26 +2251,22 @@ public enum IOUtils {
     }
 
     /**
-     * Converts an object into the bytes.
+     * Converts an object into the bytes compressed with the <code>codec</code>. The object is serialized directly
+     * into the compressor, so only the compressed bytes are buffered.
      *
      * @param object
+     * @param codec
      * @return
      */
-    public static <T> byte[] toBytes(T object) {
+    public static <T> byte[] toCompressedBytes(T object, CompressionCodec codec) {
         byte[] objectBytes = null;
         if (BeanUtils.isNotNull(object)) {
-            ByteArrayOutputStream byteArrayOutputStream = null;
-            ObjectOutputStream objectOutputStream = null;
             try {
-                byteArrayOutputStream = new ByteArrayOutputStream();
-                objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-                objectOutputStream.writeObject(object);
-                objectOutputStream.flush();
+                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                writeObject(byteArrayOutputStream, object, codec);
                 objectBytes = byteArrayOutputStream.toByteArray();
             } catch (IOException ex) {
-                System.err.println(ex);
-            } finally {
-                closeSilently(objectOutputStream, byteArrayOutputStream);
+                LOGGER.error(ex.getMessage(), ex);
             }
         }
 
@@ -1889,27 +2274,31 @@ public enum IOUtils {
     }
 
     /**
-     * Converts the bytes into an object.
+     * Converts an object into the bytes.
+     *
+     * @param object
+     * @return
+     */
+    public static <T> byte[] toBytes(T object) {
+        return toCompressedBytes(object, CompressionCodec.NONE);
+    }
+
+    /**
+     * Converts the bytes compressed with the <code>codec</code> into an object. The bytes are decompressed
+     * incrementally while the object is deserialized.
      *
      * @param dataBytes
+     * @param codec
      * @return
      */
     @SuppressWarnings("unchecked")
-    public static <T> T toObject(byte[] dataBytes) {
+    public static <T> T toObject(byte[] dataBytes, CompressionCodec codec) {
         T object = null;
         if (BeanUtils.isNotNull(dataBytes)) {
-            ByteArrayInputStream byteArrayInputStream = null;
-            ObjectInputStream objectInputStream = null;
             try {
-                byteArrayInputStream = new ByteArrayInputStream(dataBytes);
-                objectInputStream = new ObjectInputStream(byteArrayInputStream);
-                object = (T) objectInputStream.readObject();
-            } catch (ClassNotFoundException ex) {
-                System.err.println(ex);
-            } catch (IOException ex) {
-                System.err.println(ex);
-            } finally {
-                closeSilently(byteArrayInputStream, objectInputStream);
+                object = (T) readObject(new ByteArrayInputStream(dataBytes), codec);
+            } catch (Exception ex) {
+                LOGGER.error(ex.getMessage(), ex);
             }
         }
 
@@ -1917,7 +2306,18 @@ public enum IOUtils {
     }
 
     /**
-     * Deletes the files which are older than the specified days.
+     * Converts the bytes into an object.
+     *
+     * @param dataBytes
+     * @return
+     */
+    public static <T> T toObject(byte[] dataBytes) {
+        return toObject(dataBytes, CompressionCodec.NONE);
+    }
+
+    /**
+     * Deletes the files which are older than the specified days. Use the <code>RetentionSweeper</code> to sweep the
+     * whole tree in parallel.
      *
      * @param dirPath
      * @param olderThanNDays
@@ -1925,8 +2325,8 @@ public enum IOUtils {
     public static void deleteFilesOlderThanNDays(File dirPath, int olderThanNDays) {
         if (isExistAndFolder(dirPath)) {
             File[] listFiles = dirPath.listFiles();
-            long purgeTimeMillis = System.currentTimeMillis() - (olderThanNDays * 24 * 60 * 60 * 1000);
-            System.out.println("purgeTimeMillis:" + purgeTimeMillis);
+            long purgeTimeMillis = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(olderThanNDays);
+            LOGGER.debug("purgeTimeMillis:{}", purgeTimeMillis);
             for (File file : listFiles) {
                 try {
                     if (file.lastModified() < purgeTimeMillis) {
@@ -0,0 +1,408 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The <code>MetadataRegistry</code> warms up the class metadata used by the <code>BeanUtils</code> (the property
+ * descriptors, the setters and the generated accessors) at the startup, so the first request for each class doesn't pay
+ * the cost of the introspection.
+ * <p>
+ * The classes can be registered by a list of classes, a package name or a jar file. The metadata of the classes is built
+ * in parallel and each warm-up returns the <code>WarmUpReport</code> with the time taken and the entry counts.
+ *
+ * <pre>
+ *  final MetadataRegistry.WarmUpReport warmUpReport = MetadataRegistry.warmUp("com.rslakra.appsuite.core.entity");
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 3:42 PM
+ */
+public enum MetadataRegistry {
+    INSTANCE;
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetadataRegistry.class);
+    public static final String CLASS_EXTENSION = ".class";
+    private static final Set<String> IGNORED_CLASS_NAMES = Sets.asSet("package-info", "module-info");
+
+    /**
+     * The <code>WarmUpReport</code> contains the statistics of a warm-up.
+     */
+    public static final class WarmUpReport {
+
+        private final int classes;
+        private final int loadedClasses;
+        private final int failedClasses;
+        private final int properties;
+        private final int registrySize;
+        private final Duration duration;
+
+        /**
+         * @param classes
+         * @param loadedClasses
+         * @param failedClasses
+         * @param properties
+         * @param registrySize
+         * @param duration
+         */
+        private WarmUpReport(final int classes, final int loadedClasses, final int failedClasses,
+                             final int properties, final int registrySize, final Duration duration) {
+            this.classes = classes;
+            this.loadedClasses = loadedClasses;
+            this.failedClasses = failedClasses;
+            this.properties = properties;
+            this.registrySize = registrySize;
+            this.duration = duration;
+        }
+
+        /**
+         * Returns the number of the classes requested to warm up.
+         *
+         * @return
+         */
+        public int getClasses() {
+            return classes;
+        }
+
+        /**
+         * Returns the number of the classes whose metadata is loaded.
+         *
+         * @return
+         */
+        public int getLoadedClasses() {
+            return loadedClasses;
+        }
+
+        /**
+         * Returns the number of the classes whose metadata couldn't be loaded.
+         *
+         * @return
+         */
+        public int getFailedClasses() {
+            return failedClasses;
+        }
+
+        /**
+         * Returns the total number of the properties of the loaded classes.
+         *
+         * @return
+         */
+        public int getProperties() {
+            return properties;
+        }
+
+        /**
+         * Returns the number of the classes in the registry after this warm-up.
+         *
+         * @return
+         */
+        public int getRegistrySize() {
+            return registrySize;
+        }
+
+        /**
+         * Returns the time taken by this warm-up.
+         *
+         * @return
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns the string representation of this object.
+         *
+         * @return
+         */
+        @Override
+        public String toString() {
+            return ToString.of(WarmUpReport.class)
+                .add("classes", classes)
+                .add("loadedClasses", loadedClasses)
+                .add("failedClasses", failedClasses)
+                .add("properties", properties)
+                .add("registrySize", registrySize)
+                .add("duration", duration)
+                .toString();
+        }
+    }
+
+    /**
+     * Returns true if the <code>classType</code> can have the bean properties otherwise false.
+     *
+     * @param classType
+     * @return
+     */
+    private static boolean isBeanClass(final Class<?> classType) {
+        return (BeanUtils.isNotNull(classType) && !classType.isInterface() && !classType.isAnnotation()
+                && !classType.isEnum() && !classType.isArray() && !classType.isPrimitive()
+                && !classType.isAnonymousClass() && !classType.isLocalClass() && !classType.isSynthetic());
+    }
+
+    /**
+     * Warms up the metadata of the provided <code>classes</code> in parallel on the provided
+     * <code>executorService</code>. The interfaces, enums, annotations and anonymous classes are skipped.
+     *
+     * @param classes
+     * @param executorService
+     * @return
+     */
+    public static WarmUpReport warmUp(final Collection<? extends Class<?>> classes,
+                                      final ExecutorService executorService) {
+        LOGGER.debug("+warmUp({}, {})", BeanUtils.getLength(classes), executorService);
+        BeanUtils.assertNonNull(classes, "Classes must not be null!");
+        BeanUtils.assertNonNull(executorService, "ExecutorService must not be null!");
+        final long startTime = System.nanoTime();
+        final List<Callable<Integer>> loadTasks = classes.stream()
+            .filter(MetadataRegistry::isBeanClass)
+            .distinct()
+            .map(classType -> (Callable<Integer>) () -> BeanUtils.INSTANCE.loadMetadata(classType))
+            .collect(Collectors.toList());
+        int loadedClasses = 0;
+        int failedClasses = 0;
+        int properties = 0;
+        try {
+            for (Future<Integer> loadTask : executorService.invokeAll(loadTasks)) {
+                try {
+                    properties += loadTask.get();
+                    loadedClasses++;
+                } catch (ExecutionException ex) {
+                    LOGGER.warn("Unable to load metadata, reason:{}", ex.getCause().getMessage());
+                    failedClasses++;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+
+        final WarmUpReport warmUpReport = new WarmUpReport(loadTasks.size(), loadedClasses, failedClasses, properties,
+                                                           size(), Duration.ofNanos(System.nanoTime() - startTime));
+        LOGGER.info("Metadata warm-up {}", warmUpReport);
+        LOGGER.debug("-warmUp(), warmUpReport:{}", warmUpReport);
+        return warmUpReport;
+    }
+
+    /**
+     * Warms up the metadata of the provided <code>classes</code> in parallel on the common pool.
+     *
+     * @param classes
+     * @return
+     */
+    public static WarmUpReport warmUp(final Collection<? extends Class<?>> classes) {
+        return warmUp(classes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Warms up the metadata of the provided <code>classes</code> in parallel on the common pool.
+     *
+     * @param classes
+     * @return
+     */
+    public static WarmUpReport warmUp(final Class<?>... classes) {
+        return warmUp(Arrays.asList(classes));
+    }
+
+    /**
+     * Warms up the metadata of all the classes of the <code>packageName</code> (and its sub-packages) available to
+     * the <code>classLoader</code>, either in the directories or the jar files.
+     *
+     * @param classLoader
+     * @param packageName
+     * @return
+     * @throws IOException
+     */
+    public static WarmUpReport warmUp(final ClassLoader classLoader, final String packageName) throws IOException {
+        return warmUp(findPackageClasses(classLoader, packageName));
+    }
+
+    /**
+     * Warms up the metadata of all the classes of the <code>packageName</code> (and its sub-packages).
+     *
+     * @param packageName
+     * @return
+     * @throws IOException
+     */
+    public static WarmUpReport warmUp(final String packageName) throws IOException {
+        return warmUp(Thread.currentThread().getContextClassLoader(), packageName);
+    }
+
+    /**
+     * Warms up the metadata of all the classes of the <code>jarFile</code>, which are loaded (but not initialized)
+     * with the <code>classLoader</code> of the application, so the metadata is cached for the classes it actually
+     * uses. The classes the <code>classLoader</code> can't load are skipped.
+     *
+     * @param classLoader
+     * @param jarFile
+     * @return
+     * @throws IOException
+     */
+    public static WarmUpReport warmUp(final ClassLoader classLoader, final File jarFile) throws IOException {
+        BeanUtils.assertNonNull(classLoader, "ClassLoader must not be null!");
+        BeanUtils.assertNonNull(jarFile, "JarFile must not be null!");
+        return warmUp(loadClasses(classLoader, IOUtils.getJarFileClassNames(jarFile)));
+    }
+
+    /**
+     * Warms up the metadata of all the classes of the <code>jarFile</code> with the context class loader.
+     *
+     * @param jarFile
+     * @return
+     * @throws IOException
+     */
+    public static WarmUpReport warmUp(final File jarFile) throws IOException {
+        return warmUp(Thread.currentThread().getContextClassLoader(), jarFile);
+    }
+
+    /**
+     * Returns the number of the classes having the metadata in the registry.
+     *
+     * @return
+     */
+    public static int size() {
+        return BeanUtils.INSTANCE.getMetadataSize();
+    }
+
+    /**
+     * Evicts the metadata of all the classes loaded by the <code>classLoader</code> (i.e. before the plugin jar is
+     * redeployed).
+     *
+     * @param classLoader
+     * @return the number of the evicted classes
+     * @see BeanUtils#evict(ClassLoader)
+     */
+    public static int evict(final ClassLoader classLoader) {
+        return BeanUtils.evict(classLoader);
+    }
+
+    /**
+     * Returns the class names of the <code>packageName</code> (and its sub-packages) available to the
+     * <code>classLoader</code>.
+     *
+     * @param classLoader
+     * @param packageName
+     * @return
+     * @throws IOException
+     */
+    public static Set<String> findPackageClassNames(final ClassLoader classLoader, final String packageName)
+        throws IOException {
+        LOGGER.debug("+findPackageClassNames({}, {})", classLoader, packageName);
+        BeanUtils.assertNonNull(classLoader, "ClassLoader must not be null!");
+        BeanUtils.assertNonNull(packageName, "Package name must not be null!");
+        final String packagePath = packageName.replace(BeanUtils.DOT, IOUtils.SLASH);
+        final Set<String> classNames = new LinkedHashSet<>();
+        final Enumeration<URL> resources = classLoader.getResources(packagePath);
+        while (resources.hasMoreElements()) {
+            final URL resource = resources.nextElement();
+            LOGGER.debug("resource:{}", resource);
+            if ("jar".equals(resource.getProtocol())) {
+                final JarURLConnection jarConnection = (JarURLConnection) resource.openConnection();
+                final File jarFile;
+                try {
+                    jarFile = new File(jarConnection.getJarFileURL().toURI());
+                } catch (URISyntaxException ex) {
+                    throw new IOException(ex);
+                }
+
+                IOUtils.getJarFileClassNames(jarFile).stream()
+                    .filter(className -> className.startsWith(packageName + BeanUtils.DOT))
+                    .forEach(classNames::add);
+            } else if ("file".equals(resource.getProtocol())) {
+                final Path rootPath;
+                try {
+                    rootPath = Paths.get(resource.toURI());
+                } catch (URISyntaxException ex) {
+                    throw new IOException(ex);
+                }
+
+                try (Stream<Path> paths = Files.walk(rootPath)) {
+                    paths.map(path -> rootPath.relativize(path).toString())
+                        .filter(pathName -> pathName.endsWith(CLASS_EXTENSION))
+                        .map(pathName -> packageName + BeanUtils.DOT
+                                         + pathName.substring(0, pathName.length() - CLASS_EXTENSION.length())
+                                             .replace(File.separatorChar, '.'))
+                        .forEach(classNames::add);
+                }
+            }
+        }
+
+        LOGGER.debug("-findPackageClassNames(), classNames:{}", classNames.size());
+        return classNames;
+    }
+
+    /**
+     * Returns the classes of the <code>packageName</code> (and its sub-packages) available to the
+     * <code>classLoader</code>. The classes are not initialized.
+     *
+     * @param classLoader
+     * @param packageName
+     * @return
+     * @throws IOException
+     */
+    public static List<Class<?>> findPackageClasses(final ClassLoader classLoader, final String packageName)
+        throws IOException {
+        return loadClasses(classLoader, findPackageClassNames(classLoader, packageName));
+    }
+
+    /**
+     * Returns the classes of the <code>classNames</code> loaded (but not initialized) with the
+     * <code>classLoader</code>. The classes, which can't be loaded, are skipped.
+     *
+     * @param classLoader
+     * @param classNames
+     * @return
+     */
+    private static List<Class<?>> loadClasses(final ClassLoader classLoader, final Collection<String> classNames) {
+        final List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            if (IGNORED_CLASS_NAMES.contains(simpleName)) {
+                continue;
+            }
+
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                LOGGER.warn("Unable to load [{}] class, reason:{}", className, ex.getMessage());
+            }
+        }
+
+        return classes;
+    }
+
+    /**
+     * Returns the classes of the <code>packageName</code> (and its sub-packages) with the context class loader.
+     *
+     * @param packageName
+     * @return
+     * @throws IOException
+     */
+    public static List<Class<?>> findPackageClasses(final String packageName) throws IOException {
+        return findPackageClasses(Thread.currentThread().getContextClassLoader(), packageName);
+    }
+}
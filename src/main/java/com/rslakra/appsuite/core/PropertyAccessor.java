@@ -0,0 +1,239 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The <code>PropertyAccessor</code> holds the getter/setter pair of a bean property.
+ * <p>
+ * The accessors are generated once with the <code>LambdaMetafactory</code>, so reading or writing a property is a plain
+ * interface call instead of the <code>Method.invoke</code>. When the lambda can't be generated (i.e. the member is not
+ * accessible from this module), the reflective <code>readMethod</code>/<code>writeMethod</code> are used instead.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 9:12 AM
+ */
+final class PropertyAccessor {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(PropertyAccessor.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Method readMethod;
+    private final Method writeMethod;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    // the declared type of the property
+    private final Class<?> propertyType;
+    // the boxed type of the setter's parameter
+    private final Class<?> writeType;
+    private final boolean primitiveWrite;
+
+    /**
+     * @param readMethod
+     * @param writeMethod
+     */
+    private PropertyAccessor(final Method readMethod, final Method writeMethod) {
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.getter = (BeanUtils.isNull(readMethod) ? null : newGetter(readMethod));
+        this.setter = (BeanUtils.isNull(writeMethod) ? null : newSetter(writeMethod));
+        if (BeanUtils.isNull(writeMethod)) {
+            this.propertyType = (BeanUtils.isNull(readMethod) ? null : readMethod.getReturnType());
+            this.writeType = null;
+            this.primitiveWrite = false;
+        } else {
+            final Class<?> parameterType = writeMethod.getParameterTypes()[0];
+            this.propertyType = parameterType;
+            this.writeType = MethodType.methodType(parameterType).wrap().returnType();
+            this.primitiveWrite = parameterType.isPrimitive();
+        }
+    }
+
+    /**
+     * Returns the <code>PropertyAccessor</code> of the provided <code>readMethod</code> and <code>writeMethod</code>.
+     * Either of the methods can be null.
+     *
+     * @param readMethod
+     * @param writeMethod
+     * @return
+     */
+    public static PropertyAccessor of(final Method readMethod, final Method writeMethod) {
+        return new PropertyAccessor(readMethod, writeMethod);
+    }
+
+    /**
+     * Returns the lookup, which has the full privilege access on the declaring class of the <code>method</code>.
+     *
+     * @param method
+     * @return
+     * @throws IllegalAccessException
+     */
+    private static MethodHandles.Lookup lookupFor(final Method method) throws IllegalAccessException {
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+        if (!lookup.hasFullPrivilegeAccess()) {
+            throw new IllegalAccessException("No full privilege access on " + method.getDeclaringClass());
+        }
+
+        return lookup;
+    }
+
+    /**
+     * Generates the <code>Function</code> which calls the <code>readMethod</code>.
+     *
+     * @param readMethod
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> newGetter(final Method readMethod) {
+        try {
+            final MethodHandles.Lookup lookup = lookupFor(readMethod);
+            final MethodHandle methodHandle = lookup.unreflect(readMethod);
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                                                                    MethodType.methodType(Function.class),
+                                                                    MethodType.methodType(Object.class, Object.class),
+                                                                    methodHandle, methodHandle.type().wrap());
+            return (Function<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable ex) {
+            LOGGER.debug("Using reflective getter for [{}], reason:{}", readMethod, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Generates the <code>BiConsumer</code> which calls the <code>writeMethod</code>.
+     *
+     * @param writeMethod
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> newSetter(final Method writeMethod) {
+        try {
+            final MethodHandles.Lookup lookup = lookupFor(writeMethod);
+            final MethodHandle methodHandle = lookup.unreflect(writeMethod);
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                                                                    MethodType.methodType(BiConsumer.class),
+                                                                    MethodType.methodType(void.class, Object.class,
+                                                                                          Object.class),
+                                                                    methodHandle,
+                                                                    methodHandle.type().wrap()
+                                                                        .changeReturnType(void.class));
+            return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable ex) {
+            LOGGER.debug("Using reflective setter for [{}], reason:{}", writeMethod, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the getter and setter both are generated otherwise false.
+     *
+     * @return
+     */
+    public boolean isGenerated() {
+        return ((BeanUtils.isNull(readMethod) || BeanUtils.isNotNull(getter))
+                && (BeanUtils.isNull(writeMethod) || BeanUtils.isNotNull(setter)));
+    }
+
+    /**
+     * Returns the declared type of the property.
+     *
+     * @return
+     */
+    public Class<?> getPropertyType() {
+        return propertyType;
+    }
+
+    /**
+     * Returns true if the property can be read otherwise false.
+     *
+     * @return
+     */
+    public boolean isReadable() {
+        return BeanUtils.isNotNull(readMethod);
+    }
+
+    /**
+     * Returns true if the property can be written otherwise false.
+     *
+     * @return
+     */
+    public boolean isWritable() {
+        return BeanUtils.isNotNull(writeMethod);
+    }
+
+    /**
+     * Returns the value of the property of the <code>bean</code>.
+     *
+     * @param bean
+     * @return
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public Object get(final Object bean) throws IllegalAccessException, InvocationTargetException {
+        if (BeanUtils.isNull(getter)) {
+            return readMethod.invoke(bean);
+        }
+
+        try {
+            return getter.apply(bean);
+        } catch (RuntimeException ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Sets the <code>value</code> of the property of the <code>bean</code>.
+     * <p>
+     * The values, which aren't the instances of the property type (i.e. the <code>int</code> of the <code>long</code>
+     * property, or the <code>null</code> of a primitive property), are passed to the <code>Method.invoke</code>, so
+     * the widening conversions are applied, and the <code>IllegalArgumentException</code> is thrown if the
+     * <code>value</code> can't be assigned to the property.
+     *
+     * @param bean
+     * @param value
+     * @throws IllegalAccessException
+     * @throws InvocationTargetException
+     */
+    public void set(final Object bean, final Object value) throws IllegalAccessException, InvocationTargetException {
+        if (BeanUtils.isNull(setter)) {
+            writeMethod.invoke(bean, value);
+            return;
+        }
+
+        if (value == null ? primitiveWrite : !writeType.isInstance(value)) {
+            writeMethod.invoke(bean, value);
+            return;
+        }
+
+        try {
+            setter.accept(bean, value);
+        } catch (RuntimeException ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(PropertyAccessor.class)
+            .add("readMethod", readMethod)
+            .add("writeMethod", writeMethod)
+            .add("generated", isGenerated())
+            .toString();
+    }
+}
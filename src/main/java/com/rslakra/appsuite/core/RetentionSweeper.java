@@ -0,0 +1,494 @@
+package com.rslakra.appsuite.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * The <code>RetentionSweeper</code> deletes the regular files of a directory tree, which are not modified for the
+ * <code>maxAge</code>.
+ * <p>
+ * The tree is scanned with the <code>Files.walkFileTree()</code>, which reads the <code>BasicFileAttributes</code> of
+ * each file once, and the expired files are deleted in parallel by up to the <code>concurrency</code> threads, paced
+ * by the optional <code>maxDeletesPerSecond</code>, so a large sweep doesn't saturate the disk. With the
+ * <code>dryRun</code>, the expired files are only counted.
+ *
+ * <pre>
+ *  final RetentionSweeper.SweepReport sweepReport = RetentionSweeper.of(logsPath, Duration.ofDays(30))
+ *      .extensions(".log", ".gz")
+ *      .concurrency(4)
+ *      .maxDeletesPerSecond(500)
+ *      .sweep();
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 11:20 PM
+ */
+public final class RetentionSweeper {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetentionSweeper.class);
+
+    /**
+     * The <code>SweepReport</code> contains the statistics of a sweep.
+     */
+    public static final class SweepReport {
+
+        private final boolean dryRun;
+        private final long scannedFiles;
+        private final long expiredFiles;
+        private final long expiredBytes;
+        private final long deletedFiles;
+        private final long freedBytes;
+        private final long failedFiles;
+        private final Duration duration;
+
+        /**
+         * @param dryRun
+         * @param scannedFiles
+         * @param expiredFiles
+         * @param expiredBytes
+         * @param deletedFiles
+         * @param freedBytes
+         * @param failedFiles
+         * @param duration
+         */
+        private SweepReport(final boolean dryRun, final long scannedFiles, final long expiredFiles,
+                            final long expiredBytes, final long deletedFiles, final long freedBytes,
+                            final long failedFiles, final Duration duration) {
+            this.dryRun = dryRun;
+            this.scannedFiles = scannedFiles;
+            this.expiredFiles = expiredFiles;
+            this.expiredBytes = expiredBytes;
+            this.deletedFiles = deletedFiles;
+            this.freedBytes = freedBytes;
+            this.failedFiles = failedFiles;
+            this.duration = duration;
+        }
+
+        /**
+         * Returns true if the expired files are only counted otherwise false.
+         *
+         * @return
+         */
+        public boolean isDryRun() {
+            return dryRun;
+        }
+
+        /**
+         * Returns the number of the regular files scanned.
+         *
+         * @return
+         */
+        public long getScannedFiles() {
+            return scannedFiles;
+        }
+
+        /**
+         * Returns the number of the expired files.
+         *
+         * @return
+         */
+        public long getExpiredFiles() {
+            return expiredFiles;
+        }
+
+        /**
+         * Returns the total size of the expired files.
+         *
+         * @return
+         */
+        public long getExpiredBytes() {
+            return expiredBytes;
+        }
+
+        /**
+         * Returns the number of the deleted files.
+         *
+         * @return
+         */
+        public long getDeletedFiles() {
+            return deletedFiles;
+        }
+
+        /**
+         * Returns the total size of the deleted files.
+         *
+         * @return
+         */
+        public long getFreedBytes() {
+            return freedBytes;
+        }
+
+        /**
+         * Returns the number of the files, which couldn't be read or deleted.
+         *
+         * @return
+         */
+        public long getFailedFiles() {
+            return failedFiles;
+        }
+
+        /**
+         * Returns the time taken by this sweep.
+         *
+         * @return
+         */
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Returns the string representation of this object.
+         *
+         * @return
+         */
+        @Override
+        public String toString() {
+            return ToString.of(SweepReport.class)
+                .add("dryRun", dryRun)
+                .add("scannedFiles", scannedFiles)
+                .add("expiredFiles", expiredFiles)
+                .add("expiredBytes", expiredBytes)
+                .add("deletedFiles", deletedFiles)
+                .add("freedBytes", freedBytes)
+                .add("failedFiles", failedFiles)
+                .add("duration", duration)
+                .toString();
+        }
+    }
+
+    private final Path root;
+    private final Duration maxAge;
+    private int maxDepth = Integer.MAX_VALUE;
+    private String[] extensions;
+    private int concurrency = 1;
+    private double maxDeletesPerSecond;
+    private boolean dryRun;
+
+    /**
+     * @param root
+     * @param maxAge
+     */
+    private RetentionSweeper(final Path root, final Duration maxAge) {
+        BeanUtils.assertNonNull(root, "Root must not be null!");
+        BeanUtils.assertNonNull(maxAge, "MaxAge must not be null!");
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("Invalid maxAge:" + maxAge);
+        }
+
+        this.root = root;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns the sweeper of the files of the <code>root</code> directory tree older than the <code>maxAge</code>.
+     *
+     * @param root
+     * @param maxAge
+     * @return
+     */
+    public static RetentionSweeper of(final Path root, final Duration maxAge) {
+        return new RetentionSweeper(root, maxAge);
+    }
+
+    /**
+     * Limits the sweep to the <code>maxDepth</code> levels of the directories. The files of the root directory are at
+     * the depth <code>1</code>.
+     *
+     * @param maxDepth
+     * @return
+     */
+    public RetentionSweeper maxDepth(final int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Invalid maxDepth:" + maxDepth);
+        }
+
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Sweeps only the files, whose name ends with any of the <code>extensions</code>. The null or empty
+     * <code>extensions</code> sweep all the files.
+     *
+     * @param extensions
+     * @return
+     */
+    public RetentionSweeper extensions(final String... extensions) {
+        this.extensions = IOUtils.toExtensions(extensions);
+        return this;
+    }
+
+    /**
+     * Deletes the files by up to the <code>concurrency</code> threads.
+     *
+     * @param concurrency
+     * @return
+     */
+    public RetentionSweeper concurrency(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Invalid concurrency:" + concurrency);
+        }
+
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Limits the deletes to the <code>maxDeletesPerSecond</code>. The zero means no limit.
+     *
+     * @param maxDeletesPerSecond
+     * @return
+     */
+    public RetentionSweeper maxDeletesPerSecond(final double maxDeletesPerSecond) {
+        if (maxDeletesPerSecond < 0) {
+            throw new IllegalArgumentException("Invalid maxDeletesPerSecond:" + maxDeletesPerSecond);
+        }
+
+        this.maxDeletesPerSecond = maxDeletesPerSecond;
+        return this;
+    }
+
+    /**
+     * Only counts the expired files, if the <code>dryRun</code> is true.
+     *
+     * @param dryRun
+     * @return
+     */
+    public RetentionSweeper dryRun(final boolean dryRun) {
+        this.dryRun = dryRun;
+        return this;
+    }
+
+    /**
+     * Sweeps the expired files once and returns the statistics.
+     *
+     * @return
+     * @throws IOException if the root directory can't be walked.
+     */
+    public SweepReport sweep() throws IOException {
+        LOGGER.debug("+sweep(), {}", this);
+        final long startTime = System.nanoTime();
+        final Sweep sweep = new Sweep(System.currentTimeMillis() - maxAge.toMillis());
+        try {
+            if (Files.isDirectory(root) && maxDepth > 0) {
+                Files.walkFileTree(root, Collections.<FileVisitOption>emptySet(), maxDepth, sweep);
+            }
+        } finally {
+            sweep.awaitDeletes();
+        }
+
+        final SweepReport sweepReport = new SweepReport(dryRun, sweep.scannedFiles.sum(), sweep.expiredFiles.sum(),
+                                                        sweep.expiredBytes.sum(), sweep.deletedFiles.sum(),
+                                                        sweep.freedBytes.sum(), sweep.failedFiles.sum(),
+                                                        Duration.ofNanos(System.nanoTime() - startTime));
+        LOGGER.debug("-sweep(), sweepReport:{}", sweepReport);
+        return sweepReport;
+    }
+
+    /**
+     * Schedules the sweeps on the <code>scheduler</code> with the <code>period</code> between the end of a sweep and
+     * the start of the next one. Each report is passed to the <code>reportConsumer</code>, if provided; the failed
+     * sweeps are logged and don't cancel the schedule.
+     *
+     * @param scheduler
+     * @param period
+     * @param reportConsumer
+     * @return
+     */
+    public ScheduledFuture<?> schedule(final ScheduledExecutorService scheduler, final Duration period,
+                                       final Consumer<SweepReport> reportConsumer) {
+        BeanUtils.assertNonNull(scheduler, "Scheduler must not be null!");
+        BeanUtils.assertNonNull(period, "Period must not be null!");
+        return scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                final SweepReport sweepReport = sweep();
+                if (BeanUtils.isNotNull(reportConsumer)) {
+                    reportConsumer.accept(sweepReport);
+                }
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.error("Error sweeping [{}]!", root, ex);
+            }
+        }, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(RetentionSweeper.class)
+            .add("root", root)
+            .add("maxAge", maxAge)
+            .add("maxDepth", maxDepth)
+            .add("extensions", IOUtils.toString(extensions))
+            .add("concurrency", concurrency)
+            .add("maxDeletesPerSecond", maxDeletesPerSecond)
+            .add("dryRun", dryRun)
+            .toString();
+    }
+
+    /**
+     * The state of a single sweep, which visits the files and dispatches the deletes.
+     */
+    private final class Sweep extends SimpleFileVisitor<Path> {
+
+        private final long expiryTimeMillis;
+        private final long intervalNanos;
+        private final ExecutorService executorService;
+        // bounds the in-flight deletes
+        private final Semaphore permits;
+        private final LongAdder scannedFiles = new LongAdder();
+        private final LongAdder expiredFiles = new LongAdder();
+        private final LongAdder expiredBytes = new LongAdder();
+        private final LongAdder deletedFiles = new LongAdder();
+        private final LongAdder freedBytes = new LongAdder();
+        private final LongAdder failedFiles = new LongAdder();
+        private long nextDeleteNanos = System.nanoTime();
+
+        /**
+         * @param expiryTimeMillis
+         */
+        private Sweep(final long expiryTimeMillis) {
+            this.expiryTimeMillis = expiryTimeMillis;
+            this.intervalNanos = (maxDeletesPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / maxDeletesPerSecond) : 0);
+            this.permits = new Semaphore(concurrency);
+            if (concurrency > 1 && !dryRun) {
+                final AtomicInteger threadCount = new AtomicInteger();
+                this.executorService = Executors.newFixedThreadPool(concurrency, runnable -> {
+                    final Thread thread = new Thread(runnable, "retention-sweeper-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            } else {
+                this.executorService = null;
+            }
+        }
+
+        /**
+         * @param file
+         * @param attributes
+         * @return
+         */
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+            if (!attributes.isRegularFile()) {
+                return FileVisitResult.CONTINUE;
+            }
+
+            scannedFiles.increment();
+            if (attributes.lastModifiedTime().toMillis() < expiryTimeMillis
+                && (BeanUtils.isNull(extensions) || IOUtils.endsWith(file.getFileName().toString(), extensions))) {
+                expiredFiles.increment();
+                expiredBytes.add(attributes.size());
+                if (!dryRun) {
+                    dispatchDelete(file, attributes.size());
+                }
+            }
+
+            return FileVisitResult.CONTINUE;
+        }
+
+        /**
+         * @param file
+         * @param ex
+         * @return
+         */
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException ex) {
+            LOGGER.debug("Skipping [{}], reason:{}", file, ex.toString());
+            failedFiles.increment();
+            return FileVisitResult.CONTINUE;
+        }
+
+        /**
+         * Waits for the rate limit and deletes the <code>file</code> on the caller or the pool thread.
+         *
+         * @param file
+         * @param size
+         */
+        private void dispatchDelete(final Path file, final long size) {
+            awaitRateLimit();
+            if (BeanUtils.isNull(executorService)) {
+                delete(file, size);
+                return;
+            }
+
+            permits.acquireUninterruptibly();
+            try {
+                executorService.execute(() -> {
+                    try {
+                        delete(file, size);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                permits.release();
+                throw ex;
+            }
+        }
+
+        /**
+         * Paces the deletes by the <code>maxDeletesPerSecond</code>. It's called by the walking thread only.
+         */
+        private void awaitRateLimit() {
+            if (intervalNanos > 0) {
+                final long waitNanos = nextDeleteNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                nextDeleteNanos = Math.max(nextDeleteNanos, System.nanoTime() - intervalNanos) + intervalNanos;
+            }
+        }
+
+        /**
+         * @param file
+         * @param size
+         */
+        private void delete(final Path file, final long size) {
+            try {
+                if (Files.deleteIfExists(file)) {
+                    deletedFiles.increment();
+                    freedBytes.add(size);
+                }
+            } catch (IOException ex) {
+                LOGGER.debug("Unable to delete [{}], reason:{}", file, ex.toString());
+                failedFiles.increment();
+            }
+        }
+
+        /**
+         * Waits for the in-flight deletes to finish.
+         */
+        private void awaitDeletes() {
+            if (BeanUtils.isNotNull(executorService)) {
+                permits.acquireUninterruptibly(concurrency);
+                permits.release(concurrency);
+                executorService.shutdown();
+            }
+        }
+    }
+}
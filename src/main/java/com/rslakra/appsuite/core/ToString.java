@@ -1,9 +1,20 @@
 package com.rslakra.appsuite.core;
 
-import java.util.Arrays;
+import java.io.IOException;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
+ * The <code>ToString</code> builds the string representation of an object by adding its key/value pairs.
+ * <p>
+ * The elements are written into a single buffer as they are added, and the primitive values are appended without
+ * boxing. The result can be appended to a caller-supplied (i.e. reused) buffer with <code>appendTo()</code> instead of
+ * creating a new string.
+ *
+ * <pre>
+ *  LOGGER.debug("{}", ToString.ifEnabled(LOGGER.isDebugEnabled(), User.class).add("id", id).add("age", age));
+ * </pre>
+ *
  * @author Rohtash Lakra
  * @version 1.0.0
  * @created 12/13/21 5:41 PM
@@ -16,25 +27,20 @@ public final class ToString {
     public static final String PREFIX = "<";
     public static final String SUFFIX = ">";
     public static final String SEPARATOR = "=";
+    // the shared instance, which ignores all the elements
+    private static final ToString DISABLED = new ToString(EMPTY_STR, EMPTY_STR, EMPTY_STR, false);
+    private static final int MAX_LOCAL_BUFFER_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> LOCAL_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
 
     private final String delimiter;
     private final String prefix;
     private final String suffix;
+    private final boolean enabled;
 
     /**
-     * Contains all the string component added so far.
+     * Contains the prefix and all the elements added so far, or null if no element is added yet.
      */
-    private String[] elements;
-
-    /**
-     * The number of string component added so far.
-     */
-    private int size;
-
-    /**
-     * Total length in chars so far, excluding prefix and suffix.
-     */
-    private int length;
+    private StringBuilder elements;
 
     /**
      * When overridden by the user to be non-null via {setEmptyValue}, the string returned by toString() when no
@@ -51,8 +57,10 @@ public final class ToString {
      * @param delimiter the sequence of characters to be used between each element added to the {@code ToString}
      * @param prefix    the sequence of characters to be used at the beginning
      * @param suffix    the sequence of characters to be used at the end
+     * @param enabled   false to ignore all the elements
      */
-    public ToString(final CharSequence delimiter, final CharSequence prefix, final CharSequence suffix) {
+    private ToString(final CharSequence delimiter, final CharSequence prefix, final CharSequence suffix,
+                     final boolean enabled) {
         // make defensive copies of arguments
         Objects.requireNonNull(delimiter, "The delimiter must not be null!");
         Objects.requireNonNull(prefix, "The prefix must not be null!");
@@ -60,33 +68,28 @@ public final class ToString {
         this.delimiter = delimiter.toString();
         this.prefix = prefix.toString();
         this.suffix = suffix.toString();
+        this.enabled = enabled;
     }
 
     /**
-     * ToString Constructor.
+     * Constructs a {@code ToString} with no characters in it using copies of the supplied {@code prefix},
+     * {@code delimiter} and {@code suffix}.
      *
-     * @param delimiter
+     * @param delimiter the sequence of characters to be used between each element added to the {@code ToString}
+     * @param prefix    the sequence of characters to be used at the beginning
+     * @param suffix    the sequence of characters to be used at the end
      */
-    public ToString(final CharSequence delimiter) {
-        this(delimiter, EMPTY_STR, EMPTY_STR);
+    public ToString(final CharSequence delimiter, final CharSequence prefix, final CharSequence suffix) {
+        this(delimiter, prefix, suffix, true);
     }
 
     /**
-     * Copies characters from <code>self</code> string into the destination <code>chars</code> array.
+     * ToString Constructor.
      *
-     * @param self
-     * @param chars
-     * @param startOffset
-     * @return
+     * @param delimiter
      */
-    private int fillChars(String self, char[] chars, int startOffset) {
-        int length = 0;
-        if (Objects.nonNull(self)) {
-            length = self.length();
-            self.getChars(0, length, chars, startOffset);
-        }
-
-        return length;
+    public ToString(final CharSequence delimiter) {
+        this(delimiter, EMPTY_STR, EMPTY_STR);
     }
 
     /**
@@ -211,6 +214,61 @@ public final class ToString {
         return of(null);
     }
 
+    /**
+     * Returns the {@code ToString} of the <code>classType</code> if <code>enabled</code> (i.e. the log level is
+     * enabled), otherwise the shared instance, which skips all the work of adding the elements.
+     *
+     * @param enabled
+     * @param classType
+     * @param <T>
+     * @return
+     */
+    public static <T> ToString ifEnabled(final boolean enabled, final Class<T> classType) {
+        return (enabled ? of(classType) : DISABLED);
+    }
+
+    /**
+     * Returns the object, which calls the <code>supplier</code> only when its string representation is requested. The
+     * loggers with the parameterized messages call it only if the log level is enabled.
+     *
+     * <pre>
+     *  LOGGER.debug("user:{}", ToString.lazy(() -> TextUtils.toString(user)));
+     * </pre>
+     *
+     * @param supplier
+     * @return
+     */
+    public static Object lazy(final Supplier<?> supplier) {
+        Objects.requireNonNull(supplier, "The supplier must not be null!");
+        return new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(supplier.get());
+            }
+        };
+    }
+
+    /**
+     * Returns the empty buffer of the current thread, which can be reused for building the strings with
+     * <code>appendTo()</code> without allocating a new buffer each time.
+     * <p>
+     * The buffer is shared by all the callers on the same thread, so it must be turned into a string before the next
+     * call of this method (i.e. it must not be used by the nested <code>toString()</code> calls).
+     *
+     * @return
+     */
+    public static StringBuilder localBuffer() {
+        StringBuilder buffer = LOCAL_BUFFER.get();
+        if (buffer.capacity() > MAX_LOCAL_BUFFER_CAPACITY) {
+            // don't keep the huge buffers around
+            buffer = new StringBuilder(256);
+            LOCAL_BUFFER.set(buffer);
+        }
+
+        buffer.setLength(0);
+        return buffer;
+    }
+
     /**
      * Sets the sequence of characters to be used when determining the string representation of this {@code ToString}
      * and no elements have been added yet, that is, when it is empty.  A copy of the {@code emptyValue} parameter is
@@ -222,6 +280,10 @@ public final class ToString {
      * @throws NullPointerException when the {@code emptyValue} parameter is {@code null}
      */
     public ToString setEmptyValue(final CharSequence emptyValue) {
+        if (!enabled) {
+            return this;
+        }
+
         this.emptyValue = Objects.requireNonNull(emptyValue, "The empty value must not be null").toString();
         return this;
     }
@@ -235,30 +297,83 @@ public final class ToString {
      */
     @Override
     public String toString() {
-        final String[] elements = this.elements;
-        if (elements == null && emptyValue != null) {
-            return emptyValue;
+        if (Objects.isNull(elements)) {
+            return (Objects.nonNull(emptyValue) ? emptyValue : prefix + suffix);
+        } else if (suffix.isEmpty()) {
+            return elements.toString();
         }
-        final int size = this.size;
-        final int addLength = prefix.length() + suffix.length();
-        if (addLength == 0) {
-            compactElements();
-            return size == 0 ? EMPTY_STR : elements[0];
+
+        final int length = elements.length();
+        final String result = elements.append(suffix).toString();
+        elements.setLength(length);
+        return result;
+    }
+
+    /**
+     * Appends the current value (same as the <code>toString()</code>) to the <code>buffer</code> without creating
+     * the intermediate string.
+     *
+     * @param buffer
+     * @return the <code>buffer</code>
+     */
+    public StringBuilder appendTo(final StringBuilder buffer) {
+        Objects.requireNonNull(buffer, "The buffer must not be null!");
+        if (Objects.isNull(elements)) {
+            return (Objects.nonNull(emptyValue) ? buffer.append(emptyValue) : buffer.append(prefix).append(suffix));
         }
 
-        final String delimiter = this.delimiter;
-        final char[] allElements = new char[length + addLength];
-        int charIndex = fillChars(prefix, allElements, 0);
-        if (size > 0) {
-            charIndex += fillChars(elements[0], allElements, charIndex);
-            for (int i = 1; i < size; i++) {
-                charIndex += fillChars(delimiter, allElements, charIndex);
-                charIndex += fillChars(elements[i], allElements, charIndex);
+        return buffer.append(elements).append(suffix);
+    }
+
+    /**
+     * Appends the current value (same as the <code>toString()</code>) to the <code>appendable</code> (i.e. a
+     * <code>Writer</code>) without creating the intermediate string.
+     *
+     * @param appendable
+     * @param <A>
+     * @return the <code>appendable</code>
+     * @throws IOException
+     */
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        Objects.requireNonNull(appendable, "The appendable must not be null!");
+        if (Objects.isNull(elements)) {
+            if (Objects.nonNull(emptyValue)) {
+                appendable.append(emptyValue);
+            } else {
+                appendable.append(prefix).append(suffix);
             }
+        } else {
+            appendable.append(elements).append(suffix);
         }
 
-        charIndex += fillChars(suffix, allElements, charIndex);
-        return new String(allElements);
+        return appendable;
+    }
+
+    /**
+     * Starts the next element and returns the buffer to write it into.
+     *
+     * @return
+     */
+    private StringBuilder nextElement() {
+        if (Objects.isNull(elements)) {
+            elements = new StringBuilder(prefix.length() + 64).append(prefix);
+        } else {
+            elements.append(delimiter);
+        }
+
+        return elements;
+    }
+
+    /**
+     * Starts the next element with the <code>key</code> and the <code>SEPARATOR</code>, if the <code>key</code> is
+     * not null.
+     *
+     * @param key
+     * @return
+     */
+    private StringBuilder nextElement(final CharSequence key) {
+        final StringBuilder buffer = nextElement();
+        return (Objects.isNull(key) ? buffer : buffer.append(key).append(SEPARATOR));
     }
 
     /**
@@ -268,17 +383,10 @@ public final class ToString {
      * @return
      */
     public ToString add(CharSequence newValue) {
-        final String element = String.valueOf(newValue);
-        if (this.elements == null) {
-            this.elements = new String[8];
-        } else {
-            if (size == this.elements.length) {
-                this.elements = Arrays.copyOf(this.elements, 2 * size);
-            }
-            length += this.delimiter.length();
+        if (enabled) {
+            nextElement().append(newValue);
         }
-        length += element.length();
-        this.elements[size++] = element;
+
         return this;
     }
 
@@ -289,15 +397,106 @@ public final class ToString {
      * @return
      */
     public ToString add(CharSequence key, Object value) {
-        if (Objects.nonNull(key) && Objects.nonNull(value)) {
-            return add(key + SEPARATOR + value);
-        } else if (Objects.isNull(key) && Objects.nonNull(value)) {
-            return add(Objects.toString(value));
+        if (!enabled) {
+            return this;
+        } else if (Objects.nonNull(value)) {
+            nextElement(key).append(value);
+            return this;
         } else {
             return add(key);
         }
     }
 
+    /**
+     * Adds the <code>key</code> and <code>value</code> to the string object without boxing the <code>value</code>.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public ToString add(CharSequence key, int value) {
+        if (enabled) {
+            nextElement(key).append(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the <code>key</code> and <code>value</code> to the string object without boxing the <code>value</code>.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public ToString add(CharSequence key, char value) {
+        if (enabled) {
+            nextElement(key).append(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the <code>key</code> and <code>value</code> to the string object without boxing the <code>value</code>.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public ToString add(CharSequence key, long value) {
+        if (enabled) {
+            nextElement(key).append(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the <code>key</code> and <code>value</code> to the string object without boxing the <code>value</code>.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public ToString add(CharSequence key, float value) {
+        if (enabled) {
+            nextElement(key).append(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the <code>key</code> and <code>value</code> to the string object without boxing the <code>value</code>.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public ToString add(CharSequence key, double value) {
+        if (enabled) {
+            nextElement(key).append(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the <code>key</code> and <code>value</code> to the string object without boxing the <code>value</code>.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public ToString add(CharSequence key, boolean value) {
+        if (enabled) {
+            nextElement(key).append(value);
+        }
+
+        return this;
+    }
+
     /**
      * Adds the contents of the given {@code ToString} without prefix and suffix as the next element if it is non-empty.
      * If the given {@code ToString} is empty, the call has no effect.
@@ -315,33 +514,15 @@ public final class ToString {
      */
     public ToString merge(final ToString other) {
         Objects.requireNonNull(other);
-        if (Objects.isNull(other.elements)) {
+        if (!enabled || Objects.isNull(other.elements)) {
             return this;
         }
-        other.compactElements();
-        return add(other.elements[0]);
-    }
-
-    /**
-     * Compacts elements.
-     */
-    private void compactElements() {
-        if (size > 1) {
-            final char[] chars = new char[length];
-            int index = 0;
-            int startIndex = 0;
-            while (index < size) {
-                if (startIndex > 0) {
-                    startIndex += fillChars(delimiter, chars, startIndex);
-                }
-                startIndex += fillChars(elements[index], chars, startIndex);
-                elements[index] = null;
-                index++;
-            }
 
-            size = 1;
-            elements[0] = new String(chars);
-        }
+        // the other elements without its prefix
+        final StringBuilder otherElements = other.elements;
+        final int end = otherElements.length();
+        nextElement().append(otherElements, other.prefix.length(), end);
+        return this;
     }
 
     /**
@@ -352,7 +533,10 @@ public final class ToString {
      * @return the length of the current value of {@code ToString}
      */
     public int length() {
-        return (size == 0 && Objects.nonNull(emptyValue)) ? emptyValue.length()
-                                                          : length + prefix.length() + suffix.length();
+        if (Objects.isNull(elements)) {
+            return (Objects.nonNull(emptyValue) ? emptyValue.length() : prefix.length() + suffix.length());
+        }
+
+        return elements.length() + suffix.length();
     }
 }
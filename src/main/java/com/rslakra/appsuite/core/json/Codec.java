@@ -0,0 +1,88 @@
+package com.rslakra.appsuite.core.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The <code>Codec</code> encodes the objects into the bytes of a serialization format (i.e. JSON, Smile or CBOR) and
+ * decodes them back.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 7:05 PM
+ */
+public interface Codec {
+
+    /**
+     * Returns the content type (i.e. <code>application/json</code>) of the encoded bytes.
+     *
+     * @return
+     */
+    String getContentType();
+
+    /**
+     * Returns true if the format is binary otherwise false.
+     *
+     * @return
+     */
+    default boolean isBinary() {
+        return false;
+    }
+
+    /**
+     * Returns the encoded bytes of the <code>object</code>.
+     *
+     * @param object
+     * @return
+     * @throws IOException
+     */
+    byte[] encode(Object object) throws IOException;
+
+    /**
+     * Writes the encoded <code>object</code> into the <code>outputStream</code>. The <code>outputStream</code> is
+     * flushed but not closed.
+     *
+     * @param object
+     * @param outputStream
+     * @throws IOException
+     */
+    void encode(Object object, OutputStream outputStream) throws IOException;
+
+    /**
+     * Returns the object of the <code>classType</code> from the <code>length</code> encoded bytes starting at the
+     * <code>offset</code>.
+     *
+     * @param dataBytes
+     * @param offset
+     * @param length
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    <T> T decode(byte[] dataBytes, int offset, int length, Class<T> classType) throws IOException;
+
+    /**
+     * Returns the object of the <code>classType</code> from the encoded bytes.
+     *
+     * @param dataBytes
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    default <T> T decode(final byte[] dataBytes, final Class<T> classType) throws IOException {
+        return decode(dataBytes, 0, dataBytes.length, classType);
+    }
+
+    /**
+     * Returns the object of the <code>classType</code> from the encoded bytes of the <code>inputStream</code>.
+     *
+     * @param inputStream
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    <T> T decode(InputStream inputStream, Class<T> classType) throws IOException;
+}
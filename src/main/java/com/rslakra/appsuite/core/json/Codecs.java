@@ -0,0 +1,213 @@
+package com.rslakra.appsuite.core.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.rslakra.appsuite.core.BeanUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The <code>Codecs</code> is the registry of the <code>Codec</code> by their content types, with the content type
+ * negotiation helpers.
+ * <p>
+ * The JSON codec is always registered. The Smile and CBOR codecs are registered automatically, if the
+ * <code>jackson-dataformat-smile</code> or <code>jackson-dataformat-cbor</code> module is available on the classpath.
+ *
+ * <pre>
+ *  final Codec codec = Codecs.negotiate(request.getHeader("Accept"));
+ *  response.setHeader("Content-Type", codec.getContentType());
+ *  codec.encode(payload, response.getOutputStream());
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 7:24 PM
+ */
+public enum Codecs {
+    INSTANCE;
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(Codecs.class);
+    public static final String APPLICATION_JSON = "application/json";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_CBOR = "application/cbor";
+    private static final String SMILE_FACTORY = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+    private static final String CBOR_FACTORY = "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
+    private static final String ANY_TYPE = "*/*";
+
+    private final Codec jsonCodec = JacksonCodec.of(APPLICATION_JSON, new JsonFactory());
+    private final Map<String, Codec> codecs = new ConcurrentHashMap<>();
+
+    Codecs() {
+        codecs.put(APPLICATION_JSON, jsonCodec);
+    }
+
+    // the optional binary formats (after the LOGGER is initialized)
+    static {
+        INSTANCE.registerIfAvailable(APPLICATION_SMILE, SMILE_FACTORY);
+        INSTANCE.registerIfAvailable(APPLICATION_CBOR, CBOR_FACTORY);
+    }
+
+    /**
+     * Registers the codec of the <code>jsonFactoryClassName</code> format, if it's available on the classpath.
+     *
+     * @param contentType
+     * @param jsonFactoryClassName
+     */
+    private void registerIfAvailable(final String contentType, final String jsonFactoryClassName) {
+        try {
+            final JsonFactory jsonFactory = (JsonFactory) Class.forName(jsonFactoryClassName)
+                .getDeclaredConstructor().newInstance();
+            codecs.put(contentType, JacksonCodec.of(contentType, jsonFactory));
+            LOGGER.debug("Registered [{}] codec.", contentType);
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            LOGGER.debug("No [{}] codec, reason:{}", contentType, ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the media type of the <code>contentType</code> without the parameters (i.e. the charset) in the lower
+     * case.
+     *
+     * @param contentType
+     * @return
+     */
+    private static String toMediaType(final String contentType) {
+        final int index = contentType.indexOf(';');
+        return (index < 0 ? contentType : contentType.substring(0, index)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Registers the <code>codec</code> by its content type, replacing the existing one, if any.
+     *
+     * @param codec
+     */
+    public static void register(final Codec codec) {
+        BeanUtils.assertNonNull(codec, "Codec must not be null!");
+        INSTANCE.codecs.put(toMediaType(codec.getContentType()), codec);
+    }
+
+    /**
+     * Unregisters the codec of the <code>contentType</code>, if any.
+     *
+     * @param contentType
+     * @return the unregistered codec or null.
+     */
+    public static Codec unregister(final String contentType) {
+        BeanUtils.assertNonNull(contentType, "ContentType must not be null!");
+        return INSTANCE.codecs.remove(toMediaType(contentType));
+    }
+
+    /**
+     * Returns the JSON codec.
+     *
+     * @return
+     */
+    public static Codec json() {
+        return INSTANCE.jsonCodec;
+    }
+
+    /**
+     * Returns the registered codecs.
+     *
+     * @return
+     */
+    public static Collection<Codec> getCodecs() {
+        return Collections.unmodifiableCollection(INSTANCE.codecs.values());
+    }
+
+    /**
+     * Returns the codec of the <code>contentType</code> header (i.e. <code>application/json; charset=UTF-8</code>) or
+     * null if there isn't any.
+     *
+     * @param contentType
+     * @return
+     */
+    public static Codec forContentType(final String contentType) {
+        return (BeanUtils.isEmpty(contentType) ? null : INSTANCE.codecs.get(toMediaType(contentType)));
+    }
+
+    /**
+     * Returns the quality (the <code>q</code> parameter) of the <code>mediaRange</code> of the <code>Accept</code>
+     * header.
+     *
+     * @param mediaRange
+     * @return
+     */
+    private static double toQuality(final String mediaRange) {
+        for (String parameter : mediaRange.split(";")) {
+            final String param = parameter.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1.0D;
+    }
+
+    /**
+     * Returns the registered codec of the <code>mediaType</code>, which can be a range (i.e. <code>*&#47;*</code> or
+     * <code>application/*</code>), or null if there isn't any.
+     *
+     * @param mediaType
+     * @return
+     */
+    private static Codec findCodec(final String mediaType) {
+        if (ANY_TYPE.equals(mediaType)) {
+            return json();
+        } else if (mediaType.endsWith("/*")) {
+            final String typePrefix = mediaType.substring(0, mediaType.length() - 1);
+            return (APPLICATION_JSON.startsWith(typePrefix) ? json()
+                                                            : INSTANCE.codecs.entrySet().stream()
+                                                                .filter(entry -> entry.getKey().startsWith(typePrefix))
+                                                                .map(Map.Entry::getValue)
+                                                                .findFirst()
+                                                                .orElse(null));
+        }
+
+        return INSTANCE.codecs.get(mediaType);
+    }
+
+    /**
+     * Returns the registered codec preferred by the <code>accept</code> header (i.e.
+     * <code>application/cbor;q=0.9, application/json;q=0.5</code>), or the JSON codec if the header is empty or none
+     * of its media types is registered.
+     *
+     * @param accept
+     * @return
+     */
+    public static Codec negotiate(final String accept) {
+        if (BeanUtils.isEmpty(accept)) {
+            return json();
+        }
+
+        final List<String> mediaRanges = new ArrayList<>();
+        for (String mediaRange : accept.split(",")) {
+            if (toQuality(mediaRange) > 0) {
+                mediaRanges.add(mediaRange);
+            }
+        }
+
+        // the stable sort keeps the order of the same quality
+        mediaRanges.sort(Comparator.comparingDouble(Codecs::toQuality).reversed());
+        for (String mediaRange : mediaRanges) {
+            final Codec codec = findCodec(toMediaType(mediaRange));
+            if (BeanUtils.isNotNull(codec)) {
+                return codec;
+            }
+        }
+
+        return json();
+    }
+}
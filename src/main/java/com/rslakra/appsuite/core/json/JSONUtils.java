@@ -47,12 +47,22 @@ import com.google.gson.reflect.TypeToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * JSON utility class.
@@ -66,12 +76,24 @@ public enum JSONUtils {
 
     // LOGGER
     private static final Logger LOGGER = LoggerFactory.getLogger(JSONUtils.class);
+    // the Gson with the default configuration
+    private static final Gson DEFAULT_GSON = new Gson();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private GsonBuilder gsonBuilder;
+    // the JSON codec of the objectMapper
+    private final Codec jsonCodec = JacksonCodec.of(Codecs.APPLICATION_JSON, objectMapper);
+    // the codec of the encode/decode methods
+    private volatile Codec codec = jsonCodec;
+    // the configuration of the Gson instances
+    private FieldNamingPolicy fieldNamingPolicy = FieldNamingPolicy.IDENTITY;
+    private boolean serializeNulls;
+    // the pre-built Gson instances of the current configuration, which are thread-safe.
+    private volatile Gson gson;
+    private volatile Gson prettyGson;
 
     private JSONUtils() {
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        buildGson();
     }
 
     /**
@@ -82,21 +104,34 @@ public enum JSONUtils {
     }
 
     /**
+     * Returns the new <code>GsonBuilder</code> of the current configuration.
+     *
      * @param prettyPrint
      * @return
      */
-    private GsonBuilder getGsonBuilder(final boolean prettyPrint) {
-        if (Objects.isNull(gsonBuilder)) {
-            gsonBuilder = new GsonBuilder();
-            gsonBuilder.enableComplexMapKeySerialization();
-            if (prettyPrint) {
-                gsonBuilder.setPrettyPrinting();
-            }
+    private GsonBuilder newGsonBuilder(final boolean prettyPrint) {
+        final GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.enableComplexMapKeySerialization();
+        gsonBuilder.setFieldNamingPolicy(fieldNamingPolicy);
+        if (serializeNulls) {
+            gsonBuilder.serializeNulls();
+        }
+        if (prettyPrint) {
+            gsonBuilder.setPrettyPrinting();
         }
 
         return gsonBuilder;
     }
 
+    /**
+     * Builds the <code>Gson</code> instances of the current configuration. The <code>Gson</code> is immutable, so the
+     * instances (and their type adapters) are shared by all the calls until the configuration changes.
+     */
+    private synchronized void buildGson() {
+        gson = newGsonBuilder(false).create();
+        prettyGson = newGsonBuilder(true).create();
+    }
+
     /**
      * @param jsonString
      * @param responseType
@@ -119,6 +154,94 @@ public enum JSONUtils {
         return INSTANCE.getObjectMapper().readValue(inputStream, responseType);
     }
 
+    /**
+     * Returns the lazy stream of the elements of the JSON array of the <code>inputStream</code>. The elements are
+     * bound one at a time while the stream is consumed, so the whole array is never loaded in the memory.
+     * <p>
+     * The <code>inputStream</code> is closed when all the elements are read or the stream is closed, so it should be
+     * used in the try-with-resources block.
+     *
+     * <pre>
+     *  try (Stream&lt;User&gt; users = JSONUtils.streamArray(inputStream, User.class)) {
+     *      users.forEach(userService::save);
+     *  }
+     * </pre>
+     *
+     * @param inputStream
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException if the content is not a JSON array
+     */
+    public static <T> Stream<T> streamArray(final InputStream inputStream, final Class<T> classType)
+        throws IOException {
+        final JsonArrayIterator<T> arrayIterator = newArrayIterator(inputStream, classType);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(arrayIterator, Spliterator.ORDERED), false)
+            .onClose(arrayIterator::closeQuietly);
+    }
+
+    /**
+     * Returns the lazy stream of the chunks of the <code>batchSize</code> elements (the last chunk can be smaller) of
+     * the JSON array of the <code>inputStream</code>. Only one chunk is loaded in the memory at a time.
+     *
+     * @param inputStream
+     * @param classType
+     * @param batchSize
+     * @param <T>
+     * @return
+     * @throws IOException if the content is not a JSON array
+     * @see #streamArray(InputStream, Class)
+     */
+    public static <T> Stream<List<T>> streamArray(final InputStream inputStream, final Class<T> classType,
+                                                  final int batchSize) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batchSize must be positive!");
+        }
+
+        final JsonArrayIterator<T> arrayIterator = newArrayIterator(inputStream, classType);
+        final Iterator<List<T>> batchIterator = new Iterator<List<T>>() {
+            @Override
+            public boolean hasNext() {
+                return arrayIterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final List<T> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && arrayIterator.hasNext()) {
+                    batch.add(arrayIterator.next());
+                }
+
+                return batch;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batchIterator, Spliterator.ORDERED), false)
+            .onClose(arrayIterator::closeQuietly);
+    }
+
+    /**
+     * Returns the iterator of the elements of the JSON array of the <code>inputStream</code>.
+     *
+     * @param inputStream
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    private static <T> JsonArrayIterator<T> newArrayIterator(final InputStream inputStream, final Class<T> classType)
+        throws IOException {
+        BeanUtils.assertNonNull(inputStream, "InputStream must not be null!");
+        BeanUtils.assertNonNull(classType, "ClassType must not be null!");
+        final ObjectMapper objectMapper = INSTANCE.getObjectMapper();
+        return new JsonArrayIterator<>(objectMapper.getFactory().createParser(inputStream),
+                                       objectMapper.readerFor(classType));
+    }
+
 
     /**
      * @param object
@@ -129,6 +252,142 @@ public enum JSONUtils {
         return INSTANCE.getObjectMapper().writeValueAsString(object);
     }
 
+    /**
+     * Returns the UTF-8 JSON bytes of the <code>object</code>, without creating the intermediate string.
+     *
+     * @param object
+     * @return
+     * @throws IOException
+     */
+    public static byte[] toJsonBytes(final Object object) throws IOException {
+        return INSTANCE.getObjectMapper().writeValueAsBytes(object);
+    }
+
+    /**
+     * Writes the <code>object</code> as the UTF-8 JSON directly into the <code>outputStream</code> (i.e. of a
+     * socket). The <code>outputStream</code> is flushed but not closed.
+     *
+     * @param object
+     * @param outputStream
+     * @throws IOException
+     */
+    public static void writeJson(final Object object, final OutputStream outputStream) throws IOException {
+        INSTANCE.jsonCodec.encode(object, outputStream);
+    }
+
+    /**
+     * Sets the <code>codec</code> of the <code>encode()</code>/<code>decode()</code> methods (i.e. the Smile or CBOR
+     * codec of the <code>Codecs</code> for the service-to-service traffic). The default is the JSON codec.
+     *
+     * @param codec
+     */
+    public final void setCodec(final Codec codec) {
+        this.codec = (BeanUtils.isNull(codec) ? jsonCodec : codec);
+    }
+
+    /**
+     * Returns the codec of the <code>encode()</code>/<code>decode()</code> methods.
+     *
+     * @return
+     */
+    public final Codec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the bytes of the <code>object</code> encoded with the current codec.
+     *
+     * @param object
+     * @return
+     * @throws IOException
+     * @see #setCodec(Codec)
+     */
+    public static byte[] encode(final Object object) throws IOException {
+        return INSTANCE.getCodec().encode(object);
+    }
+
+    /**
+     * Writes the <code>object</code> encoded with the current codec into the <code>outputStream</code>.
+     *
+     * @param object
+     * @param outputStream
+     * @throws IOException
+     * @see #setCodec(Codec)
+     */
+    public static void encode(final Object object, final OutputStream outputStream) throws IOException {
+        INSTANCE.getCodec().encode(object, outputStream);
+    }
+
+    /**
+     * Returns the object of the <code>classType</code> from the bytes encoded with the current codec.
+     *
+     * @param dataBytes
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     * @see #setCodec(Codec)
+     */
+    public static <T> T decode(final byte[] dataBytes, final Class<T> classType) throws IOException {
+        return INSTANCE.getCodec().decode(dataBytes, classType);
+    }
+
+    /**
+     * Returns the object of the <code>classType</code> from the bytes of the <code>inputStream</code> encoded with the
+     * current codec.
+     *
+     * @param inputStream
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     * @see #setCodec(Codec)
+     */
+    public static <T> T decode(final InputStream inputStream, final Class<T> classType) throws IOException {
+        return INSTANCE.getCodec().decode(inputStream, classType);
+    }
+
+    /**
+     * Returns the object of the <code>responseType</code> from the <code>length</code> UTF-8 JSON bytes of the
+     * <code>jsonBytes</code> starting at the <code>offset</code>, without copying them into a string.
+     *
+     * @param jsonBytes
+     * @param offset
+     * @param length
+     * @param responseType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    public static <T> T fromJson(final byte[] jsonBytes, final int offset, final int length,
+                                 final Class<T> responseType) throws IOException {
+        return INSTANCE.getObjectMapper().readValue(jsonBytes, offset, length, responseType);
+    }
+
+    /**
+     * Returns the object of the <code>responseType</code> from the UTF-8 JSON <code>jsonBytes</code>.
+     *
+     * @param jsonBytes
+     * @param responseType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    public static <T> T fromJson(final byte[] jsonBytes, final Class<T> responseType) throws IOException {
+        return fromJson(jsonBytes, 0, jsonBytes.length, responseType);
+    }
+
+    /**
+     * Returns the reader of the UTF-8 <code>dataBytes</code>, which decodes them while reading (instead of creating
+     * a string of all the bytes first).
+     *
+     * @param dataBytes
+     * @return
+     */
+    private static Reader newUTF8Reader(final byte[] dataBytes) {
+        return new InputStreamReader(new ByteArrayInputStream(dataBytes), StandardCharsets.UTF_8);
+    }
+
     /**
      * <code>FieldNamingPolicy.IDENTITY</code> will ensure that the field name is unchanged. This is default
      * behavior.
@@ -150,9 +409,10 @@ public enum JSONUtils {
      *
      * @param fieldNamingPolicy
      */
-    public final void setFieldNamingPolicy(final FieldNamingPolicy fieldNamingPolicy) {
-        if (BeanUtils.isNotNull(fieldNamingPolicy)) {
-            getGsonBuilder(true).setFieldNamingPolicy(fieldNamingPolicy);
+    public final synchronized void setFieldNamingPolicy(final FieldNamingPolicy fieldNamingPolicy) {
+        if (BeanUtils.isNotNull(fieldNamingPolicy) && fieldNamingPolicy != this.fieldNamingPolicy) {
+            this.fieldNamingPolicy = fieldNamingPolicy;
+            buildGson();
         }
     }
 
@@ -161,25 +421,28 @@ public enum JSONUtils {
      * By default, Gson ignores null properties during serialization. But, sometimes we want to serialize fields with
      * null value so that it must appear in JSON. Use serializeNulls() method for this purpose.
      */
-    public final void serializeNulls() {
-        getGsonBuilder(true).serializeNulls();
+    public final synchronized void serializeNulls() {
+        if (!serializeNulls) {
+            serializeNulls = true;
+            buildGson();
+        }
     }
 
     /**
-     * Returns the GSON object.
+     * Returns the cached GSON object of the current configuration.
      *
      * @param prettyPrint
      * @return
      */
-    private Gson createGson(final boolean prettyPrint) {
-        return getGsonBuilder(prettyPrint).create();
+    private Gson getGson(final boolean prettyPrint) {
+        return (prettyPrint ? prettyGson : gson);
     }
 
     /**
      * @return
      */
-    private Gson createGson() {
-        return createGson(false);
+    private Gson getGson() {
+        return gson;
     }
 
     /**
@@ -190,7 +453,7 @@ public enum JSONUtils {
      * @return
      */
     public static String toJSONString(final Object object, final boolean prettyPrint) {
-        return INSTANCE.createGson(prettyPrint).toJson(object);
+        return INSTANCE.getGson(prettyPrint).toJson(object);
     }
 
     /**
@@ -208,7 +471,7 @@ public enum JSONUtils {
      * @return
      */
     public static String toJSONString(final List<String> listStrings) {
-        return (BeanUtils.isNotEmpty(listStrings) ? INSTANCE.createGson().toJson(listStrings) : BeanUtils.EMPTY_STR);
+        return (BeanUtils.isNotEmpty(listStrings) ? INSTANCE.getGson().toJson(listStrings) : BeanUtils.EMPTY_STR);
     }
 
     /**
@@ -228,7 +491,7 @@ public enum JSONUtils {
      * @return
      */
     public static String toJSONString(final Map<String, String> mapData) {
-        return INSTANCE.createGson().toJson(mapData);
+        return INSTANCE.getGson().toJson(mapData);
     }
 
     /**
@@ -239,7 +502,7 @@ public enum JSONUtils {
      * @return
      */
     public static <T> T fromJSONString(final String jsonString, final Class<T> responseType) {
-        return INSTANCE.createGson().fromJson(jsonString, responseType);
+        return INSTANCE.getGson().fromJson(jsonString, responseType);
     }
 
     /**
@@ -254,6 +517,72 @@ public enum JSONUtils {
         return (T) fromJSONString(jsonString, Map.class).get(key);
     }
 
+    /**
+     * Returns the values of the <code>paths</code> (i.e. <code>user.addresses[2].city</code>) from the JSON
+     * <code>inputStream</code>, reading only the tokens up to the last path found and skipping the unrelated subtrees
+     * without building any object. The objects and arrays are returned as the <code>Map</code> and <code>List</code>.
+     * <p>
+     * The paths which are not found are not included in the result. The <code>inputStream</code> is closed.
+     *
+     * @param inputStream
+     * @param paths
+     * @return the values by the paths found.
+     * @throws IOException
+     */
+    public static Map<String, Object> extractAll(final InputStream inputStream, final String... paths)
+        throws IOException {
+        BeanUtils.assertNonNull(inputStream, "InputStream must not be null!");
+        final ObjectMapper objectMapper = INSTANCE.getObjectMapper();
+        return new JsonPathExtractor(objectMapper, paths).extract(objectMapper.getFactory().createParser(inputStream));
+    }
+
+    /**
+     * Returns the values of the <code>paths</code> from the JSON <code>jsonBytes</code>.
+     *
+     * @param jsonBytes
+     * @param paths
+     * @return the values by the paths found.
+     * @throws IOException
+     * @see #extractAll(InputStream, String...)
+     */
+    public static Map<String, Object> extractAll(final byte[] jsonBytes, final String... paths) throws IOException {
+        BeanUtils.assertNonNull(jsonBytes, "JSON bytes must not be null!");
+        final ObjectMapper objectMapper = INSTANCE.getObjectMapper();
+        return new JsonPathExtractor(objectMapper, paths).extract(objectMapper.getFactory().createParser(jsonBytes));
+    }
+
+    /**
+     * Returns the value of the <code>path</code> (i.e. <code>a.b[2].c</code>) from the JSON <code>inputStream</code>
+     * or null if the path is not found.
+     *
+     * @param inputStream
+     * @param path
+     * @param <T>
+     * @return
+     * @throws IOException
+     * @see #extractAll(InputStream, String...)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T extract(final InputStream inputStream, final String path) throws IOException {
+        return (T) extractAll(inputStream, path).get(path);
+    }
+
+    /**
+     * Returns the value of the <code>path</code> (i.e. <code>a.b[2].c</code>) from the JSON <code>jsonBytes</code>
+     * or null if the path is not found.
+     *
+     * @param jsonBytes
+     * @param path
+     * @param <T>
+     * @return
+     * @throws IOException
+     * @see #extractAll(InputStream, String...)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T extract(final byte[] jsonBytes, final String path) throws IOException {
+        return (T) extractAll(jsonBytes, path).get(path);
+    }
+
     /**
      * @param jsonObject
      * @param propertyName
@@ -276,8 +605,7 @@ public enum JSONUtils {
         JsonArray jsonArray = toJSONArray(jsonString);
         if (jsonArray != null) {
             for (int i = 0; i < jsonArray.size(); i++) {
-                Gson gson = new Gson();
-                T object = gson.fromJson(jsonArray.get(i), classType);
+                T object = DEFAULT_GSON.fromJson(jsonArray.get(i), classType);
                 objects.add(object);
             }
         }
@@ -361,7 +689,7 @@ public enum JSONUtils {
     public static <T> List<T> listOfType(final String jsonString) {
         TypeToken<List<T>> typeToken = new TypeToken<List<T>>() {
         };
-        List<T> listOfObjects = INSTANCE.createGson().fromJson(jsonString, typeToken.getType());
+        List<T> listOfObjects = INSTANCE.getGson().fromJson(jsonString, typeToken.getType());
         return listOfObjects;
     }
 
@@ -373,7 +701,7 @@ public enum JSONUtils {
         TypeToken<List<String[]>> typeToken = new TypeToken<List<String[]>>() {
         };
 
-        List<String[]> list = INSTANCE.createGson().fromJson(jsonString, typeToken.getType());
+        List<String[]> list = INSTANCE.getGson().fromJson(jsonString, typeToken.getType());
         return list;
     }
 
@@ -386,7 +714,7 @@ public enum JSONUtils {
     public static Map<String, Object> toMap(final String jsonString) {
         TypeToken<Map<String, Object>> typeToken = new TypeToken<Map<String, Object>>() {
         };
-        return INSTANCE.createGson().fromJson(jsonString, typeToken.getType());
+        return INSTANCE.getGson().fromJson(jsonString, typeToken.getType());
     }
 
     /**
@@ -398,7 +726,7 @@ public enum JSONUtils {
     public static Map<String, List<String>> asHeaders(final String jsonString) {
         TypeToken<Map<String, List<String>>> typeToken = new TypeToken<Map<String, List<String>>>() {
         };
-        return INSTANCE.createGson().fromJson(jsonString, typeToken.getType());
+        return INSTANCE.getGson().fromJson(jsonString, typeToken.getType());
     }
 
     /**
@@ -408,7 +736,8 @@ public enum JSONUtils {
     public static Map<String, List<String>> asHeaders(final byte[] dataBytes) {
         TypeToken<Map<String, List<String>>> typeToken = new TypeToken<Map<String, List<String>>>() {
         };
-        return INSTANCE.createGson().fromJson(IOUtils.toUTF8String(dataBytes), typeToken.getType());
+        return (BeanUtils.isEmpty(dataBytes) ? null
+                                             : INSTANCE.getGson().fromJson(newUTF8Reader(dataBytes), typeToken.getType()));
     }
 
     /**
@@ -420,7 +749,8 @@ public enum JSONUtils {
     public static Map<String, Object> toMap(final byte[] dataBytes) {
         TypeToken<Map<String, Object>> typeToken = new TypeToken<Map<String, Object>>() {
         };
-        return INSTANCE.createGson().fromJson(IOUtils.toUTF8String(dataBytes), typeToken.getType());
+        return (BeanUtils.isEmpty(dataBytes) ? null
+                                             : INSTANCE.getGson().fromJson(newUTF8Reader(dataBytes), typeToken.getType()));
     }
 
     /**
@@ -440,7 +770,7 @@ public enum JSONUtils {
     public static List<Object[]> listOfObjectArrays(final String jsonString) {
         TypeToken<List<Object[]>> typeToken = new TypeToken<List<Object[]>>() {
         };
-        List<Object[]> list = INSTANCE.createGson().fromJson(jsonString, typeToken.getType());
+        List<Object[]> list = INSTANCE.getGson().fromJson(jsonString, typeToken.getType());
         return list;
     }
 
@@ -451,7 +781,7 @@ public enum JSONUtils {
     public static List<String> toListOfStrings(final JsonArray jsonArray) {
         TypeToken<List<String>> typeToken = new TypeToken<List<String>>() {
         };
-        List<String> list = INSTANCE.createGson().fromJson(jsonArray, typeToken.getType());
+        List<String> list = INSTANCE.getGson().fromJson(jsonArray, typeToken.getType());
         return list;
     }
 
@@ -0,0 +1,148 @@
+package com.rslakra.appsuite.core.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rslakra.appsuite.core.BeanUtils;
+import com.rslakra.appsuite.core.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The <code>JacksonCodec</code> is the <code>Codec</code> of any Jackson data format. The format is provided by its
+ * <code>JsonFactory</code> (i.e. the <code>SmileFactory</code> or the <code>CBORFactory</code>), so the same bean
+ * mappings work for the text and the binary formats.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 7:12 PM
+ */
+public final class JacksonCodec implements Codec {
+
+    private final String contentType;
+    private final ObjectMapper objectMapper;
+    private final boolean binary;
+
+    /**
+     * @param contentType
+     * @param objectMapper
+     */
+    private JacksonCodec(final String contentType, final ObjectMapper objectMapper) {
+        BeanUtils.assertNonNull(contentType, "ContentType must not be null!");
+        BeanUtils.assertNonNull(objectMapper, "ObjectMapper must not be null!");
+        this.contentType = contentType;
+        this.objectMapper = objectMapper;
+        this.binary = objectMapper.getFactory().canHandleBinaryNatively();
+    }
+
+    /**
+     * Returns the codec of the <code>contentType</code>, which uses the <code>objectMapper</code>.
+     *
+     * @param contentType
+     * @param objectMapper
+     * @return
+     */
+    public static JacksonCodec of(final String contentType, final ObjectMapper objectMapper) {
+        return new JacksonCodec(contentType, objectMapper);
+    }
+
+    /**
+     * Returns the codec of the <code>contentType</code> of the format of the <code>jsonFactory</code>. The mapper is
+     * configured like the <code>JSONUtils</code> one (i.e. the unknown properties are ignored).
+     *
+     * @param contentType
+     * @param jsonFactory
+     * @return
+     */
+    public static JacksonCodec of(final String contentType, final JsonFactory jsonFactory) {
+        final ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        return of(contentType, objectMapper);
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * @param object
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public byte[] encode(final Object object) throws IOException {
+        return objectMapper.writeValueAsBytes(object);
+    }
+
+    /**
+     * @param object
+     * @param outputStream
+     * @throws IOException
+     */
+    @Override
+    public void encode(final Object object, final OutputStream outputStream) throws IOException {
+        BeanUtils.assertNonNull(outputStream, "OutputStream must not be null!");
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(jsonGenerator, object);
+        }
+    }
+
+    /**
+     * @param dataBytes
+     * @param offset
+     * @param length
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public <T> T decode(final byte[] dataBytes, final int offset, final int length, final Class<T> classType)
+        throws IOException {
+        return objectMapper.readValue(dataBytes, offset, length, classType);
+    }
+
+    /**
+     * @param inputStream
+     * @param classType
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public <T> T decode(final InputStream inputStream, final Class<T> classType) throws IOException {
+        return objectMapper.readValue(inputStream, classType);
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(JacksonCodec.class)
+            .add("contentType", contentType)
+            .add("binary", binary)
+            .add("format", objectMapper.getFactory().getFormatName())
+            .toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.rslakra.appsuite.core.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The <code>JsonArrayIterator</code> iterates the elements of a JSON array, binding one element at a time from the
+ * parser. So, the memory used doesn't depend on the size of the array.
+ * <p>
+ * The parser (and the underlying stream) is closed when all the elements are read or the iterator is closed.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 6:10 PM
+ */
+final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonArrayIterator.class);
+
+    private final JsonParser jsonParser;
+    private final ObjectReader objectReader;
+    // the first token of the next element, or null if it's not read yet.
+    private JsonToken nextToken;
+    private boolean closed;
+
+    /**
+     * @param jsonParser   the parser positioned before the start of the array.
+     * @param objectReader the reader of the elements.
+     * @throws IOException
+     */
+    JsonArrayIterator(final JsonParser jsonParser, final ObjectReader objectReader) throws IOException {
+        this.jsonParser = jsonParser;
+        this.objectReader = objectReader;
+        final JsonToken jsonToken = jsonParser.nextToken();
+        if (jsonToken != JsonToken.START_ARRAY) {
+            jsonParser.close();
+            throw new JsonParseException(jsonParser, "Expected the start of an array but was " + jsonToken);
+        }
+    }
+
+    /**
+     * Returns true if the array has more elements otherwise false.
+     *
+     * @return
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (nextToken == null) {
+            try {
+                nextToken = jsonParser.nextToken();
+            } catch (IOException ex) {
+                closeQuietly();
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        if (nextToken == null || nextToken == JsonToken.END_ARRAY) {
+            closeQuietly();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Binds and returns the next element of the array.
+     *
+     * @return
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            final T element = objectReader.readValue(jsonParser);
+            nextToken = null;
+            return element;
+        } catch (IOException ex) {
+            closeQuietly();
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Closes the parser.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            jsonParser.close();
+        }
+    }
+
+    /**
+     * Closes the parser, logging the error if any.
+     */
+    void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ex) {
+            LOGGER.warn("Unable to close the parser, reason:{}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.rslakra.appsuite.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>JsonPathExtractor</code> extracts the values of the simple paths (i.e. <code>a.b[2].c</code>) from the
+ * tokens of a JSON document, without deserializing the whole document.
+ * <p>
+ * Only the subtrees on the requested paths are visited; all the other subtrees are skipped without building any
+ * object, and the parsing stops as soon as the values of all the paths are found. The paths which are not found are
+ * not included in the result.
+ * <p>
+ * An instance is not thread-safe and should be used for a single document only.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 6:40 PM
+ */
+final class JsonPathExtractor {
+
+    private static final Object NOT_FOUND = new Object();
+    private final ObjectMapper objectMapper;
+    private final String[] paths;
+    // the field names (String) and the array indices (Integer) of each path
+    private final Object[][] segments;
+    private final Map<String, Object> values;
+    // the paths already bound, so that the duplicate keys don't resolve them again
+    private final boolean[] resolved;
+    private int remaining;
+
+    /**
+     * @param objectMapper
+     * @param paths
+     */
+    JsonPathExtractor(final ObjectMapper objectMapper, final String... paths) {
+        BeanUtils.assertNonNull(paths, "Paths must not be null!");
+        this.objectMapper = objectMapper;
+        this.paths = new LinkedHashSet<>(Arrays.asList(paths)).toArray(new String[0]);
+        this.segments = new Object[this.paths.length][];
+        for (int i = 0; i < this.paths.length; i++) {
+            segments[i] = parsePath(this.paths[i]);
+        }
+
+        this.values = new LinkedHashMap<>(this.paths.length);
+        this.resolved = new boolean[this.paths.length];
+        this.remaining = this.paths.length;
+    }
+
+    /**
+     * Returns the segments of the <code>path</code>. An empty path refers to the whole document.
+     *
+     * @param path
+     * @return
+     */
+    static Object[] parsePath(final String path) {
+        BeanUtils.assertNonNull(path, "Path must not be null!");
+        final List<Object> pathSegments = new ArrayList<>();
+        final StringBuilder name = new StringBuilder();
+        int index = 0;
+        while (index < path.length()) {
+            final char ch = path.charAt(index++);
+            if (ch == '.' || ch == '[') {
+                if (name.length() > 0) {
+                    pathSegments.add(name.toString());
+                    name.setLength(0);
+                } else if (ch == '.' && (index == 1 || path.charAt(index - 2) != ']')) {
+                    throw new IllegalArgumentException("Invalid path:" + path);
+                }
+
+                if (ch == '[') {
+                    final int endIndex = path.indexOf(']', index);
+                    if (endIndex <= index) {
+                        throw new IllegalArgumentException("Invalid path:" + path);
+                    }
+
+                    try {
+                        pathSegments.add(Integer.parseInt(path.substring(index, endIndex)));
+                    } catch (NumberFormatException ex) {
+                        throw new IllegalArgumentException("Invalid path:" + path, ex);
+                    }
+                    index = endIndex + 1;
+                }
+            } else {
+                name.append(ch);
+            }
+        }
+
+        if (name.length() > 0) {
+            pathSegments.add(name.toString());
+        } else if (path.endsWith(".")) {
+            throw new IllegalArgumentException("Invalid path:" + path);
+        }
+
+        return pathSegments.toArray();
+    }
+
+    /**
+     * Extracts the values of the paths from the <code>jsonParser</code> and closes it.
+     *
+     * @param jsonParser
+     * @return the values by the paths found.
+     * @throws IOException
+     */
+    Map<String, Object> extract(final JsonParser jsonParser) throws IOException {
+        try (JsonParser parser = jsonParser) {
+            if (remaining > 0 && BeanUtils.isNotNull(parser.nextToken())) {
+                final int[] candidates = new int[paths.length];
+                for (int i = 0; i < candidates.length; i++) {
+                    candidates[i] = i;
+                }
+
+                visit(parser, candidates, 0);
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Visits the value at the current token of the <code>parser</code>.
+     *
+     * @param parser
+     * @param candidates the indices of the paths matching up to the <code>depth</code>.
+     * @param depth
+     * @throws IOException
+     */
+    private void visit(final JsonParser parser, final int[] candidates, final int depth) throws IOException {
+        for (int candidate : candidates) {
+            if (segments[candidate].length == depth) {
+                // a path ends here, so bind this value and resolve the deeper paths from it.
+                resolve(objectMapper.readValue(parser, Object.class), candidates, depth);
+                return;
+            }
+        }
+
+        final JsonToken jsonToken = parser.currentToken();
+        if (jsonToken == JsonToken.START_OBJECT) {
+            while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                visitChild(parser, filter(candidates, depth, fieldName), depth);
+            }
+        } else if (jsonToken == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (remaining > 0 && parser.nextToken() != JsonToken.END_ARRAY) {
+                visitChild(parser, filter(candidates, depth, index++), depth);
+            }
+        }
+    }
+
+    /**
+     * Visits the child value, or skips it if no path goes through it.
+     *
+     * @param parser
+     * @param candidates
+     * @param depth
+     * @throws IOException
+     */
+    private void visitChild(final JsonParser parser, final int[] candidates, final int depth) throws IOException {
+        if (candidates.length == 0) {
+            parser.skipChildren();
+        } else {
+            visit(parser, candidates, depth + 1);
+        }
+    }
+
+    /**
+     * Returns the unresolved candidates, whose segment at the <code>depth</code> is the <code>segment</code>.
+     *
+     * @param candidates
+     * @param depth
+     * @param segment
+     * @return
+     */
+    private int[] filter(final int[] candidates, final int depth, final Object segment) {
+        int size = 0;
+        final int[] matched = new int[candidates.length];
+        for (int candidate : candidates) {
+            if (!resolved[candidate] && segment.equals(segments[candidate][depth])) {
+                matched[size++] = candidate;
+            }
+        }
+
+        return (size == matched.length ? matched : Arrays.copyOf(matched, size));
+    }
+
+    /**
+     * Resolves the candidates from the bound <code>value</code> of the <code>depth</code>. The first value bound to a
+     * path wins, so a duplicate key doesn't resolve the path again.
+     *
+     * @param value
+     * @param candidates
+     * @param depth
+     */
+    private void resolve(final Object value, final int[] candidates, final int depth) {
+        for (int candidate : candidates) {
+            if (resolved[candidate]) {
+                continue;
+            }
+
+            resolved[candidate] = true;
+            Object pathValue = value;
+            for (int i = depth; i < segments[candidate].length && pathValue != NOT_FOUND; i++) {
+                pathValue = valueOf(pathValue, segments[candidate][i]);
+            }
+
+            if (pathValue != NOT_FOUND) {
+                values.put(paths[candidate], pathValue);
+            }
+            remaining--;
+        }
+    }
+
+    /**
+     * Returns the value of the <code>segment</code> of the bound <code>value</code>.
+     *
+     * @param value
+     * @param segment
+     * @return
+     */
+    private static Object valueOf(final Object value, final Object segment) {
+        if (segment instanceof String && value instanceof Map && ((Map<?, ?>) value).containsKey(segment)) {
+            return ((Map<?, ?>) value).get(segment);
+        } else if (segment instanceof Integer && value instanceof List && (Integer) segment < ((List<?>) value).size()) {
+            return ((List<?>) value).get((Integer) segment);
+        }
+
+        return NOT_FOUND;
+    }
+}
@@ -0,0 +1,82 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>EnginePool</code> is the bounded pool of the initialized JCA engines (i.e. <code>Mac</code>,
+ * <code>Signature</code>) of a key, which aren't thread-safe themselves.
+ * <p>
+ * The borrowing never blocks; a new engine is created, if the pool is empty, and the engines released over the
+ * capacity are discarded.
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 1:30 PM
+ */
+final class EnginePool<T> {
+
+    static final int POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates the initialized engine.
+     */
+    @FunctionalInterface
+    interface EngineFactory<T> {
+
+        /**
+         * @return
+         * @throws JOSEException
+         */
+        T newEngine() throws JOSEException;
+    }
+
+    private final EngineFactory<T> engineFactory;
+    private final BlockingQueue<T> engines = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final LongAdder created = new LongAdder();
+
+    /**
+     * @param engineFactory
+     */
+    EnginePool(final EngineFactory<T> engineFactory) {
+        this.engineFactory = engineFactory;
+    }
+
+    /**
+     * Returns the pooled engine or the new engine, if the pool is empty.
+     *
+     * @return
+     * @throws JOSEException
+     */
+    T borrow() throws JOSEException {
+        final T engine = engines.poll();
+        if (BeanUtils.isNotNull(engine)) {
+            return engine;
+        }
+
+        created.increment();
+        return engineFactory.newEngine();
+    }
+
+    /**
+     * Returns the <code>engine</code> to this pool. The engine must be in its initialized state (i.e. after the
+     * <code>doFinal()</code>, <code>sign()</code> or <code>verify()</code> completed normally).
+     *
+     * @param engine
+     */
+    void release(final T engine) {
+        engines.offer(engine);
+    }
+
+    /**
+     * Returns the number of the engines created by this pool.
+     *
+     * @return
+     */
+    long getCreated() {
+        return created.sum();
+    }
+}
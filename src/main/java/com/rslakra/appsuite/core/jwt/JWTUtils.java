@@ -8,11 +8,10 @@ import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
-import com.nimbusds.jose.crypto.RSASSASigner;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.SecretJWK;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
@@ -22,7 +21,6 @@ import org.jose4j.jws.AlgorithmIdentifiers;
 import org.jose4j.jws.JsonWebSignature;
 import org.jose4j.jwt.JwtClaims;
 import org.jose4j.jwt.NumericDate;
-import org.jose4j.keys.HmacKey;
 import org.jose4j.lang.JoseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,11 +44,21 @@ import java.security.interfaces.RSAPublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * @author Rohtash Lakra
@@ -69,14 +77,66 @@ public enum JWTUtils {
     public static final String JWKS_FILE_SUFFIX = ".well-known/jwks.json";
     public static final String JWS_HEADER_TYPE = "typ";
     public static final String JWS_HEADER_TYPE_VALUE = "JWT";
+    public static final int VERIFY_ALL_CHUNK_SIZE = 64;
     private KeyFactory rsaKeyFactory;
-    private SignedJWT signedJWT;
-    private RSAKey rsaKey;
+    // the last token signed by the jwtRSASignedToken(), kept for the existing callers
+    private volatile SignedJWT signedJWT;
+    private volatile RSAKey rsaKey;
     private String keyFolderPath;
     private String service;
 
     // payload
     private final Payload<String, HttpsJwks> payload = new Payload<>();
+    // the kid indexed keys of the JWKS urls
+    private final Map<String, JwksKeyStore> jwksKeyStores = new ConcurrentHashMap<>();
+
+    /**
+     * Holds the daemon scheduler, which refreshes the keys of the <code>getJwksKeyStore()</code>, so its thread is
+     * only created once a JWKS url is used.
+     */
+    private static final class JwksScheduler {
+
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jwks-key-store-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    // the prepared signers and verifiers of the secrets and keys
+    private static final JwsRegistry JWS_REGISTRY = JwsRegistry.of("JWTUtils");
+    // the opt-in cache of the verified tokens
+    private static volatile VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * Returns the registry of the signers and the verifiers reused by the sign and verify methods.
+     *
+     * @return
+     */
+    public static JwsRegistry getJwsRegistry() {
+        return JWS_REGISTRY;
+    }
+
+    /**
+     * Returns the cache of the verified tokens, or null if the verifications aren't cached.
+     *
+     * @return
+     */
+    public static VerifiedTokenCache getVerifiedTokenCache() {
+        return verifiedTokenCache;
+    }
+
+    /**
+     * Caches the results of the <code>jwtMACVerified*()</code> and <code>jwtRSASSAVerified*()</code> methods in the
+     * <code>tokenCache</code>. The null disables the caching.
+     *
+     * @param tokenCache
+     */
+    public static void setVerifiedTokenCache(final VerifiedTokenCache tokenCache) {
+        LOGGER.debug("setVerifiedTokenCache({})", tokenCache);
+        verifiedTokenCache = tokenCache;
+    }
 
     /**
      * @return
@@ -363,6 +423,9 @@ public enum JWTUtils {
     }
 
     /**
+     * Returns the last token signed by the <code>jwtRSASignedToken()</code>. The concurrent callers should use the
+     * token returned by the <code>JwtIssuer</code> instead.
+     *
      * @return
      */
     public SignedJWT getSignedJWT() {
@@ -381,7 +444,7 @@ public enum JWTUtils {
      * @param keyId
      * @throws JOSEException
      */
-    public void setRSAKey(final int size, final String keyId) throws JOSEException {
+    public synchronized void setRSAKey(final int size, final String keyId) throws JOSEException {
         if (Objects.isNull(getRSAKey())) {
             rsaKey = new RSAKeyGenerator(size)
                 .keyID(keyId)
@@ -409,14 +472,20 @@ public enum JWTUtils {
      * @throws JOSEException
      */
     private void setRSAKey() throws JOSEException {
-        if (Objects.isNull(getRSAKey())) {
-            try {
-                PrivateKey privateKey = loadPrivateKey(getPrivateKeyFile());
-                PublicKey publicKey = loadPublicKey(getPublicKeyFile());
-                RSAKey.Builder rsaKeyBuilder = new RSAKey.Builder((RSAPublicKey) publicKey).privateKey(privateKey);
-                rsaKey = rsaKeyBuilder.build();
-            } catch (Exception ex) {
-                throw new JOSEException(ex.getLocalizedMessage(), ex);
+        if (Objects.nonNull(getRSAKey())) {
+            return;
+        }
+
+        synchronized (this) {
+            if (Objects.isNull(getRSAKey())) {
+                try {
+                    PrivateKey privateKey = loadPrivateKey(getPrivateKeyFile());
+                    PublicKey publicKey = loadPublicKey(getPublicKeyFile());
+                    RSAKey.Builder rsaKeyBuilder = new RSAKey.Builder((RSAPublicKey) publicKey).privateKey(privateKey);
+                    rsaKey = rsaKeyBuilder.build();
+                } catch (Exception ex) {
+                    throw new JOSEException(ex.getLocalizedMessage(), ex);
+                }
             }
         }
     }
@@ -596,7 +665,7 @@ public enum JWTUtils {
     public static SignedJWT jwtRSASigned(final JWSHeader jwtHeaders, final JWTClaimsSet jwtClaims, final RSAKey rsaKey)
         throws JOSEException {
         // create signed JWT with jwsHeader and jwtClaims and compute signature
-        return INSTANCE.jwtSigned(jwtHeaders, jwtClaims, new RSASSASigner(rsaKey));
+        return INSTANCE.jwtSigned(jwtHeaders, jwtClaims, JWS_REGISTRY.rsaSigner(rsaKey));
     }
 
     /**
@@ -610,7 +679,7 @@ public enum JWTUtils {
                                          final String clientSecret)
         throws JOSEException {
         // create signed JWT with jwsHeader and jwtClaims and compute signature
-        return INSTANCE.jwtSigned(jwtHeaders, jwtClaims, new MACSigner(clientSecret));
+        return INSTANCE.jwtSigned(jwtHeaders, jwtClaims, JWS_REGISTRY.macSigner(clientSecret));
     }
 
 
@@ -637,19 +706,27 @@ public enum JWTUtils {
     }
 
     /**
-     * Parse the JWT and verify with client secret.
+     * Parse the JWT and verify with the verifier of the <code>verifierFactory</code>, or returns the cached result of
+     * the <code>verifiedTokenCache</code>.
      *
      * @param jwtToken
-     * @param jwsVerifier
+     * @param keyIdentity
+     * @param verifierFactory
      * @return
      * @throws ParseException
      * @throws JOSEException
      */
-    private JWTClaimsSet jwtVerifiedClaims(final String jwtToken, final JWSVerifier jwsVerifier)
+    private JWTClaimsSet jwtVerifiedClaims(final String jwtToken, final String keyIdentity,
+                                           final VerifiedTokenCache.VerifierFactory verifierFactory)
         throws ParseException, JOSEException {
+        final VerifiedTokenCache tokenCache = verifiedTokenCache;
+        if (BeanUtils.isNotNull(tokenCache)) {
+            return tokenCache.verifiedClaims(jwtToken, keyIdentity, verifierFactory);
+        }
+
         // parse the JWS and verify its signature
         SignedJWT signedJwt = jwtSigned(jwtToken);
-        return signedJwt.verify(jwsVerifier) ? signedJwt.getJWTClaimsSet() : null;
+        return signedJwt.verify(verifierFactory.newVerifier()) ? signedJwt.getJWTClaimsSet() : null;
     }
 
     /**
@@ -664,7 +741,8 @@ public enum JWTUtils {
     public static JWTClaimsSet jwtMACVerifiedClaims(final String jwtToken, final String clientSecret)
         throws ParseException, JOSEException {
         // parse the JWT Token and verify its signature
-        return INSTANCE.jwtVerifiedClaims(jwtToken, new MACVerifier(clientSecret));
+        return INSTANCE.jwtVerifiedClaims(jwtToken, JwsRegistry.macKeyIdentity(clientSecret),
+                                          () -> JWS_REGISTRY.macVerifier(clientSecret));
     }
 
     /**
@@ -678,22 +756,31 @@ public enum JWTUtils {
      */
     public static JWTClaimsSet jwtRSASSAVerifiedClaims(final String jwtToken, final RSAKey rsaPublicKey)
         throws JOSEException, ParseException {
-        return INSTANCE.jwtVerifiedClaims(jwtToken, new RSASSAVerifier(rsaPublicKey));
+        return INSTANCE.jwtVerifiedClaims(jwtToken, JwsRegistry.rsaKeyIdentity(rsaPublicKey),
+                                          () -> JWS_REGISTRY.rsaVerifier(rsaPublicKey));
     }
 
     /**
-     * Parse the JWT and verify with client secret.
+     * Parse the JWT and verify with the verifier of the <code>verifierFactory</code>, or returns the cached result of
+     * the <code>verifiedTokenCache</code>.
      *
      * @param jwtToken
-     * @param jwsVerifier
+     * @param keyIdentity
+     * @param verifierFactory
      * @return
      * @throws ParseException
      * @throws JOSEException
      */
-    private boolean jwtVerified(final String jwtToken, final JWSVerifier jwsVerifier)
+    private boolean jwtVerified(final String jwtToken, final String keyIdentity,
+                                final VerifiedTokenCache.VerifierFactory verifierFactory)
         throws ParseException, JOSEException {
+        final VerifiedTokenCache tokenCache = verifiedTokenCache;
+        if (BeanUtils.isNotNull(tokenCache)) {
+            return BeanUtils.isNotNull(tokenCache.verifiedClaims(jwtToken, keyIdentity, verifierFactory));
+        }
+
         // parse the JWS and verify its signature
-        return jwtSigned(jwtToken).verify(jwsVerifier);
+        return jwtSigned(jwtToken).verify(verifierFactory.newVerifier());
     }
 
     /**
@@ -708,7 +795,8 @@ public enum JWTUtils {
     public static boolean jwtMACVerified(final String jwtToken, final String clientSecret)
         throws ParseException, JOSEException {
         // parse the JWT Token and verify its signature
-        return INSTANCE.jwtVerified(jwtToken, new MACVerifier(clientSecret));
+        return INSTANCE.jwtVerified(jwtToken, JwsRegistry.macKeyIdentity(clientSecret),
+                                    () -> JWS_REGISTRY.macVerifier(clientSecret));
     }
 
     /**
@@ -723,7 +811,117 @@ public enum JWTUtils {
     public static boolean jwtRSASSAVerified(final String jwtToken, final RSAKey rsaPublicKey)
         throws JOSEException, ParseException {
         // parse the JWT Token and verify its signature
-        return INSTANCE.jwtVerified(jwtToken, new RSASSAVerifier(rsaPublicKey));
+        return INSTANCE.jwtVerified(jwtToken, JwsRegistry.rsaKeyIdentity(rsaPublicKey),
+                                    () -> JWS_REGISTRY.rsaVerifier(rsaPublicKey));
+    }
+
+    /**
+     * Returns the result of the verification of the signature of the <code>jwtToken</code> with its key of the
+     * <code>keyResolver</code>. The failures are returned as the results, and never thrown.
+     *
+     * @param jwtToken
+     * @param keyResolver
+     * @param verifiers the verifiers of the keys of the batch
+     * @return
+     */
+    private static VerifyAllReport.Result verifyOne(final String jwtToken, final KeyResolver keyResolver,
+                                                    final Map<JWK, JWSVerifier> verifiers) {
+        if (BeanUtils.isEmpty(jwtToken)) {
+            return new VerifyAllReport.Result(VerifyAllReport.Status.MALFORMED, null, null, "Empty token!");
+        }
+
+        final SignedJWT signedJwt;
+        try {
+            signedJwt = SignedJWT.parse(jwtToken);
+        } catch (ParseException ex) {
+            return new VerifyAllReport.Result(VerifyAllReport.Status.MALFORMED, null, null, ex.getMessage());
+        }
+
+        final String keyId = signedJwt.getHeader().getKeyID();
+        try {
+            final JWK jwk = keyResolver.resolve(signedJwt.getHeader());
+            if (BeanUtils.isNull(jwk)) {
+                return new VerifyAllReport.Result(VerifyAllReport.Status.UNKNOWN_KEY, keyId, null,
+                                                  "No key of the kid:" + keyId);
+            }
+
+            // the verifiers of the resolved keys are kept only for the batch
+            JWSVerifier jwsVerifier = verifiers.get(jwk);
+            if (BeanUtils.isNull(jwsVerifier)) {
+                final JWSVerifier newVerifier = JwsRegistry.newVerifier(jwk);
+                jwsVerifier = verifiers.putIfAbsent(jwk, newVerifier);
+                if (BeanUtils.isNull(jwsVerifier)) {
+                    jwsVerifier = newVerifier;
+                }
+            }
+
+            if (!signedJwt.verify(jwsVerifier)) {
+                return new VerifyAllReport.Result(VerifyAllReport.Status.INVALID_SIGNATURE, keyId, null,
+                                                  "Invalid signature!");
+            }
+
+            return new VerifyAllReport.Result(VerifyAllReport.Status.VERIFIED, keyId, signedJwt.getJWTClaimsSet(),
+                                              null);
+        } catch (IOException | JOSEException | ParseException | RuntimeException ex) {
+            return new VerifyAllReport.Result(VerifyAllReport.Status.ERROR, keyId, null, ex.getMessage());
+        }
+    }
+
+    /**
+     * Verifies the signatures of the <code>jwtTokens</code> in parallel on the <code>executor</code> (i.e. the
+     * <code>Executors.newVirtualThreadPerTaskExecutor()</code>), and returns their results in the order of the
+     * tokens.
+     * <p>
+     * The key of each token is resolved by the <code>keyResolver</code> (i.e. the <code>JwksKeyStore::resolve</code>)
+     * and its verifier is created once per key of the batch, so the keys of the batch aren't retained after it. The
+     * tokens are verified in the chunks of the <code>VERIFY_ALL_CHUNK_SIZE</code> tokens per task.
+     *
+     * @param jwtTokens
+     * @param keyResolver
+     * @param executor
+     * @return
+     */
+    public static VerifyAllReport verifyAll(final Iterable<String> jwtTokens, final KeyResolver keyResolver,
+                                            final Executor executor) {
+        LOGGER.debug("+verifyAll({}, {})", keyResolver, executor);
+        BeanUtils.assertNonNull(jwtTokens, "JwtTokens must not be null!");
+        BeanUtils.assertNonNull(keyResolver, "KeyResolver must not be null!");
+        BeanUtils.assertNonNull(executor, "Executor must not be null!");
+        final long startTime = System.nanoTime();
+        final List<String> tokens = new ArrayList<>();
+        jwtTokens.forEach(tokens::add);
+
+        final VerifyAllReport.Result[] results = new VerifyAllReport.Result[tokens.size()];
+        final Map<JWK, JWSVerifier> verifiers = new ConcurrentHashMap<>();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < tokens.size(); fromIndex += VERIFY_ALL_CHUNK_SIZE) {
+            final int startIndex = fromIndex;
+            final int endIndex = Math.min(tokens.size(), fromIndex + VERIFY_ALL_CHUNK_SIZE);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index = startIndex; index < endIndex; index++) {
+                    results[index] = verifyOne(tokens.get(index), keyResolver, verifiers);
+                }
+            }, executor));
+        }
+
+        // the join() publishes the results of the tasks
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        final VerifyAllReport verifyAllReport = new VerifyAllReport(Arrays.asList(results),
+                                                                    Duration.ofNanos(System.nanoTime() - startTime));
+        LOGGER.debug("-verifyAll(), verifyAllReport:{}", verifyAllReport);
+        return verifyAllReport;
+    }
+
+    /**
+     * Verifies the signatures of the <code>jwtTokens</code> in parallel on the common <code>ForkJoinPool</code>, and
+     * returns their results in the order of the tokens.
+     *
+     * @param jwtTokens
+     * @param keyResolver
+     * @return
+     */
+    public static VerifyAllReport verifyAll(final Iterable<String> jwtTokens, final KeyResolver keyResolver) {
+        return verifyAll(jwtTokens, keyResolver, ForkJoinPool.commonPool());
     }
 
     /**
@@ -764,14 +962,15 @@ public enum JWTUtils {
         // Prepare JWT with claims set
         final JWTClaimsSet jwtClaimsSet = INSTANCE.jwtClaimsSet(keyId, audience, issuer, subject, issuedAt, expiredOn);
         // Create RSA-signer with the private key, compute the signature
-        INSTANCE.signedJWT = jwtRSASigned(jwsHeader, jwtClaimsSet, INSTANCE.getRSAKey());
+        final SignedJWT signedJwt = jwtRSASigned(jwsHeader, jwtClaimsSet, INSTANCE.getRSAKey());
+        INSTANCE.signedJWT = signedJwt;
 
         /**
          * To serialize to compact form, produces something like
          *
          * eyJhbGciOiJSUzI1NiJ9.SW4gUlNBIHdlIHRydXN0IQ.IRMQENi4nJyp4er2LmZq3ivwoAjqa1uUkSBKFIX7ATndFF5ivnt-m8uApHO4kfIFOrW7w2Ezmlg3QdmaXlS9DhN0nUk_hGI3amEjkKd0BWYCB8vfUbUv0XGjQip78AI4z1PrFRNidm7-jPDm5Iq0SZnjKjCNS5Q15fokXZc8u0A
          */
-        return INSTANCE.signedJWT.serialize();
+        return signedJwt.serialize();
     }
 
     /**
@@ -820,6 +1019,53 @@ public enum JWTUtils {
         return jsonWebKey.getKey();
     }
 
+    /**
+     * Returns the key store of the <code>urlJWKSFilePath</code>, which keeps its keys for the
+     * <code>defaultCacheDuration</code> seconds and refreshes them ahead of their expiry on the dedicated daemon
+     * scheduler.
+     * <p>
+     * The key store is created and started on the first call, and the later calls return it as is.
+     *
+     * @param urlJWKSFilePath
+     * @param defaultCacheDuration the length in seconds of the default cache duration
+     * @return
+     */
+    public JwksKeyStore getJwksKeyStore(final String urlJWKSFilePath, final long defaultCacheDuration) {
+        if (BeanUtils.isEmpty(urlJWKSFilePath)) {
+            throw new IllegalArgumentException("Invalid JWKS file url!");
+        }
+
+        return jwksKeyStores.computeIfAbsent(urlJWKSFilePath, key -> JwksKeyStore
+            .of(urlJWKSFilePath, JwksKeyStore.JwksSource.ofUrl(urlJWKSFilePath))
+            .refreshInterval(Duration.ofSeconds(Math.max(1, defaultCacheDuration)))
+            .start(JwksScheduler.SCHEDULER));
+    }
+
+    /**
+     * Returns the public key of the <code>keyId</code> of the <code>urlJWKSFilePath</code>, or null, if the JWKS
+     * doesn't have such key.
+     *
+     * @param urlJWKSFilePath
+     * @param defaultCacheDuration the length in seconds of the default cache duration
+     * @param keyId
+     * @return
+     */
+    public Key fetchPublicKey(final String urlJWKSFilePath, final long defaultCacheDuration, final String keyId)
+        throws JoseException, IOException {
+        final JWK jwk = getJwksKeyStore(urlJWKSFilePath, defaultCacheDuration).getKey(keyId);
+        if (BeanUtils.isNull(jwk)) {
+            return null;
+        }
+
+        try {
+            return (jwk instanceof AsymmetricJWK
+                    ? ((AsymmetricJWK) jwk).toPublicKey()
+                    : ((SecretJWK) jwk).toSecretKey());
+        } catch (JOSEException ex) {
+            throw new JoseException("Invalid key of the kid:" + keyId + ", " + ex.getMessage(), ex);
+        }
+    }
+
     /**
      * Encodes Client ID and Client Secret
      *
@@ -880,7 +1126,7 @@ public enum JWTUtils {
             jsonWebSignature = new JsonWebSignature();
             jsonWebSignature.setAlgorithmHeaderValue(AlgorithmIdentifiers.HMAC_SHA256);
             jsonWebSignature.setHeader(JWTUtils.JWS_HEADER_TYPE, JWTUtils.JWS_HEADER_TYPE_VALUE);
-            jsonWebSignature.setKey(new HmacKey(clientSecret.getBytes(UTF_8)));
+            jsonWebSignature.setKey(JWS_REGISTRY.hmacKey(clientSecret));
             jsonWebSignature.setDoKeyValidation(false);
         } catch (Exception ex) {
             LOGGER.error(ex.getMessage(), ex);
@@ -0,0 +1,617 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.Algorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.rslakra.appsuite.core.BeanUtils;
+import com.rslakra.appsuite.core.ToString;
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>JwksKeyStore</code> keeps the keys of a JWKS (JSON Web Key Set) indexed by their <code>kid</code> and
+ * <code>alg</code>, so the verification of a token resolves its key without any fetch or scan on the caller's thread.
+ * <p>
+ * The keys are replaced as a whole on each refresh, and the readers always see a complete key set:
+ * <ul>
+ * <li>With the <code>start(scheduler)</code>, the keys are refreshed on the scheduler the <code>refreshAhead</code>
+ * before they expire, and the failed refreshes are retried after the <code>minRefreshInterval</code>.</li>
+ * <li>The expired keys are served while a single background refresh is in flight; only the first lookup waits for
+ * the keys to be loaded. If the first load fails, it's retried at most once per the
+ * <code>minRefreshInterval</code>, and the lookups in between fail fast without fetching.</li>
+ * <li>A missing <code>kid</code> (i.e. the key rotated in at the issuer) refreshes the keys on the caller's thread
+ * at most once per the <code>minRefreshInterval</code>, so the unknown <code>kid</code>s can't flood the source.</li>
+ * </ul>
+ *
+ * <pre>
+ *  final JwksKeyStore jwksKeyStore = JwksKeyStore.of("issuer", JwksKeyStore.JwksSource.ofUrl(jwksUrl))
+ *      .refreshInterval(Duration.ofMinutes(15))
+ *      .start(scheduler);
+ *  final JWK jwk = jwksKeyStore.resolve(signedJwt.getHeader());
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 4:20 PM
+ */
+public final class JwksKeyStore {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwksKeyStore.class);
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofHours(1);
+    public static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    public static final Duration HTTP_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Fetches the JSON of the JWKS.
+     */
+    @FunctionalInterface
+    public interface JwksSource {
+
+        /**
+         * @return
+         * @throws IOException
+         */
+        String fetch() throws IOException;
+
+        /**
+         * Returns the source, which reads the JWKS of the local <code>path</code>.
+         *
+         * @param path
+         * @return
+         */
+        static JwksSource ofFile(final Path path) {
+            BeanUtils.assertNonNull(path, "Path must not be null!");
+            return () -> Files.readString(path, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns the source, which fetches the JWKS of the <code>jwksUrl</code> with the HTTP GET.
+         *
+         * @param jwksUrl
+         * @return
+         */
+        static JwksSource ofUrl(final String jwksUrl) {
+            if (BeanUtils.isEmpty(jwksUrl)) {
+                throw new IllegalArgumentException("Invalid JWKS url!");
+            }
+
+            final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(HTTP_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+            final HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(jwksUrl))
+                .header("Accept", "application/json")
+                .timeout(HTTP_TIMEOUT)
+                .GET()
+                .build();
+            return () -> {
+                try {
+                    final HttpResponse<String> httpResponse = httpClient.send(httpRequest,
+                                                                              HttpResponse.BodyHandlers.ofString());
+                    if (httpResponse.statusCode() != 200) {
+                        throw new IOException("Unexpected status:" + httpResponse.statusCode() + " of " + jwksUrl);
+                    }
+
+                    return httpResponse.body();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted fetching " + jwksUrl);
+                }
+            };
+        }
+    }
+
+    /**
+     * The immutable snapshot of the keys of a refresh.
+     */
+    private static final class Keys {
+
+        private final List<JWK> jwks;
+        private final Map<String, JWK> byKeyId;
+        private final Map<Algorithm, List<JWK>> byAlgorithm;
+        private final long expiresAt;
+
+        /**
+         * @param jwkSet
+         * @param expiresAt
+         */
+        private Keys(final JWKSet jwkSet, final long expiresAt) {
+            final Map<String, JWK> byKeyId = new HashMap<>();
+            final Map<Algorithm, List<JWK>> byAlgorithm = new LinkedHashMap<>();
+            for (JWK jwk : jwkSet.getKeys()) {
+                if (BeanUtils.isNotNull(jwk.getKeyID())) {
+                    // the first key of a duplicate kid wins
+                    byKeyId.putIfAbsent(jwk.getKeyID(), jwk);
+                }
+                if (BeanUtils.isNotNull(jwk.getAlgorithm())) {
+                    byAlgorithm.computeIfAbsent(jwk.getAlgorithm(), key -> new ArrayList<>()).add(jwk);
+                }
+            }
+
+            this.jwks = Collections.unmodifiableList(new ArrayList<>(jwkSet.getKeys()));
+            this.byKeyId = byKeyId;
+            this.byAlgorithm = byAlgorithm;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final String name;
+    private final JwksSource jwksSource;
+    private final Object refreshLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong lastMissRefreshAt = new AtomicLong(Long.MIN_VALUE);
+    private volatile long loadFailedAt = Long.MIN_VALUE;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rotatedKeys = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+    private Duration refreshAhead = DEFAULT_REFRESH_AHEAD;
+    private Duration minRefreshInterval = DEFAULT_MIN_REFRESH_INTERVAL;
+    private Clock clock = Clock.systemUTC();
+    private volatile Keys keys;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+
+    /**
+     * @param name
+     * @param jwksSource
+     */
+    private JwksKeyStore(final String name, final JwksSource jwksSource) {
+        BeanUtils.assertNonNull(name, "Name must not be null!");
+        BeanUtils.assertNonNull(jwksSource, "JwksSource must not be null!");
+        this.name = name;
+        this.jwksSource = jwksSource;
+    }
+
+    /**
+     * Returns the new key store of the keys of the <code>jwksSource</code>. The keys are loaded on the first lookup
+     * or the <code>start()</code>.
+     *
+     * @param name
+     * @param jwksSource
+     * @return
+     */
+    public static JwksKeyStore of(final String name, final JwksSource jwksSource) {
+        return new JwksKeyStore(name, jwksSource);
+    }
+
+    /**
+     * Keeps the fetched keys for the <code>refreshInterval</code>.
+     *
+     * @param refreshInterval
+     * @return
+     */
+    public JwksKeyStore refreshInterval(final Duration refreshInterval) {
+        BeanUtils.assertNonNull(refreshInterval, "RefreshInterval must not be null!");
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("Invalid refreshInterval:" + refreshInterval);
+        }
+        this.refreshInterval = refreshInterval;
+        return this;
+    }
+
+    /**
+     * Refreshes the keys on the scheduler the <code>refreshAhead</code> before they expire.
+     *
+     * @param refreshAhead
+     * @return
+     */
+    public JwksKeyStore refreshAhead(final Duration refreshAhead) {
+        BeanUtils.assertNonNull(refreshAhead, "RefreshAhead must not be null!");
+        if (refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("Invalid refreshAhead:" + refreshAhead);
+        }
+        this.refreshAhead = refreshAhead;
+        return this;
+    }
+
+    /**
+     * Refreshes the keys for a missing <code>kid</code> and retries the failed refreshes at most once per the
+     * <code>minRefreshInterval</code>.
+     *
+     * @param minRefreshInterval
+     * @return
+     */
+    public JwksKeyStore minRefreshInterval(final Duration minRefreshInterval) {
+        BeanUtils.assertNonNull(minRefreshInterval, "MinRefreshInterval must not be null!");
+        if (minRefreshInterval.isNegative()) {
+            throw new IllegalArgumentException("Invalid minRefreshInterval:" + minRefreshInterval);
+        }
+        this.minRefreshInterval = minRefreshInterval;
+        return this;
+    }
+
+    /**
+     * Uses the <code>clock</code> to expire the keys.
+     *
+     * @param clock
+     * @return
+     */
+    public JwksKeyStore clock(final Clock clock) {
+        BeanUtils.assertNonNull(clock, "Clock must not be null!");
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Returns the name of this key store.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Fetches the keys of the source and replaces the current keys. The concurrent refreshes run one at a time, and
+     * the current keys are kept, if the refresh fails.
+     *
+     * @return the number of the fetched keys.
+     * @throws IOException
+     */
+    public int refresh() throws IOException {
+        LOGGER.debug("+refresh(), name:{}", name);
+        synchronized (refreshLock) {
+            final JWKSet jwkSet;
+            try {
+                jwkSet = JWKSet.parse(jwksSource.fetch());
+            } catch (IOException | RuntimeException ex) {
+                refreshFailures.increment();
+                throw ex;
+            } catch (ParseException ex) {
+                refreshFailures.increment();
+                throw new IOException("Invalid JWKS of " + name + ": " + ex.getMessage(), ex);
+            }
+
+            final Keys newKeys = new Keys(jwkSet, clock.millis() + refreshInterval.toMillis());
+            final Keys oldKeys = keys;
+            if (BeanUtils.isNotNull(oldKeys)) {
+                oldKeys.byKeyId.keySet().stream()
+                    .filter(keyId -> !newKeys.byKeyId.containsKey(keyId))
+                    .forEach(keyId -> rotatedKeys.increment());
+            }
+            keys = newKeys;
+            refreshes.increment();
+            LOGGER.debug("-refresh(), name:{}, keys:{}", name, newKeys.jwks.size());
+            return newKeys.jwks.size();
+        }
+    }
+
+    /**
+     * Refreshes the keys in the background, unless a refresh is already in flight.
+     */
+    private void refreshAsync() {
+        if (refreshing.compareAndSet(false, true)) {
+            final Executor executor = BeanUtils.isNotNull(scheduler) ? scheduler : ForkJoinPool.commonPool();
+            try {
+                executor.execute(() -> {
+                    try {
+                        refresh();
+                    } catch (IOException | RuntimeException ex) {
+                        LOGGER.warn("Error refreshing the keys of [{}], serving the stale keys!", name, ex);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                refreshing.set(false);
+                LOGGER.warn("Error scheduling the refresh of [{}]!", name, ex);
+            }
+        }
+    }
+
+    /**
+     * Throws the <code>IOException</code>, if the last load of the keys failed within the
+     * <code>minRefreshInterval</code>, so the callers don't queue up on the failing source.
+     *
+     * @throws IOException
+     */
+    private void checkLoadRetry() throws IOException {
+        final long failedAt = loadFailedAt;
+        if (failedAt != Long.MIN_VALUE) {
+            final long retryInMillis = failedAt + minRefreshInterval.toMillis() - clock.millis();
+            if (retryInMillis > 0) {
+                throw new IOException("The keys of [" + name + "] aren't loaded, retrying in " + retryInMillis
+                                      + " ms!");
+            }
+        }
+    }
+
+    /**
+     * Returns the current keys, which are loaded on the caller's thread only the first time. The failed first loads
+     * are retried at most once per the <code>minRefreshInterval</code>. The expired keys are returned as is, while
+     * they are refreshed in the background.
+     *
+     * @return
+     * @throws IOException if the keys aren't loaded.
+     */
+    private Keys currentKeys() throws IOException {
+        Keys currentKeys = keys;
+        if (BeanUtils.isNull(currentKeys)) {
+            checkLoadRetry();
+            synchronized (refreshLock) {
+                if (BeanUtils.isNull(keys)) {
+                    // the callers queued behind a failed load fail fast
+                    checkLoadRetry();
+                    try {
+                        refresh();
+                    } catch (IOException | RuntimeException ex) {
+                        loadFailedAt = clock.millis();
+                        throw ex;
+                    }
+                }
+                currentKeys = keys;
+            }
+        } else if (clock.millis() >= currentKeys.expiresAt) {
+            refreshAsync();
+        }
+
+        return currentKeys;
+    }
+
+    /**
+     * Returns true, if the missing <code>kid</code> can refresh the keys now.
+     *
+     * @return
+     */
+    private boolean tryMissRefresh() {
+        final long now = clock.millis();
+        final long lastRefreshAt = lastMissRefreshAt.get();
+        return ((lastRefreshAt == Long.MIN_VALUE || now - lastRefreshAt >= minRefreshInterval.toMillis())
+                && lastMissRefreshAt.compareAndSet(lastRefreshAt, now));
+    }
+
+    /**
+     * Returns true, if the <code>jwk</code> can be used with the <code>algorithm</code>. The keys without the
+     * <code>alg</code> match any algorithm.
+     *
+     * @param jwk
+     * @param algorithm
+     * @return
+     */
+    private static boolean isAlgorithmOf(final JWK jwk, final Algorithm algorithm) {
+        return (BeanUtils.isNull(algorithm) || BeanUtils.isNull(jwk.getAlgorithm())
+                || jwk.getAlgorithm().equals(algorithm));
+    }
+
+    /**
+     * Returns the key of the <code>keyId</code>, which can be used with the <code>algorithm</code> (if provided), or
+     * null, if there is no such key even after the refresh.
+     *
+     * @param keyId
+     * @param algorithm
+     * @return
+     * @throws IOException if the keys have never been loaded.
+     */
+    public JWK getKey(final String keyId, final Algorithm algorithm) throws IOException {
+        BeanUtils.assertNonNull(keyId, "KeyId must not be null!");
+        JWK jwk = currentKeys().byKeyId.get(keyId);
+        if (BeanUtils.isNull(jwk) && tryMissRefresh()) {
+            LOGGER.debug("getKey({}), refreshing for the missing kid:{}", name, keyId);
+            try {
+                refresh();
+            } catch (IOException ex) {
+                LOGGER.warn("Error refreshing the keys of [{}] for the kid:{}!", name, keyId, ex);
+            }
+            jwk = keys.byKeyId.get(keyId);
+        }
+
+        if (BeanUtils.isNull(jwk) || !isAlgorithmOf(jwk, algorithm)) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return jwk;
+    }
+
+    /**
+     * Returns the key of the <code>keyId</code>.
+     *
+     * @param keyId
+     * @return
+     * @throws IOException
+     */
+    public JWK getKey(final String keyId) throws IOException {
+        return getKey(keyId, null);
+    }
+
+    /**
+     * Returns the keys, which declare the <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     * @throws IOException
+     */
+    public List<JWK> getKeys(final Algorithm algorithm) throws IOException {
+        BeanUtils.assertNonNull(algorithm, "Algorithm must not be null!");
+        final List<JWK> jwks = currentKeys().byAlgorithm.get(algorithm);
+        return (BeanUtils.isNull(jwks) ? Collections.emptyList() : Collections.unmodifiableList(jwks));
+    }
+
+    /**
+     * Returns all the keys in the order of the JWKS.
+     *
+     * @return
+     * @throws IOException
+     */
+    public List<JWK> getKeys() throws IOException {
+        return currentKeys().jwks;
+    }
+
+    /**
+     * Returns the key of the token of the <code>jwsHeader</code>, which is the key of its <code>kid</code>, or the
+     * first key of its algorithm for the tokens without the <code>kid</code>.
+     *
+     * @param jwsHeader
+     * @return
+     * @throws IOException
+     */
+    public JWK resolve(final JWSHeader jwsHeader) throws IOException {
+        BeanUtils.assertNonNull(jwsHeader, "JwsHeader must not be null!");
+        if (BeanUtils.isNotNull(jwsHeader.getKeyID())) {
+            return getKey(jwsHeader.getKeyID(), jwsHeader.getAlgorithm());
+        }
+
+        for (JWK jwk : getKeys()) {
+            if (isAlgorithmOf(jwk, jwsHeader.getAlgorithm())) {
+                hits.increment();
+                return jwk;
+            }
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Schedules the next refresh of the keys after the <code>delayMillis</code>.
+     *
+     * @param delayMillis
+     */
+    private void scheduleRefresh(final long delayMillis) {
+        final ScheduledExecutorService currentScheduler = scheduler;
+        if (BeanUtils.isNull(currentScheduler)) {
+            return;
+        }
+
+        try {
+            scheduledRefresh = currentScheduler.schedule(() -> {
+                long nextDelayMillis = minRefreshInterval.toMillis();
+                try {
+                    refresh();
+                    nextDelayMillis = Math.max(nextDelayMillis, keys.expiresAt - refreshAhead.toMillis()
+                                                                - clock.millis());
+                } catch (IOException | RuntimeException ex) {
+                    LOGGER.warn("Error refreshing the keys of [{}], retrying in {} ms!", name, nextDelayMillis, ex);
+                }
+                scheduleRefresh(nextDelayMillis);
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            LOGGER.warn("Error scheduling the refresh of [{}], the scheduler is shut down!", name, ex);
+        }
+    }
+
+    /**
+     * Starts refreshing the keys on the <code>scheduler</code>. The first refresh runs immediately, and the next
+     * ones the <code>refreshAhead</code> before the keys expire. The scheduler isn't shut down by this key store.
+     *
+     * @param scheduler
+     * @return
+     */
+    public JwksKeyStore start(final ScheduledExecutorService scheduler) {
+        BeanUtils.assertNonNull(scheduler, "Scheduler must not be null!");
+        synchronized (refreshLock) {
+            if (BeanUtils.isNotNull(this.scheduler)) {
+                throw new IllegalStateException("The key store [" + name + "] is already started!");
+            }
+            this.scheduler = scheduler;
+        }
+
+        scheduleRefresh(0);
+        return this;
+    }
+
+    /**
+     * Stops refreshing the keys in the background. The current keys are still served.
+     */
+    public void stop() {
+        synchronized (refreshLock) {
+            scheduler = null;
+        }
+
+        final ScheduledFuture<?> currentRefresh = scheduledRefresh;
+        if (BeanUtils.isNotNull(currentRefresh)) {
+            currentRefresh.cancel(false);
+        }
+    }
+
+    /**
+     * Returns the number of the current keys.
+     *
+     * @return
+     */
+    public int size() {
+        final Keys currentKeys = keys;
+        return (BeanUtils.isNull(currentKeys) ? 0 : currentKeys.jwks.size());
+    }
+
+    /**
+     * Returns the number of the successful refreshes.
+     *
+     * @return
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of the failed refreshes.
+     *
+     * @return
+     */
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Returns the statistics of the key lookups. The evictions are the keys rotated out by the refreshes.
+     *
+     * @return
+     */
+    public CacheStats getStats() {
+        return CacheStats.of(name, hits.sum(), misses.sum(), rotatedKeys.sum(), size());
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(JwksKeyStore.class)
+            .add("name", name)
+            .add("size", size())
+            .add("refreshInterval", refreshInterval)
+            .add("refreshAhead", refreshAhead)
+            .add("minRefreshInterval", minRefreshInterval)
+            .add("refreshes", refreshes.sum())
+            .add("refreshFailures", refreshFailures.sum())
+            .toString();
+    }
+}
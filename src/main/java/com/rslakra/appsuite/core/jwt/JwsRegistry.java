@@ -0,0 +1,476 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.rslakra.appsuite.core.BeanUtils;
+import com.rslakra.appsuite.core.Digester;
+import com.rslakra.appsuite.core.ToString;
+import org.jose4j.keys.HmacKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>JwsRegistry</code> keeps the prepared, thread-safe signers and verifiers per secret or key ID, so the
+ * token issuance and the verification don't parse the keys or allocate the JCA engines per call.
+ * <p>
+ * The HMAC secrets are served by the <code>PooledMACSigner</code>, and the RSA keys by the
+ * <code>PooledRSASSASigner</code>/<code>PooledRSASSAVerifier</code>, which pool their initialized
+ * <code>Mac</code>/<code>Signature</code> instances. The secrets and the keys are identified by the SHA-256 digest of
+ * their contents, so a rotated key never reuses the engines of the old key and the raw secrets are never retained as
+ * the keys of the registry.
+ * <p>
+ * The signers, the verifiers and the <code>HmacKey</code>s are kept in the access-ordered maps, each of which evicts
+ * its least recently used entry once it has the <code>maxSize</code> entries, so the rotated keys don't pile up.
+ *
+ * <pre>
+ *  final JWSSigner jwsSigner = jwsRegistry.macSigner(clientSecret);
+ *  final JWSVerifier jwsVerifier = jwsRegistry.verifier(keyId, () -&gt; new PooledRSASSAVerifier(rsaPublicKey));
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 2:15 PM
+ */
+public final class JwsRegistry {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwsRegistry.class);
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+    private static final Digester SHA_256_DIGESTER = Digester.of(Digester.SHA_256);
+
+    /**
+     * Creates the <code>JWSSigner</code> of a key.
+     */
+    @FunctionalInterface
+    public interface SignerFactory {
+
+        /**
+         * @return
+         * @throws JOSEException
+         */
+        JWSSigner newSigner() throws JOSEException;
+    }
+
+    /**
+     * The LRU map of the registry, which evicts its least recently used entry once it's full. It's guarded by
+     * itself.
+     *
+     * @param <V>
+     */
+    private final class LruMap<V> extends LinkedHashMap<String, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         *
+         */
+        private LruMap() {
+            super(16, 0.75f, true);
+        }
+
+        /**
+         * @param eldest
+         * @return
+         */
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * @param key
+         * @return
+         */
+        private synchronized V find(final String key) {
+            return get(key);
+        }
+
+        /**
+         * Registers the <code>value</code> unless the <code>key</code> has one, and returns the registered value.
+         *
+         * @param key
+         * @param value
+         * @return
+         */
+        private synchronized V register(final String key, final V value) {
+            final V oldValue = putIfAbsent(key, value);
+            return (BeanUtils.isNull(oldValue) ? value : oldValue);
+        }
+
+        /**
+         * @param key
+         */
+        private synchronized void unregister(final String key) {
+            remove(key);
+        }
+
+        /**
+         *
+         */
+        private synchronized void unregisterAll() {
+            clear();
+        }
+
+        /**
+         * @return
+         */
+        private synchronized int count() {
+            return size();
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final LongAdder evictions = new LongAdder();
+    private final LruMap<JWSSigner> signers = new LruMap<>();
+    private final LruMap<JWSVerifier> verifiers = new LruMap<>();
+    private final LruMap<HmacKey> hmacKeys = new LruMap<>();
+
+    /**
+     * @param name
+     * @param maxSize
+     */
+    private JwsRegistry(final String name, final int maxSize) {
+        BeanUtils.assertNonNull(name, "Name must not be null!");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid maxSize:" + maxSize);
+        }
+
+        this.name = name;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the new registry, which keeps up to the <code>maxSize</code> signers, verifiers and
+     * <code>HmacKey</code>s each.
+     *
+     * @param name
+     * @param maxSize
+     * @return
+     */
+    public static JwsRegistry of(final String name, final int maxSize) {
+        return new JwsRegistry(name, maxSize);
+    }
+
+    /**
+     * Returns the new registry of the <code>DEFAULT_MAX_SIZE</code>.
+     *
+     * @param name
+     * @return
+     */
+    public static JwsRegistry of(final String name) {
+        return of(name, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Returns the identity of the <code>keyMaterial</code> of the <code>keyType</code>, which is the SHA-256 digest of
+     * the key material, so the secrets are never kept in the clear.
+     *
+     * @param keyType
+     * @param keyMaterial
+     * @return
+     */
+    static String keyIdentity(final String keyType, final String keyMaterial) {
+        final byte[] digest = SHA_256_DIGESTER.newMessageDigest().digest(keyMaterial.getBytes(StandardCharsets.UTF_8));
+        return (keyType + ":" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest));
+    }
+
+    /**
+     * Returns the identity of the HMAC <code>clientSecret</code>.
+     *
+     * @param clientSecret
+     * @return
+     */
+    static String macKeyIdentity(final String clientSecret) {
+        return keyIdentity("HS", clientSecret);
+    }
+
+    /**
+     * Returns the identity of the public key of the <code>rsaKey</code>.
+     *
+     * @param rsaKey
+     * @return
+     */
+    static String rsaKeyIdentity(final RSAKey rsaKey) {
+        return keyIdentity("RS", rsaKey.getModulus() + "." + rsaKey.getPublicExponent());
+    }
+
+    /**
+     * Returns the identity of the secret of the <code>octetSequenceKey</code>.
+     *
+     * @param octetSequenceKey
+     * @return
+     */
+    static String octKeyIdentity(final OctetSequenceKey octetSequenceKey) {
+        return keyIdentity("OCT", octetSequenceKey.getKeyValue().toString());
+    }
+
+    /**
+     * Returns the identity of the public key of the <code>ecKey</code>.
+     *
+     * @param ecKey
+     * @return
+     */
+    static String ecKeyIdentity(final ECKey ecKey) {
+        return keyIdentity("EC", ecKey.getCurve() + "." + ecKey.getX() + "." + ecKey.getY());
+    }
+
+    /**
+     * Returns the name of this registry.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the maximum number of the signers, the verifiers and the <code>HmacKey</code>s each.
+     *
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the signer registered for the <code>keyId</code>, which is created with the <code>signerFactory</code>
+     * on the first use.
+     *
+     * @param keyId
+     * @param signerFactory
+     * @return
+     * @throws JOSEException
+     */
+    public JWSSigner signer(final String keyId, final SignerFactory signerFactory) throws JOSEException {
+        BeanUtils.assertNonNull(keyId, "KeyId must not be null!");
+        JWSSigner jwsSigner = signers.find(keyId);
+        if (BeanUtils.isNull(jwsSigner)) {
+            // the concurrent callers may create the signer twice, only one is registered.
+            final JWSSigner newSigner = signerFactory.newSigner();
+            jwsSigner = signers.register(keyId, newSigner);
+            if (jwsSigner == newSigner) {
+                LOGGER.debug("signer({}), registered:{}", name, newSigner.getClass().getSimpleName());
+            }
+        }
+
+        return jwsSigner;
+    }
+
+    /**
+     * Returns the verifier registered for the <code>keyId</code>, which is created with the
+     * <code>verifierFactory</code> on the first use.
+     *
+     * @param keyId
+     * @param verifierFactory
+     * @return
+     * @throws JOSEException
+     */
+    public JWSVerifier verifier(final String keyId, final VerifiedTokenCache.VerifierFactory verifierFactory)
+        throws JOSEException {
+        BeanUtils.assertNonNull(keyId, "KeyId must not be null!");
+        JWSVerifier jwsVerifier = verifiers.find(keyId);
+        if (BeanUtils.isNull(jwsVerifier)) {
+            final JWSVerifier newVerifier = verifierFactory.newVerifier();
+            jwsVerifier = verifiers.register(keyId, newVerifier);
+            if (jwsVerifier == newVerifier) {
+                LOGGER.debug("verifier({}), registered:{}", name, newVerifier.getClass().getSimpleName());
+            }
+        }
+
+        return jwsVerifier;
+    }
+
+    /**
+     * Returns the HMAC signer of the <code>clientSecret</code>.
+     *
+     * @param clientSecret
+     * @return
+     * @throws JOSEException
+     */
+    public JWSSigner macSigner(final String clientSecret) throws JOSEException {
+        BeanUtils.assertNonNull(clientSecret, "ClientSecret must not be null!");
+        return signer(macKeyIdentity(clientSecret), () -> new PooledMACSigner(clientSecret));
+    }
+
+    /**
+     * Returns the HMAC verifier of the <code>clientSecret</code>.
+     *
+     * @param clientSecret
+     * @return
+     * @throws JOSEException
+     */
+    public JWSVerifier macVerifier(final String clientSecret) throws JOSEException {
+        BeanUtils.assertNonNull(clientSecret, "ClientSecret must not be null!");
+        return verifier(macKeyIdentity(clientSecret), () -> new PooledMACSigner(clientSecret));
+    }
+
+    /**
+     * Returns the RSA signer of the private key of the <code>rsaKey</code>.
+     *
+     * @param rsaKey
+     * @return
+     * @throws JOSEException
+     */
+    public JWSSigner rsaSigner(final RSAKey rsaKey) throws JOSEException {
+        BeanUtils.assertNonNull(rsaKey, "RsaKey must not be null!");
+        if (!rsaKey.isPrivate()) {
+            throw new JOSEException("The RSA JWK doesn't contain a private part");
+        }
+
+        return signer(rsaKeyIdentity(rsaKey), () -> new PooledRSASSASigner(rsaKey));
+    }
+
+    /**
+     * Returns the RSA verifier of the public key of the <code>rsaKey</code>.
+     *
+     * @param rsaKey
+     * @return
+     * @throws JOSEException
+     */
+    public JWSVerifier rsaVerifier(final RSAKey rsaKey) throws JOSEException {
+        BeanUtils.assertNonNull(rsaKey, "RsaKey must not be null!");
+        return verifier(rsaKeyIdentity(rsaKey), () -> new PooledRSASSAVerifier(rsaKey));
+    }
+
+    /**
+     * Returns the new verifier of the <code>jwk</code> of a JWKS (i.e. the RSA, EC public key or the octet sequence
+     * secret), which isn't registered.
+     *
+     * @param jwk
+     * @return
+     * @throws JOSEException if the type of the key isn't supported.
+     */
+    static JWSVerifier newVerifier(final JWK jwk) throws JOSEException {
+        BeanUtils.assertNonNull(jwk, "Jwk must not be null!");
+        if (jwk instanceof RSAKey) {
+            return new PooledRSASSAVerifier((RSAKey) jwk);
+        } else if (jwk instanceof OctetSequenceKey) {
+            return new PooledMACSigner(((OctetSequenceKey) jwk).toByteArray());
+        } else if (jwk instanceof ECKey) {
+            return new ECDSAVerifier(((ECKey) jwk).toPublicJWK());
+        }
+
+        throw new JOSEException("Unsupported key type:" + jwk.getKeyType());
+    }
+
+    /**
+     * Returns the identity of the <code>jwk</code>.
+     *
+     * @param jwk
+     * @return
+     * @throws JOSEException if the type of the key isn't supported.
+     */
+    private static String jwkIdentity(final JWK jwk) throws JOSEException {
+        if (jwk instanceof RSAKey) {
+            return rsaKeyIdentity((RSAKey) jwk);
+        } else if (jwk instanceof OctetSequenceKey) {
+            return octKeyIdentity((OctetSequenceKey) jwk);
+        } else if (jwk instanceof ECKey) {
+            return ecKeyIdentity((ECKey) jwk);
+        }
+
+        throw new JOSEException("Unsupported key type:" + jwk.getKeyType());
+    }
+
+    /**
+     * Returns the verifier of the <code>jwk</code> of a JWKS (i.e. the RSA, EC public key or the octet sequence
+     * secret), which is registered by the digest of the key.
+     *
+     * @param jwk
+     * @return
+     * @throws JOSEException if the type of the key isn't supported.
+     */
+    public JWSVerifier verifier(final JWK jwk) throws JOSEException {
+        BeanUtils.assertNonNull(jwk, "Jwk must not be null!");
+        return verifier(jwkIdentity(jwk), () -> newVerifier(jwk));
+    }
+
+    /**
+     * Returns the <code>HmacKey</code> of the <code>clientSecret</code> of the jose4j signatures.
+     *
+     * @param clientSecret
+     * @return
+     */
+    public HmacKey hmacKey(final String clientSecret) {
+        BeanUtils.assertNonNull(clientSecret, "ClientSecret must not be null!");
+        final String keyId = macKeyIdentity(clientSecret);
+        final HmacKey hmacKey = hmacKeys.find(keyId);
+        if (BeanUtils.isNull(hmacKey)) {
+            return hmacKeys.register(keyId, new HmacKey(clientSecret.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        return hmacKey;
+    }
+
+    /**
+     * Removes the signer and the verifier of the <code>keyId</code>.
+     *
+     * @param keyId
+     */
+    public void remove(final String keyId) {
+        signers.unregister(keyId);
+        verifiers.unregister(keyId);
+        hmacKeys.unregister(keyId);
+    }
+
+    /**
+     * Removes the signer, the verifier and the <code>HmacKey</code> of the <code>clientSecret</code>.
+     *
+     * @param clientSecret
+     */
+    public void removeSecret(final String clientSecret) {
+        remove(macKeyIdentity(clientSecret));
+    }
+
+    /**
+     * Removes all the signers and the verifiers.
+     */
+    public void clear() {
+        signers.unregisterAll();
+        verifiers.unregisterAll();
+        hmacKeys.unregisterAll();
+    }
+
+    /**
+     * Returns the number of the registered signers and verifiers.
+     *
+     * @return
+     */
+    public int size() {
+        return (signers.count() + verifiers.count());
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(JwsRegistry.class)
+            .add("name", name)
+            .add("maxSize", maxSize)
+            .add("signers", signers.count())
+            .add("verifiers", verifiers.count())
+            .add("evictions", evictions.sum())
+            .toString();
+    }
+}
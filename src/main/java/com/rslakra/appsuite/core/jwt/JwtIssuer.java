@@ -0,0 +1,444 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.rslakra.appsuite.core.BeanUtils;
+import com.rslakra.appsuite.core.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * The <code>JwtIssuer</code> issues the signed JWTs of a client with the fixed key, header and claims template.
+ * <p>
+ * It's immutable and doesn't share any mutable state, so a single issuer signs from any number of (virtual) threads
+ * without any lock. The signature is computed by the pooled signer of the key (i.e. the
+ * <code>PooledMACSigner</code>, <code>PooledRSASSASigner</code>), which is created once per issuer.
+ *
+ * <pre>
+ *  final JwtIssuer jwtIssuer = JwtIssuer.of(jwtRequest);
+ *  final String jwtToken = jwtIssuer.issue();
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 3:10 PM
+ */
+public final class JwtIssuer {
+
+    public static final Duration DEFAULT_EXPIRY = Duration.ofMinutes(5);
+    public static final String CLAIM_CLIENT_ID = "cli";
+
+    private final JWSHeader jwsHeader;
+    private final JWSSigner jwsSigner;
+    private final String issuer;
+    private final String subject;
+    private final String audience;
+    private final String clientId;
+    private final Duration expiry;
+    private final boolean withJwtId;
+    private final Clock clock;
+
+    /**
+     * @param builder
+     * @param jwsSigner
+     */
+    private JwtIssuer(final Builder builder, final JWSSigner jwsSigner) {
+        final JWSHeader.Builder headerBuilder = new JWSHeader.Builder(builder.algorithm).type(JOSEObjectType.JWT);
+        if (BeanUtils.isNotEmpty(builder.keyId)) {
+            headerBuilder.keyID(builder.keyId);
+        }
+        this.jwsHeader = headerBuilder.build();
+        this.jwsSigner = jwsSigner;
+        this.issuer = builder.issuer;
+        this.subject = builder.subject;
+        this.audience = builder.audience;
+        this.clientId = builder.clientId;
+        this.expiry = builder.expiry;
+        this.withJwtId = builder.withJwtId;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * The <code>Builder</code> of the <code>JwtIssuer</code>. It's not thread-safe, but the built issuers are.
+     */
+    public static final class Builder {
+
+        private JWSAlgorithm algorithm;
+        private String clientSecret;
+        private boolean allowShortSecret;
+        private RSAKey rsaKey;
+        private String keyId;
+        private String issuer;
+        private String subject;
+        private String audience;
+        private String clientId;
+        private Duration expiry = DEFAULT_EXPIRY;
+        private boolean withJwtId;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * Signs the tokens with the HMAC <code>clientSecret</code> and the <code>HS256</code>.
+         *
+         * @param clientSecret
+         * @return
+         */
+        public Builder macSecret(final String clientSecret) {
+            return macSecret(clientSecret, JWSAlgorithm.HS256);
+        }
+
+        /**
+         * Signs the tokens with the HMAC <code>clientSecret</code> and the <code>algorithm</code>.
+         *
+         * @param clientSecret
+         * @param algorithm
+         * @return
+         */
+        public Builder macSecret(final String clientSecret, final JWSAlgorithm algorithm) {
+            this.clientSecret = clientSecret;
+            this.rsaKey = null;
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        /**
+         * Allows the HMAC secrets shorter than the 256 bits (i.e. the secrets of the legacy clients, which the
+         * <code>JWTUtils.jwtToken()</code> accepts). They are rejected by default.
+         *
+         * @param allowShortSecret
+         * @return
+         */
+        public Builder allowShortSecret(final boolean allowShortSecret) {
+            this.allowShortSecret = allowShortSecret;
+            return this;
+        }
+
+        /**
+         * Signs the tokens with the private key of the <code>rsaKey</code> and the <code>RS256</code>. The
+         * <code>kid</code> of the key is added to the header.
+         *
+         * @param rsaKey
+         * @return
+         */
+        public Builder rsaKey(final RSAKey rsaKey) {
+            return rsaKey(rsaKey, JWSAlgorithm.RS256);
+        }
+
+        /**
+         * Signs the tokens with the private key of the <code>rsaKey</code> and the <code>algorithm</code>.
+         *
+         * @param rsaKey
+         * @param algorithm
+         * @return
+         */
+        public Builder rsaKey(final RSAKey rsaKey, final JWSAlgorithm algorithm) {
+            this.rsaKey = rsaKey;
+            this.clientSecret = null;
+            this.algorithm = algorithm;
+            if (BeanUtils.isNotNull(rsaKey) && BeanUtils.isNull(keyId)) {
+                this.keyId = rsaKey.getKeyID();
+            }
+            return this;
+        }
+
+        /**
+         * @param keyId
+         * @return
+         */
+        public Builder keyId(final String keyId) {
+            this.keyId = keyId;
+            return this;
+        }
+
+        /**
+         * @param issuer
+         * @return
+         */
+        public Builder issuer(final String issuer) {
+            this.issuer = issuer;
+            return this;
+        }
+
+        /**
+         * @param subject
+         * @return
+         */
+        public Builder subject(final String subject) {
+            this.subject = subject;
+            return this;
+        }
+
+        /**
+         * @param audience
+         * @return
+         */
+        public Builder audience(final String audience) {
+            this.audience = audience;
+            return this;
+        }
+
+        /**
+         * Adds the <code>cli</code> claim of the <code>clientId</code>.
+         *
+         * @param clientId
+         * @return
+         */
+        public Builder clientId(final String clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        /**
+         * @param expiry
+         * @return
+         */
+        public Builder expiry(final Duration expiry) {
+            this.expiry = expiry;
+            return this;
+        }
+
+        /**
+         * Adds the random <code>jti</code> to each token.
+         *
+         * @param withJwtId
+         * @return
+         */
+        public Builder withJwtId(final boolean withJwtId) {
+            this.withJwtId = withJwtId;
+            return this;
+        }
+
+        /**
+         * @param clock
+         * @return
+         */
+        public Builder clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Returns true if the <code>clientSecret</code> is shorter than the 256 bits of the <code>HS256</code>.
+         *
+         * @param clientSecret
+         * @return
+         * @throws JOSEException
+         */
+        private static boolean isShortSecret(final String clientSecret) throws JOSEException {
+            final int secretBits = clientSecret.getBytes(StandardCharsets.UTF_8).length * 8;
+            return (secretBits < MACSigner.getMinRequiredSecretLength(JWSAlgorithm.HS256));
+        }
+
+        /**
+         * Returns the new <code>JwtIssuer</code>.
+         *
+         * @return
+         * @throws JOSEException if the key can't sign the tokens of the algorithm (i.e. the secret is shorter than
+         *                       the 256 bits and the <code>allowShortSecret</code> isn't set).
+         */
+        public JwtIssuer build() throws JOSEException {
+            BeanUtils.assertNonNull(expiry, "Expiry must not be null!");
+            BeanUtils.assertNonNull(clock, "Clock must not be null!");
+            if (expiry.isNegative() || expiry.isZero()) {
+                throw new IllegalArgumentException("Invalid expiry:" + expiry);
+            }
+
+            final JWSSigner jwsSigner;
+            if (BeanUtils.isNotNull(clientSecret) && allowShortSecret && isShortSecret(clientSecret)) {
+                jwsSigner = new ShortSecretMACSigner(clientSecret);
+                if (!jwsSigner.supportedJWSAlgorithms().contains(algorithm)) {
+                    throw new JOSEException("The secret can't sign the " + algorithm + " tokens!");
+                }
+            } else if (BeanUtils.isNotNull(clientSecret)) {
+                final PooledMACSigner macSigner = new PooledMACSigner(clientSecret);
+                if (!macSigner.supportedJWSAlgorithms().contains(algorithm)) {
+                    throw new JOSEException("The secret can't sign the " + algorithm + " tokens!");
+                }
+                jwsSigner = macSigner;
+            } else if (BeanUtils.isNotNull(rsaKey)) {
+                jwsSigner = new PooledRSASSASigner(rsaKey);
+                if (!jwsSigner.supportedJWSAlgorithms().contains(algorithm)) {
+                    throw new JOSEException("The RSA key can't sign the " + algorithm + " tokens!");
+                }
+            } else {
+                throw new IllegalStateException("Either the macSecret or the rsaKey must be set!");
+            }
+
+            return new JwtIssuer(this, jwsSigner);
+        }
+    }
+
+    /**
+     * Returns the new <code>Builder</code>.
+     *
+     * @return
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the builder of the client of the <code>jwtRequest</code>, which issues the tokens of the
+     * <code>clientId</code> as the issuer and the subject for the audience of the <code>jwtRequest</code>.
+     *
+     * @param jwtRequest
+     * @return
+     */
+    private static Builder builderOf(final JwtRequest jwtRequest) {
+        BeanUtils.assertNonNull(jwtRequest, "JwtRequest must not be null!");
+        final Builder builder = builder()
+            .issuer(jwtRequest.getClientId())
+            .subject(jwtRequest.getClientId())
+            .audience(JWTUtils.getAudienceUrl(jwtRequest))
+            .withJwtId(jwtRequest.isWithJwtId());
+        if (jwtRequest.getExpiryTimeInMinutes() > 0) {
+            builder.expiry(Duration.ofMinutes(jwtRequest.getExpiryTimeInMinutes()));
+        }
+
+        return builder;
+    }
+
+    /**
+     * Returns the HS256 issuer of the client of the <code>jwtRequest</code>, which is signed with its
+     * <code>clientSecret</code>. The secrets shorter than the 256 bits are accepted, if the
+     * <code>allowShortSecret</code> is set, as the <code>JWTUtils.jwtToken(JwtRequest)</code> does.
+     *
+     * @param jwtRequest
+     * @param allowShortSecret
+     * @return
+     * @throws JOSEException
+     */
+    public static JwtIssuer of(final JwtRequest jwtRequest, final boolean allowShortSecret) throws JOSEException {
+        return builderOf(jwtRequest)
+            .macSecret(jwtRequest.getClientSecret())
+            .allowShortSecret(allowShortSecret)
+            .build();
+    }
+
+    /**
+     * Returns the HS256 issuer of the client of the <code>jwtRequest</code>, which is signed with its
+     * <code>clientSecret</code>.
+     * <p>
+     * Unlike the <code>JWTUtils.jwtToken(JwtRequest)</code>, the secrets shorter than the 256 bits are rejected; use
+     * the <code>of(jwtRequest, true)</code> for such clients.
+     *
+     * @param jwtRequest
+     * @return
+     * @throws JOSEException
+     */
+    public static JwtIssuer of(final JwtRequest jwtRequest) throws JOSEException {
+        return of(jwtRequest, false);
+    }
+
+    /**
+     * Returns the RS256 issuer of the client of the <code>jwtRequest</code>, which is signed with the private key of
+     * the <code>rsaKey</code>.
+     *
+     * @param jwtRequest
+     * @param rsaKey
+     * @return
+     * @throws JOSEException
+     */
+    public static JwtIssuer of(final JwtRequest jwtRequest, final RSAKey rsaKey) throws JOSEException {
+        return builderOf(jwtRequest).rsaKey(rsaKey).build();
+    }
+
+    /**
+     * Returns the header of the issued tokens.
+     *
+     * @return
+     */
+    public JWSHeader getHeader() {
+        return jwsHeader;
+    }
+
+    /**
+     * Returns the claims of the token of the <code>tokenSubject</code> issued at the <code>now</code>.
+     *
+     * @param tokenSubject
+     * @param now
+     * @return
+     */
+    private JWTClaimsSet newClaimsSet(final String tokenSubject, final long now) {
+        final JWTClaimsSet.Builder claimsBuilder = new JWTClaimsSet.Builder()
+            .issuer(issuer)
+            .subject(tokenSubject)
+            .issueTime(new Date(now))
+            .expirationTime(new Date(now + expiry.toMillis()));
+        if (BeanUtils.isNotNull(audience)) {
+            claimsBuilder.audience(audience);
+        }
+        if (BeanUtils.isNotNull(clientId)) {
+            claimsBuilder.claim(CLAIM_CLIENT_ID, clientId);
+        }
+        if (withJwtId) {
+            claimsBuilder.jwtID(UUID.randomUUID().toString());
+        }
+
+        return claimsBuilder.build();
+    }
+
+    /**
+     * Returns the signed token of the <code>tokenSubject</code>.
+     *
+     * @param tokenSubject
+     * @return
+     * @throws JOSEException
+     */
+    public SignedJWT issueSigned(final String tokenSubject) throws JOSEException {
+        final SignedJWT signedJwt = new SignedJWT(jwsHeader, newClaimsSet(tokenSubject, clock.millis()));
+        signedJwt.sign(jwsSigner);
+        return signedJwt;
+    }
+
+    /**
+     * Returns the compact form of the signed token of the <code>tokenSubject</code>.
+     *
+     * @param tokenSubject
+     * @return
+     * @throws JOSEException
+     */
+    public String issue(final String tokenSubject) throws JOSEException {
+        return issueSigned(tokenSubject).serialize();
+    }
+
+    /**
+     * Returns the compact form of the signed token of the configured subject.
+     *
+     * @return
+     * @throws JOSEException
+     */
+    public String issue() throws JOSEException {
+        return issue(subject);
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(JwtIssuer.class)
+            .add("algorithm", jwsHeader.getAlgorithm())
+            .add("keyId", jwsHeader.getKeyID())
+            .add("issuer", issuer)
+            .add("subject", subject)
+            .add("audience", audience)
+            .add("expiry", expiry)
+            .add("withJwtId", withJwtId)
+            .toString();
+    }
+}
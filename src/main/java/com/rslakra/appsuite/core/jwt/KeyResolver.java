@@ -0,0 +1,40 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.io.IOException;
+
+/**
+ * The <code>KeyResolver</code> resolves the verification key of a token from its header (i.e. by its
+ * <code>kid</code>). The <code>JwksKeyStore::resolve</code> is the resolver of the keys of a JWKS.
+ * <p>
+ * The resolvers are called concurrently by the <code>JWTUtils.verifyAll()</code>, so they must be thread-safe.
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 5:30 PM
+ */
+@FunctionalInterface
+public interface KeyResolver {
+
+    /**
+     * Returns the key of the token of the <code>jwsHeader</code>, or null, if there is no such key.
+     *
+     * @param jwsHeader
+     * @return
+     * @throws IOException
+     */
+    JWK resolve(JWSHeader jwsHeader) throws IOException;
+
+    /**
+     * Returns the resolver, which verifies all the tokens with the <code>jwk</code>.
+     *
+     * @param jwk
+     * @return
+     */
+    static KeyResolver of(final JWK jwk) {
+        BeanUtils.assertNonNull(jwk, "Jwk must not be null!");
+        return jwsHeader -> jwk;
+    }
+}
@@ -0,0 +1,141 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.CriticalHeaderParamsAware;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.KeyLengthException;
+import com.nimbusds.jose.crypto.impl.AlgorithmSupportMessage;
+import com.nimbusds.jose.crypto.impl.CriticalHeaderParamsDeferral;
+import com.nimbusds.jose.crypto.impl.HMAC;
+import com.nimbusds.jose.crypto.impl.MACProvider;
+import com.nimbusds.jose.util.Base64URL;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+
+/**
+ * The <code>PooledMACSigner</code> signs and verifies the HMAC protected JWS objects (i.e. <code>HS256</code>) of a
+ * secret with the pooled <code>Mac</code> instances, which are initialized with the secret once, instead of the
+ * provider lookup and the key initialization of the <code>MACSigner</code>/<code>MACVerifier</code> per signature.
+ * <p>
+ * It's thread-safe and should be reused for the secret (i.e. through the <code>JwsRegistry</code>).
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 1:40 PM
+ */
+public final class PooledMACSigner extends MACProvider implements JWSSigner, JWSVerifier, CriticalHeaderParamsAware {
+
+    private final CriticalHeaderParamsDeferral critPolicy = new CriticalHeaderParamsDeferral();
+    private final Map<JWSAlgorithm, EnginePool<Mac>> macPools = new ConcurrentHashMap<>();
+
+    /**
+     * @param secret
+     * @throws KeyLengthException if the secret is shorter than 256 bits.
+     */
+    public PooledMACSigner(final byte[] secret) throws KeyLengthException {
+        super(secret);
+    }
+
+    /**
+     * @param secret
+     * @throws KeyLengthException if the secret is shorter than 256 bits.
+     */
+    public PooledMACSigner(final String secret) throws KeyLengthException {
+        this(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the pool of the <code>Mac</code> instances of the <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     * @throws JOSEException
+     */
+    private EnginePool<Mac> macPoolOf(final JWSAlgorithm algorithm) throws JOSEException {
+        EnginePool<Mac> macPool = macPools.get(algorithm);
+        if (BeanUtils.isNull(macPool)) {
+            // the shorter secrets can still verify (and reject) the signatures of the longer algorithms
+            if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+                throw new JOSEException(AlgorithmSupportMessage.unsupportedJWSAlgorithm(algorithm,
+                                                                                         SUPPORTED_ALGORITHMS));
+            }
+            final String jcaAlgorithm = getJCAAlgorithmName(algorithm);
+            macPool = macPools.computeIfAbsent(algorithm, key -> new EnginePool<>(
+                () -> HMAC.getInitMac(jcaAlgorithm, getSecretKey(), getJCAContext().getProvider())));
+        }
+
+        return macPool;
+    }
+
+    /**
+     * Returns the HMAC of the <code>signingInput</code> with the algorithm of the <code>header</code>.
+     *
+     * @param header
+     * @param signingInput
+     * @return
+     * @throws JOSEException
+     */
+    private byte[] computeMac(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+        final EnginePool<Mac> macPool = macPoolOf(header.getAlgorithm());
+        final Mac mac = macPool.borrow();
+        // the doFinal() resets the mac for the next use with the same key
+        final byte[] hmac = mac.doFinal(signingInput);
+        macPool.release(mac);
+        return hmac;
+    }
+
+    /**
+     * @param header
+     * @param signingInput
+     * @return
+     * @throws JOSEException
+     */
+    @Override
+    public Base64URL sign(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+        ensureSecretLengthSatisfiesAlgorithm(header.getAlgorithm());
+        return Base64URL.encode(computeMac(header, signingInput));
+    }
+
+    /**
+     * @param header
+     * @param signingInput
+     * @param signature
+     * @return
+     * @throws JOSEException
+     */
+    @Override
+    public boolean verify(final JWSHeader header, final byte[] signingInput, final Base64URL signature)
+        throws JOSEException {
+        if (!critPolicy.headerPasses(header)) {
+            return false;
+        }
+
+        // constant time comparison
+        return MessageDigest.isEqual(computeMac(header, signingInput), signature.decode());
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Set<String> getProcessedCriticalHeaderParams() {
+        return critPolicy.getProcessedCriticalHeaderParams();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Set<String> getDeferredCriticalHeaderParams() {
+        return critPolicy.getDeferredCriticalHeaderParams();
+    }
+}
@@ -0,0 +1,137 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.impl.AlgorithmSupportMessage;
+import com.nimbusds.jose.crypto.impl.RSASSA;
+import com.nimbusds.jose.crypto.impl.RSASSAProvider;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The <code>PooledRSASSASigner</code> signs the RSA protected JWS objects (i.e. <code>RS256</code>,
+ * <code>PS256</code>) with the pooled <code>Signature</code> instances, which are initialized with the private key
+ * once, instead of the provider lookup and the key initialization of the <code>RSASSASigner</code> per signature.
+ * <p>
+ * It's thread-safe and should be reused for the key (i.e. through the <code>JwsRegistry</code>).
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 1:55 PM
+ */
+public final class PooledRSASSASigner extends RSASSAProvider implements JWSSigner {
+
+    public static final int MIN_KEY_SIZE_BITS = 2048;
+
+    private final PrivateKey privateKey;
+    private final Map<JWSAlgorithm, EnginePool<Signature>> signaturePools = new ConcurrentHashMap<>();
+
+    /**
+     * @param privateKey
+     */
+    public PooledRSASSASigner(final PrivateKey privateKey) {
+        BeanUtils.assertNonNull(privateKey, "PrivateKey must not be null!");
+        if (privateKey instanceof RSAPrivateKey
+            && ((RSAPrivateKey) privateKey).getModulus().bitLength() < MIN_KEY_SIZE_BITS) {
+            throw new IllegalArgumentException("The RSA key size must be at least " + MIN_KEY_SIZE_BITS + " bits");
+        }
+
+        this.privateKey = privateKey;
+    }
+
+    /**
+     * @param rsaKey
+     * @throws JOSEException if the <code>rsaKey</code> doesn't have the private key.
+     */
+    public PooledRSASSASigner(final RSAKey rsaKey) throws JOSEException {
+        this(privateKeyOf(rsaKey));
+    }
+
+    /**
+     * Returns the private key of the <code>rsaKey</code>.
+     *
+     * @param rsaKey
+     * @return
+     * @throws JOSEException
+     */
+    private static PrivateKey privateKeyOf(final RSAKey rsaKey) throws JOSEException {
+        BeanUtils.assertNonNull(rsaKey, "RsaKey must not be null!");
+        final PrivateKey privateKey = rsaKey.toPrivateKey();
+        if (BeanUtils.isNull(privateKey)) {
+            throw new JOSEException("The RSA JWK doesn't contain a private part");
+        }
+
+        return privateKey;
+    }
+
+    /**
+     * Returns the private key.
+     *
+     * @return
+     */
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    /**
+     * Returns the pool of the <code>Signature</code> instances of the <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     * @throws JOSEException
+     */
+    private EnginePool<Signature> signaturePoolOf(final JWSAlgorithm algorithm) throws JOSEException {
+        EnginePool<Signature> signaturePool = signaturePools.get(algorithm);
+        if (BeanUtils.isNull(signaturePool)) {
+            if (!supportedJWSAlgorithms().contains(algorithm)) {
+                throw new JOSEException(AlgorithmSupportMessage.unsupportedJWSAlgorithm(algorithm,
+                                                                                         supportedJWSAlgorithms()));
+            }
+            signaturePool = signaturePools.computeIfAbsent(algorithm, key -> new EnginePool<>(() -> {
+                final Signature signature = RSASSA.getSignerAndVerifier(algorithm, getJCAContext().getProvider());
+                try {
+                    signature.initSign(privateKey);
+                } catch (InvalidKeyException ex) {
+                    throw new JOSEException("Invalid private RSA key: " + ex.getMessage(), ex);
+                }
+                return signature;
+            }));
+        }
+
+        return signaturePool;
+    }
+
+    /**
+     * @param header
+     * @param signingInput
+     * @return
+     * @throws JOSEException
+     */
+    @Override
+    public Base64URL sign(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+        final EnginePool<Signature> signaturePool = signaturePoolOf(header.getAlgorithm());
+        final Signature signature = signaturePool.borrow();
+        final byte[] signatureBytes;
+        try {
+            signature.update(signingInput);
+            signatureBytes = signature.sign();
+        } catch (SignatureException ex) {
+            // the failed signature isn't returned to the pool
+            throw new JOSEException("RSA signature exception: " + ex.getMessage(), ex);
+        }
+
+        // the sign() resets the signature for the next use with the same key
+        signaturePool.release(signature);
+        return Base64URL.encode(signatureBytes);
+    }
+}
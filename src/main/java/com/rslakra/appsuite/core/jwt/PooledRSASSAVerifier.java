@@ -0,0 +1,138 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.CriticalHeaderParamsAware;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.impl.AlgorithmSupportMessage;
+import com.nimbusds.jose.crypto.impl.CriticalHeaderParamsDeferral;
+import com.nimbusds.jose.crypto.impl.RSASSA;
+import com.nimbusds.jose.crypto.impl.RSASSAProvider;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.security.InvalidKeyException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The <code>PooledRSASSAVerifier</code> verifies the RSA protected JWS objects (i.e. <code>RS256</code>,
+ * <code>PS256</code>) with the pooled <code>Signature</code> instances, which are initialized with the public key
+ * once, instead of the provider lookup and the key initialization of the <code>RSASSAVerifier</code> per signature.
+ * <p>
+ * It's thread-safe and should be reused for the key (i.e. through the <code>JwsRegistry</code>).
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 2:05 PM
+ */
+public final class PooledRSASSAVerifier extends RSASSAProvider implements JWSVerifier, CriticalHeaderParamsAware {
+
+    private final CriticalHeaderParamsDeferral critPolicy = new CriticalHeaderParamsDeferral();
+    private final RSAPublicKey publicKey;
+    private final Map<JWSAlgorithm, EnginePool<Signature>> signaturePools = new ConcurrentHashMap<>();
+
+    /**
+     * @param publicKey
+     */
+    public PooledRSASSAVerifier(final RSAPublicKey publicKey) {
+        BeanUtils.assertNonNull(publicKey, "PublicKey must not be null!");
+        this.publicKey = publicKey;
+    }
+
+    /**
+     * @param rsaKey
+     * @throws JOSEException
+     */
+    public PooledRSASSAVerifier(final RSAKey rsaKey) throws JOSEException {
+        this(rsaKey.toRSAPublicKey());
+    }
+
+    /**
+     * Returns the public key.
+     *
+     * @return
+     */
+    public RSAPublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * Returns the pool of the <code>Signature</code> instances of the <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     * @throws JOSEException
+     */
+    private EnginePool<Signature> signaturePoolOf(final JWSAlgorithm algorithm) throws JOSEException {
+        EnginePool<Signature> signaturePool = signaturePools.get(algorithm);
+        if (BeanUtils.isNull(signaturePool)) {
+            if (!supportedJWSAlgorithms().contains(algorithm)) {
+                throw new JOSEException(AlgorithmSupportMessage.unsupportedJWSAlgorithm(algorithm,
+                                                                                         supportedJWSAlgorithms()));
+            }
+            signaturePool = signaturePools.computeIfAbsent(algorithm, key -> new EnginePool<>(() -> {
+                final Signature signature = RSASSA.getSignerAndVerifier(algorithm, getJCAContext().getProvider());
+                try {
+                    signature.initVerify(publicKey);
+                } catch (InvalidKeyException ex) {
+                    throw new JOSEException("Invalid public RSA key: " + ex.getMessage(), ex);
+                }
+                return signature;
+            }));
+        }
+
+        return signaturePool;
+    }
+
+    /**
+     * @param header
+     * @param signingInput
+     * @param signature
+     * @return
+     * @throws JOSEException
+     */
+    @Override
+    public boolean verify(final JWSHeader header, final byte[] signingInput, final Base64URL signature)
+        throws JOSEException {
+        if (!critPolicy.headerPasses(header)) {
+            return false;
+        }
+
+        final EnginePool<Signature> signaturePool = signaturePoolOf(header.getAlgorithm());
+        final Signature verifier = signaturePool.borrow();
+        final boolean verified;
+        try {
+            verifier.update(signingInput);
+            verified = verifier.verify(signature.decode());
+        } catch (SignatureException ex) {
+            // the malformed signature, the verifier isn't returned to the pool
+            return false;
+        }
+
+        // the verify() resets the verifier for the next use with the same key
+        signaturePool.release(verifier);
+        return verified;
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Set<String> getProcessedCriticalHeaderParams() {
+        return critPolicy.getProcessedCriticalHeaderParams();
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Set<String> getDeferredCriticalHeaderParams() {
+        return critPolicy.getDeferredCriticalHeaderParams();
+    }
+}
@@ -0,0 +1,121 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.impl.AlgorithmSupportMessage;
+import com.nimbusds.jose.crypto.impl.HMAC;
+import com.nimbusds.jose.crypto.impl.MACProvider;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.util.Base64URL;
+import com.rslakra.appsuite.core.BeanUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * The <code>ShortSecretMACSigner</code> signs the HMAC protected JWS objects with the secrets shorter than the 256
+ * bits, which the <code>PooledMACSigner</code> (as the <code>MACSigner</code>) rejects, but the
+ * <code>JWTUtils.jwtToken()</code> accepts without the key validation.
+ * <p>
+ * It's only used by the <code>JwtIssuer</code>, which is explicitly asked to allow the short secrets of the legacy
+ * clients. It's thread-safe and pools its initialized <code>Mac</code> instances per algorithm.
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 6:40 PM
+ */
+final class ShortSecretMACSigner implements JWSSigner {
+
+    private final SecretKey secretKey;
+    private final JCAContext jcaContext = new JCAContext();
+    private final Map<JWSAlgorithm, EnginePool<Mac>> macPools = new ConcurrentHashMap<>();
+
+    /**
+     * @param secret
+     */
+    ShortSecretMACSigner(final String secret) {
+        BeanUtils.assertNonNull(secret, "Secret must not be null!");
+        if (secret.isEmpty()) {
+            throw new IllegalArgumentException("Secret must not be empty!");
+        }
+
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "MAC");
+    }
+
+    /**
+     * Returns the JCA name of the HMAC <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     * @throws JOSEException
+     */
+    private static String jcaAlgorithmOf(final JWSAlgorithm algorithm) throws JOSEException {
+        if (JWSAlgorithm.HS256.equals(algorithm)) {
+            return "HMACSHA256";
+        } else if (JWSAlgorithm.HS384.equals(algorithm)) {
+            return "HMACSHA384";
+        } else if (JWSAlgorithm.HS512.equals(algorithm)) {
+            return "HMACSHA512";
+        }
+
+        throw new JOSEException(AlgorithmSupportMessage.unsupportedJWSAlgorithm(algorithm,
+                                                                                 MACProvider.SUPPORTED_ALGORITHMS));
+    }
+
+    /**
+     * Returns the pool of the <code>Mac</code> instances of the <code>algorithm</code>.
+     *
+     * @param algorithm
+     * @return
+     * @throws JOSEException
+     */
+    private EnginePool<Mac> macPoolOf(final JWSAlgorithm algorithm) throws JOSEException {
+        EnginePool<Mac> macPool = macPools.get(algorithm);
+        if (BeanUtils.isNull(macPool)) {
+            final String jcaAlgorithm = jcaAlgorithmOf(algorithm);
+            macPool = macPools.computeIfAbsent(algorithm, key -> new EnginePool<>(
+                () -> HMAC.getInitMac(jcaAlgorithm, secretKey, jcaContext.getProvider())));
+        }
+
+        return macPool;
+    }
+
+    /**
+     * @param header
+     * @param signingInput
+     * @return
+     * @throws JOSEException
+     */
+    @Override
+    public Base64URL sign(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+        final EnginePool<Mac> macPool = macPoolOf(header.getAlgorithm());
+        final Mac mac = macPool.borrow();
+        // the doFinal() resets the mac for the next use with the same key
+        final byte[] hmac = mac.doFinal(signingInput);
+        macPool.release(mac);
+        return Base64URL.encode(hmac);
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+        return MACProvider.SUPPORTED_ALGORITHMS;
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public JCAContext getJCAContext() {
+        return jcaContext;
+    }
+}
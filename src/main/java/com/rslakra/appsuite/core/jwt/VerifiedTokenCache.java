@@ -0,0 +1,412 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.rslakra.appsuite.core.BeanUtils;
+import com.rslakra.appsuite.core.Digester;
+import com.rslakra.appsuite.core.ToString;
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The <code>VerifiedTokenCache</code> caches the results of the JWT signature verifications, so the same token
+ * presented many times (i.e. the bearer token of a client at the gateway) is parsed and verified only once.
+ * <p>
+ * The entries are keyed by the SHA-256 digest of the token and the identity of the verification key, so neither the
+ * raw tokens nor the secrets are retained, and a token verified with one key is never served for another key. The
+ * verified claims are kept until the <code>exp</code> of the token (or the <code>maxTtl</code> for the tokens without
+ * the expiration), and the bad signatures are cached for the <code>negativeTtl</code>.
+ * <p>
+ * The entries are spread over the segments of the access-ordered <code>LinkedHashMap</code>, and each segment evicts
+ * its least recently used entry once it's full, so the cache never exceeds the <code>maxSize</code> entries.
+ *
+ * <pre>
+ *  JWTUtils.setVerifiedTokenCache(VerifiedTokenCache.of("gateway", 100_000).negativeTtl(Duration.ofSeconds(10)));
+ * </pre>
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 12:20 PM
+ */
+public final class VerifiedTokenCache {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+    private static final Digester SHA_256_DIGESTER = Digester.of(Digester.SHA_256);
+    private static final int MAX_SEGMENTS = 64;
+
+    /**
+     * Creates the <code>JWSVerifier</code> of a cache miss.
+     */
+    @FunctionalInterface
+    public interface VerifierFactory {
+
+        /**
+         * @return
+         * @throws JOSEException
+         */
+        JWSVerifier newVerifier() throws JOSEException;
+    }
+
+    /**
+     * The cached result of a verification. The <code>jwtClaims</code> is null for a bad signature.
+     */
+    private static final class Entry {
+
+        private final JWTClaimsSet jwtClaims;
+        private final long expiresAt;
+
+        /**
+         * @param jwtClaims
+         * @param expiresAt
+         */
+        private Entry(final JWTClaimsSet jwtClaims, final long expiresAt) {
+            this.jwtClaims = jwtClaims;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The LRU segment of the cache.
+     */
+    private final class Segment extends LinkedHashMap<String, Entry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        /**
+         * @param capacity
+         */
+        private Segment(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        /**
+         * @param eldest
+         * @return
+         */
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Duration maxTtl = DEFAULT_MAX_TTL;
+    private Duration negativeTtl = DEFAULT_NEGATIVE_TTL;
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * @param name
+     * @param maxSize
+     */
+    private VerifiedTokenCache(final String name, final int maxSize) {
+        BeanUtils.assertNonNull(name, "Name must not be null!");
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid maxSize:" + maxSize);
+        }
+
+        this.name = name;
+        this.maxSize = maxSize;
+        // the power of two segments of at least 16 entries each
+        final int concurrency = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4);
+        final int segmentCount = Math.min(Math.min(concurrency, MAX_SEGMENTS),
+                                          Integer.highestOneBit(Math.max(1, maxSize / 16)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // the first segments take the remainder
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the cache of up to the <code>maxSize</code> verified tokens.
+     *
+     * @param name
+     * @param maxSize
+     * @return
+     */
+    public static VerifiedTokenCache of(final String name, final int maxSize) {
+        return new VerifiedTokenCache(name, maxSize);
+    }
+
+    /**
+     * Caches the verified claims of the tokens without the <code>exp</code> for the <code>maxTtl</code>.
+     *
+     * @param maxTtl
+     * @return
+     */
+    public VerifiedTokenCache maxTtl(final Duration maxTtl) {
+        BeanUtils.assertNonNull(maxTtl, "MaxTtl must not be null!");
+        if (maxTtl.isNegative()) {
+            throw new IllegalArgumentException("Invalid maxTtl:" + maxTtl);
+        }
+        this.maxTtl = maxTtl;
+        return this;
+    }
+
+    /**
+     * Caches the bad signatures for the <code>negativeTtl</code>. The <code>Duration.ZERO</code> disables the
+     * negative caching.
+     *
+     * @param negativeTtl
+     * @return
+     */
+    public VerifiedTokenCache negativeTtl(final Duration negativeTtl) {
+        BeanUtils.assertNonNull(negativeTtl, "NegativeTtl must not be null!");
+        if (negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("Invalid negativeTtl:" + negativeTtl);
+        }
+        this.negativeTtl = negativeTtl;
+        return this;
+    }
+
+    /**
+     * Uses the <code>clock</code> to expire the entries.
+     *
+     * @param clock
+     * @return
+     */
+    public VerifiedTokenCache clock(final Clock clock) {
+        BeanUtils.assertNonNull(clock, "Clock must not be null!");
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Returns the name of this cache.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the maximum number of the entries of this cache.
+     *
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the cache key of the <code>jwtToken</code> verified with the key of the <code>keyIdentity</code>.
+     *
+     * @param keyIdentity
+     * @param jwtToken
+     * @return
+     */
+    static String cacheKey(final String keyIdentity, final String jwtToken) {
+        final MessageDigest messageDigest = SHA_256_DIGESTER.newMessageDigest();
+        messageDigest.update(keyIdentity.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        messageDigest.update(jwtToken.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest());
+    }
+
+    /**
+     * @param cacheKey
+     * @return
+     */
+    private Segment segmentOf(final String cacheKey) {
+        return segments[(cacheKey.hashCode() & 0x7FFFFFFF) & (segments.length - 1)];
+    }
+
+    /**
+     * Returns the verified claims of the <code>jwtToken</code>, or null if its signature isn't verified with the
+     * verifier of the <code>verifierFactory</code>. The <code>keyIdentity</code> must identify the verification key
+     * (i.e. the secret or the public key) uniquely, and the verifier is created only on a cache miss.
+     *
+     * @param jwtToken
+     * @param keyIdentity
+     * @param verifierFactory
+     * @return
+     * @throws ParseException
+     * @throws JOSEException
+     */
+    public JWTClaimsSet verifiedClaims(final String jwtToken, final String keyIdentity,
+                                       final VerifierFactory verifierFactory) throws ParseException, JOSEException {
+        BeanUtils.assertNonNull(jwtToken, "JwtToken must not be null!");
+        BeanUtils.assertNonNull(keyIdentity, "KeyIdentity must not be null!");
+        final String cacheKey = cacheKey(keyIdentity, jwtToken);
+        final Segment segment = segmentOf(cacheKey);
+        final long now = clock.millis();
+        synchronized (segment) {
+            final Entry entry = segment.get(cacheKey);
+            if (BeanUtils.isNotNull(entry)) {
+                if (now < entry.expiresAt) {
+                    if (BeanUtils.isNull(entry.jwtClaims)) {
+                        negativeHits.increment();
+                    } else {
+                        hits.increment();
+                    }
+                    return entry.jwtClaims;
+                }
+                segment.remove(cacheKey);
+            }
+        }
+
+        misses.increment();
+        // parse the JWS and verify its signature outside the lock
+        final SignedJWT signedJwt = SignedJWT.parse(jwtToken);
+        final JWTClaimsSet jwtClaims = (signedJwt.verify(verifierFactory.newVerifier())
+                                        ? signedJwt.getJWTClaimsSet() : null);
+        final long expiresAt = expiresAt(jwtClaims, now);
+        if (expiresAt > now) {
+            synchronized (segment) {
+                segment.put(cacheKey, new Entry(jwtClaims, expiresAt));
+            }
+        }
+
+        return jwtClaims;
+    }
+
+    /**
+     * Returns the time when the cached result of the <code>jwtClaims</code> expires.
+     *
+     * @param jwtClaims
+     * @param now
+     * @return
+     */
+    private long expiresAt(final JWTClaimsSet jwtClaims, final long now) {
+        if (BeanUtils.isNull(jwtClaims)) {
+            return (now + negativeTtl.toMillis());
+        }
+
+        final Date expirationTime = jwtClaims.getExpirationTime();
+        return (BeanUtils.isNull(expirationTime) ? now + maxTtl.toMillis() : expirationTime.getTime());
+    }
+
+    /**
+     * Removes the cached result of the <code>jwtToken</code> verified with the key of the <code>keyIdentity</code>.
+     *
+     * @param jwtToken
+     * @param keyIdentity
+     */
+    public void invalidate(final String jwtToken, final String keyIdentity) {
+        final String cacheKey = cacheKey(keyIdentity, jwtToken);
+        final Segment segment = segmentOf(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
+        }
+    }
+
+    /**
+     * Removes the expired entries and returns the number of the entries removed.
+     *
+     * @return
+     */
+    public int removeExpired() {
+        final long now = clock.millis();
+        int removed = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                final Iterator<Entry> entries = segment.values().iterator();
+                while (entries.hasNext()) {
+                    if (entries.next().expiresAt <= now) {
+                        entries.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+
+        LOGGER.debug("removeExpired(), removed:{}", removed);
+        return removed;
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the entries, including the expired ones not removed yet.
+     *
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the number of the lookups, which found a cached bad signature.
+     *
+     * @return
+     */
+    public long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * Returns the statistics of this cache. The hits include the negative hits, and the evictions are the entries
+     * removed, as their segment is full.
+     *
+     * @return
+     */
+    public CacheStats getStats() {
+        return CacheStats.of(name, hits.sum() + negativeHits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(VerifiedTokenCache.class)
+            .add("name", name)
+            .add("maxSize", maxSize)
+            .add("segments", segments.length)
+            .add("maxTtl", maxTtl)
+            .add("negativeTtl", negativeTtl)
+            .add("stats", getStats())
+            .toString();
+    }
+}
@@ -0,0 +1,215 @@
+package com.rslakra.appsuite.core.jwt;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.rslakra.appsuite.core.ToString;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>VerifyAllReport</code> is the outcome of the <code>JWTUtils.verifyAll()</code>. It has the result of each
+ * token in the order of the tokens, the counts of the results by their status and the throughput of the batch.
+ *
+ * @author Rohtash Lakra
+ * @created 10/18/26 5:35 PM
+ */
+public final class VerifyAllReport {
+
+    /**
+     * The status of the verification of a token.
+     */
+    public enum Status {
+        VERIFIED,
+        INVALID_SIGNATURE,
+        UNKNOWN_KEY,
+        MALFORMED,
+        ERROR
+    }
+
+    /**
+     * The result of the verification of a token.
+     */
+    public static final class Result {
+
+        private final Status status;
+        private final String keyId;
+        private final JWTClaimsSet jwtClaims;
+        private final String message;
+
+        /**
+         * @param status
+         * @param keyId
+         * @param jwtClaims
+         * @param message
+         */
+        Result(final Status status, final String keyId, final JWTClaimsSet jwtClaims, final String message) {
+            this.status = status;
+            this.keyId = keyId;
+            this.jwtClaims = jwtClaims;
+            this.message = message;
+        }
+
+        /**
+         * Returns the status of the verification.
+         *
+         * @return
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns true if the signature of the token is verified otherwise false.
+         *
+         * @return
+         */
+        public boolean isVerified() {
+            return (status == Status.VERIFIED);
+        }
+
+        /**
+         * Returns the <code>kid</code> of the token, if any.
+         *
+         * @return
+         */
+        public String getKeyId() {
+            return keyId;
+        }
+
+        /**
+         * Returns the claims of the verified token, otherwise null.
+         *
+         * @return
+         */
+        public JWTClaimsSet getJwtClaims() {
+            return jwtClaims;
+        }
+
+        /**
+         * Returns the reason of the failure, otherwise null.
+         *
+         * @return
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Returns the string representation of this object.
+         *
+         * @return
+         */
+        @Override
+        public String toString() {
+            return ToString.of(Result.class)
+                .add("status", status)
+                .add("keyId", keyId)
+                .add("message", message)
+                .toString();
+        }
+    }
+
+    private final List<Result> results;
+    private final Map<Status, Long> counts;
+    private final Duration duration;
+
+    /**
+     * @param results
+     * @param duration
+     */
+    VerifyAllReport(final List<Result> results, final Duration duration) {
+        this.results = Collections.unmodifiableList(results);
+        final Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (Result result : results) {
+            counts.merge(result.getStatus(), 1L, Long::sum);
+        }
+        this.counts = Collections.unmodifiableMap(counts);
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the results of the tokens in their order.
+     *
+     * @return
+     */
+    public List<Result> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the number of the tokens.
+     *
+     * @return
+     */
+    public int getTotal() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of the results of the <code>status</code>.
+     *
+     * @param status
+     * @return
+     */
+    public long getCount(final Status status) {
+        return counts.get(status);
+    }
+
+    /**
+     * Returns the number of the verified tokens.
+     *
+     * @return
+     */
+    public long getVerified() {
+        return getCount(Status.VERIFIED);
+    }
+
+    /**
+     * Returns the number of the tokens, which failed the verification for any reason.
+     *
+     * @return
+     */
+    public long getFailed() {
+        return (getTotal() - getVerified());
+    }
+
+    /**
+     * Returns the time taken by the batch.
+     *
+     * @return
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of the tokens verified per second.
+     *
+     * @return
+     */
+    public double getTokensPerSecond() {
+        final long nanos = duration.toNanos();
+        return (nanos > 0 ? getTotal() * 1_000_000_000.0D / nanos : 0.0D);
+    }
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return
+     */
+    @Override
+    public String toString() {
+        return ToString.of(VerifyAllReport.class)
+            .add("total", getTotal())
+            .add("counts", counts)
+            .add("duration", duration)
+            .add("tokensPerSecond", Math.round(getTokensPerSecond()))
+            .toString();
+    }
+}
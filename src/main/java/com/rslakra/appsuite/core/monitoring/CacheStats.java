@@ -0,0 +1,136 @@
+package com.rslakra.appsuite.core.monitoring;
+
+import java.util.StringJoiner;
+
+/**
+ * The snapshot of the statistics of a cache at the particular point of time.
+ *
+ * @author Rohtash Lakra
+ * @created 10/17/26 5:02 PM
+ */
+public class CacheStats {
+
+    /**
+     * The name of the cache.
+     */
+    private final String name;
+
+    /**
+     * The number of the lookups, which found the cached value.
+     */
+    private final long hits;
+
+    /**
+     * The number of the lookups, which loaded the value.
+     */
+    private final long misses;
+
+    /**
+     * The number of the evicted entries.
+     */
+    private final long evictions;
+
+    /**
+     * The current number of the entries.
+     */
+    private final int size;
+
+    /**
+     * Returns the object of the <code>CacheStats</code>.
+     *
+     * @param name
+     * @param hits
+     * @param misses
+     * @param evictions
+     * @param size
+     * @return
+     */
+    public static CacheStats of(final String name, final long hits, final long misses, final long evictions,
+                                final int size) {
+        return new CacheStats(name, hits, misses, evictions, size);
+    }
+
+    /**
+     * @param name
+     * @param hits
+     * @param misses
+     * @param evictions
+     * @param size
+     */
+    private CacheStats(final String name, final long hits, final long misses, final long evictions,
+                       final int size) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * @return
+     */
+    public final String getName() {
+        return name;
+    }
+
+    /**
+     * @return
+     */
+    public final long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return
+     */
+    public final long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return
+     */
+    public final long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return
+     */
+    public final int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the total number of the lookups.
+     *
+     * @return
+     */
+    public final long getRequests() {
+        return (getHits() + getMisses());
+    }
+
+    /**
+     * Returns the ratio of the hits to the lookups, or 1.0 if there isn't any lookup yet.
+     *
+     * @return
+     */
+    public final double getHitRate() {
+        final long requests = getRequests();
+        return (requests == 0 ? 1.0D : (double) getHits() / requests);
+    }
+
+    /**
+     * @return
+     */
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CacheStats.class.getSimpleName() + "[", "]")
+            .add("name=" + name)
+            .add("hits=" + hits)
+            .add("misses=" + misses)
+            .add("evictions=" + evictions)
+            .add("size=" + size)
+            .toString();
+    }
+}
@@ -32,6 +32,8 @@ package com.rslakra.appsuite.core.security;
 
 import com.rslakra.appsuite.core.BeanUtils;
 import com.rslakra.appsuite.core.CharSets;
+import com.rslakra.appsuite.core.Digester;
+import com.rslakra.appsuite.core.HexCodec;
 import com.rslakra.appsuite.core.IOUtils;
 import com.rslakra.appsuite.core.StopWatch;
 import com.rslakra.appsuite.core.security.pbkdf2.PBKDF2Generator;
@@ -45,10 +47,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
-import java.math.BigInteger;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.KeyFactory;
@@ -139,8 +141,10 @@ public enum GuardUtils {
     /* publicKey */
     private static PublicKey PUBLIC_KEY;
 
-    /* messageDigest */
-    private static MessageDigest SHA_256_MESSAGE_DIGEST;
+    /* digesters */
+    private static final Digester SHA_256_DIGESTER = Digester.of(ALGO_SHA_256);
+    private static final Digester SHA_512_DIGESTER = Digester.of(ALGO_SHA_512);
+    private static final Digester MD5_DIGESTER = Digester.of(ALGO_MD5);
 
     /* Initialize X509TrustManager for the app's lifetime. */
     private static X509TrustManager X509_TRUST_MANAGER;
@@ -149,8 +153,6 @@ public enum GuardUtils {
         try {
             /* add provider. */
             Security.addProvider(new BouncyCastleProvider());
-            // initialized message digest
-            SHA_256_MESSAGE_DIGEST = MessageDigest.getInstance(AlgoType.SHA_256.getEncType());
         } catch (Exception ex) {
             LOGGER.error(ex.getMessage(), ex);
         }
@@ -741,20 +743,7 @@ public enum GuardUtils {
      * @return
      */
     public static String toHexString(final byte[] dataBytes) {
-        String hexString = EMPTY_STRING;
-        if (BeanUtils.isNotEmpty(dataBytes)) {
-            StringBuilder hexBuilder = new StringBuilder(2 * dataBytes.length);
-            for (int i = 0; i < dataBytes.length; i++) {
-                hexBuilder.append(HEX_DIGITS.charAt((dataBytes[i] >> 4) & 0x0f));
-                hexBuilder.append(HEX_DIGITS.charAt(dataBytes[i] & 0x0f));
-            }
-
-            hexString = hexBuilder.toString();
-            /* make available for GC. */
-            hexBuilder = null;
-        }
-
-        return hexString;
+        return (BeanUtils.isNotEmpty(dataBytes) ? HexCodec.encode(dataBytes, true) : EMPTY_STRING);
     }
 
     /**
@@ -774,16 +763,8 @@ public enum GuardUtils {
      * @return
      */
     public static byte[] hexStringAsBytes(final String hexString) {
-        byte[] hexaBytes = null;
-        if (BeanUtils.isNotEmpty(hexString)) {
-            int length = hexString.length() / 2;
-            hexaBytes = new byte[length];
-            for (int i = 0; i < length; i++) {
-                hexaBytes[i] = Integer.valueOf(hexString.substring(2 * i, 2 * i + 2), 16).byteValue();
-            }
-        }
-
-        return hexaBytes;
+        // the last odd digit is ignored
+        return (BeanUtils.isNotEmpty(hexString) ? HexCodec.decode(hexString, 0, hexString.length() & ~1) : null);
     }
 
     /**
@@ -1267,7 +1248,7 @@ public enum GuardUtils {
     public static byte[] getSHA256Hash(byte[] bytes) throws SecurityException {
         if (BeanUtils.isNotNull(bytes)) {
             try {
-                return SHA_256_MESSAGE_DIGEST.digest(bytes);
+                return SHA_256_DIGESTER.digest(bytes);
             } catch (Exception ex) {
                 throw new SecurityException(ex);
             }
@@ -1287,6 +1268,36 @@ public enum GuardUtils {
         return getSHA256Hash(BeanUtils.isNull(string) ? null : string.getBytes());
     }
 
+    /**
+     * Returns the SHA256 hash of the remaining bytes of the given stream, which is read in chunks.
+     *
+     * @param inputStream
+     * @return
+     * @throws SecurityException
+     */
+    public static byte[] getSHA256Hash(InputStream inputStream) throws SecurityException {
+        try {
+            return SHA_256_DIGESTER.digest(inputStream);
+        } catch (IOException ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
+    /**
+     * Returns the SHA256 hash of the given file, which is read in chunks.
+     *
+     * @param path
+     * @return
+     * @throws SecurityException
+     */
+    public static byte[] getSHA256Hash(Path path) throws SecurityException {
+        try {
+            return SHA_256_DIGESTER.digest(path);
+        } catch (IOException ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
     /**
      * Returns the SHA256 hash for the given bytes.
      *
@@ -1297,7 +1308,7 @@ public enum GuardUtils {
     public static byte[] getSHA512Hash(byte[] bytes) throws SecurityException {
         if (BeanUtils.isNotNull(bytes)) {
             try {
-                return MessageDigest.getInstance(ALGO_SHA_512).digest(bytes);
+                return SHA_512_DIGESTER.digest(bytes);
             } catch (Exception ex) {
                 throw new SecurityException(ex);
             }
@@ -1317,6 +1328,36 @@ public enum GuardUtils {
         return getSHA512Hash(BeanUtils.isNull(string) ? null : string.getBytes());
     }
 
+    /**
+     * Returns the SHA512 hash of the remaining bytes of the given stream, which is read in chunks.
+     *
+     * @param inputStream
+     * @return
+     * @throws SecurityException
+     */
+    public static byte[] getSHA512Hash(InputStream inputStream) throws SecurityException {
+        try {
+            return SHA_512_DIGESTER.digest(inputStream);
+        } catch (IOException ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
+    /**
+     * Returns the SHA512 hash of the given file, which is read in chunks.
+     *
+     * @param path
+     * @return
+     * @throws SecurityException
+     */
+    public static byte[] getSHA512Hash(Path path) throws SecurityException {
+        try {
+            return SHA_512_DIGESTER.digest(path);
+        } catch (IOException ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
     /**
      * Returns the SHA-1 hash for the specified input.
      *
@@ -1389,12 +1430,42 @@ public enum GuardUtils {
      */
     public static byte[] getMD5Hash(String src) throws SecurityException {
         try {
-            return MessageDigest.getInstance(ALGO_MD5).digest(src.getBytes());
+            return MD5_DIGESTER.digest(src.getBytes());
         } catch (Exception e) {
             throw new SecurityException(e);
         }
     }
 
+    /**
+     * Returns the MD5 hash of the remaining bytes of the given stream, which is read in chunks.
+     *
+     * @param inputStream
+     * @return
+     * @throws SecurityException
+     */
+    public static byte[] getMD5Hash(InputStream inputStream) throws SecurityException {
+        try {
+            return MD5_DIGESTER.digest(inputStream);
+        } catch (IOException ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
+    /**
+     * Returns the MD5 hash of the given file, which is read in chunks.
+     *
+     * @param path
+     * @return
+     * @throws SecurityException
+     */
+    public static byte[] getMD5Hash(Path path) throws SecurityException {
+        try {
+            return MD5_DIGESTER.digest(path);
+        } catch (IOException ex) {
+            throw new SecurityException(ex);
+        }
+    }
+
     /**
      * create random ket based in algorithim
      *
@@ -1428,7 +1499,7 @@ public enum GuardUtils {
     }
 
     /**
-     * Returns the check sum string for the given bytes.
+     * Returns the check sum string (32 lower-case hex digits of the MD5 digest) for the given bytes.
      *
      * @param bytes
      * @return
@@ -1437,19 +1508,25 @@ public enum GuardUtils {
         String checkSumString = "0";
         if (BeanUtils.isNotEmpty(bytes)) {
             long startTime = System.currentTimeMillis();
-            try {
-                MessageDigest md5 = MessageDigest.getInstance(ALGO_MD5);
-                md5.update(bytes, 0, bytes.length);
-                checkSumString = new BigInteger(1, md5.digest()).toString(16);
-                System.out.println("Time to generate hash:" + (System.currentTimeMillis() - startTime));
-            } catch (NoSuchAlgorithmException e) {
-                System.err.println(e);
-            }
+            checkSumString = HexCodec.encode(MD5_DIGESTER.digest(bytes));
+            LOGGER.debug("Time to generate hash:{}", (System.currentTimeMillis() - startTime));
         }
 
         return checkSumString;
     }
 
+    /**
+     * Returns the check sum string (32 lower-case hex digits of the MD5 digest) of the given file, which is read in
+     * chunks.
+     *
+     * @param path
+     * @return
+     * @throws SecurityException
+     */
+    public static String getChecksum(Path path) throws SecurityException {
+        return HexCodec.encode(getMD5Hash(path));
+    }
+
     /**
      * @param args
      */
@@ -45,11 +45,15 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.regex.Matcher;
@@ -805,6 +809,22 @@ public enum TextUtils {
         return INSTANCE.newToString().toString(object);
     }
 
+    /**
+     * Returns the string representation of the specified <code>object</code>, which stops at the
+     * <code>maxDepth</code> nested objects and the <code>maxLength</code> characters.
+     *
+     * @param object
+     * @param excludePackageName
+     * @param includeClassName
+     * @param maxDepth
+     * @param maxLength
+     * @return
+     */
+    public static String toString(Object object, boolean excludePackageName, boolean includeClassName, int maxDepth,
+                                  int maxLength) {
+        return INSTANCE.newToString(excludePackageName, includeClassName, maxDepth, maxLength).toString(object);
+    }
+
     /**
      * Converts an array of objects into an array of strings.
      *
@@ -1098,6 +1118,75 @@ public enum TextUtils {
         return new ToString(includeClassName);
     }
 
+    /**
+     * Returns the ToString object, which stops at the <code>maxDepth</code> nested objects and the
+     * <code>maxLength</code> characters.
+     *
+     * @param excludePackageName
+     * @param includeClassName
+     * @param maxDepth
+     * @param maxLength
+     * @return
+     */
+    public ToString newToString(boolean excludePackageName, boolean includeClassName, int maxDepth, int maxLength) {
+        return new ToString(excludePackageName, includeClassName, maxDepth, maxLength);
+    }
+
+    /**
+     * The fields of a class (without its super classes), which are made accessible once.
+     */
+    private static final class FieldPlan {
+
+        private final Field[] fields;
+        private final Class<?>[] fieldTypes;
+        // the 'name=' prefixes of the fields
+        private final String[] prefixes;
+
+        /**
+         * @param classType
+         */
+        private FieldPlan(final Class<?> classType) {
+            final List<Field> fieldList = new ArrayList<>();
+            for (Field field : classType.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fieldList.add(field);
+                }
+            }
+
+            this.fields = fieldList.toArray(new Field[0]);
+            AccessibleObject.setAccessible(fields, true);
+            this.fieldTypes = new Class<?>[fields.length];
+            this.prefixes = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldTypes[i] = fields[i].getType();
+                prefixes[i] = fields[i].getName() + "=";
+            }
+        }
+    }
+
+    /**
+     * The cached field plans of the class and its super classes, or an empty array if any of the fields can't be
+     * accessed (i.e. the classes of the JDK modules), which are printed with their own <code>toString()</code>.
+     */
+    private final ClassValue<FieldPlan[]> fieldPlans = new ClassValue<FieldPlan[]>() {
+        @Override
+        protected FieldPlan[] computeValue(final Class<?> classType) {
+            final List<FieldPlan> plans = new ArrayList<>();
+            try {
+                Class<?> objectClass = classType;
+                do {
+                    plans.add(new FieldPlan(objectClass));
+                    objectClass = objectClass.getSuperclass();
+                } while (objectClass != null && objectClass != Object.class);
+            } catch (RuntimeException ex) {
+                LOGGER.debug("Using toString() of [{}], reason:{}", classType, ex.getMessage());
+                return new FieldPlan[0];
+            }
+
+            return plans.toArray(new FieldPlan[0]);
+        }
+    };
+
     /**
      * ToString
      *
@@ -1107,6 +1196,11 @@ public enum TextUtils {
      */
     private final class ToString {
 
+        public static final int DEFAULT_MAX_DEPTH = 16;
+        public static final int DEFAULT_MAX_LENGTH = 64 * 1024;
+        private static final String CYCLE = "<cycle>";
+        private static final String ELLIPSIS = "...";
+
         /**
          * excludePackageName
          */
@@ -1117,15 +1211,43 @@ public enum TextUtils {
          */
         private boolean includeClassName;
 
+        /**
+         * maxDepth
+         */
+        private final int maxDepth;
+
+        /**
+         * maxLength
+         */
+        private final int maxLength;
+
         /**
          * Parameterized Constructor.
          *
          * @param excludePackageName
          * @param includeClassName
+         * @param maxDepth
+         * @param maxLength
          */
-        public ToString(boolean excludePackageName, boolean includeClassName) {
+        public ToString(boolean excludePackageName, boolean includeClassName, int maxDepth, int maxLength) {
+            if (maxDepth < 0 || maxLength < 0) {
+                throw new IllegalArgumentException("The maxDepth and maxLength must not be negative!");
+            }
+
             this.excludePackageName = excludePackageName;
             this.includeClassName = includeClassName;
+            this.maxDepth = maxDepth;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Parameterized Constructor.
+         *
+         * @param excludePackageName
+         * @param includeClassName
+         */
+        public ToString(boolean excludePackageName, boolean includeClassName) {
+            this(excludePackageName, includeClassName, DEFAULT_MAX_DEPTH, DEFAULT_MAX_LENGTH);
         }
 
         /**
@@ -1147,6 +1269,11 @@ public enum TextUtils {
         /**
          * Returns the string representation of the specified
          * <code>object</code> including all fields.
+         * <p>
+         * The objects already being printed are written as <code>&lt;cycle&gt;</code>, the objects deeper than the
+         * <code>maxDepth</code> as their class name and identity hash (except the numbers, booleans, characters and
+         * enums) and the result is cut at the <code>maxLength</code> characters. The collections, maps and texts are
+         * written element by element, so the huge ones are never rendered in full.
          *
          * @param object
          * @return
@@ -1154,76 +1281,283 @@ public enum TextUtils {
         public String toString(Object object) {
             if (object == null) {
                 return TextUtils.NULL;
+            } else if (object.getClass() == String.class) {
+                return (String) object;
             }
 
-            Class<?> objectClass = object.getClass();
-            if (objectClass == String.class) {
-                return (String) object;
-            } else if (objectClass.isArray()) {
-                String classArrayType = (includeClassName ? objectClass.getComponentType().toString() : "") + "[]{";
-                if (excludePackageName) {
-                    int index = classArrayType.lastIndexOf(".");
-                    if (index > 0 && index < classArrayType.length() - 1) {
-                        classArrayType = classArrayType.substring(index + 1);
-                    }
+            final StringBuilder builder = new StringBuilder(64);
+            if (!append(builder, object, 0, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+                builder.setLength(maxLength);
+                builder.append(ELLIPSIS);
+            }
+
+            return builder.toString();
+        }
+
+        /**
+         * Appends the <code>object</code> to the <code>builder</code>.
+         *
+         * @param builder
+         * @param object
+         * @param depth
+         * @param visiting the objects on the current path
+         * @return false if the <code>maxLength</code> is reached otherwise true.
+         */
+        private boolean append(final StringBuilder builder, final Object object, final int depth,
+                               final Set<Object> visiting) {
+            if (builder.length() > maxLength) {
+                return false;
+            } else if (object == null) {
+                builder.append(TextUtils.NULL);
+                return true;
+            }
+
+            final Class<?> objectClass = object.getClass();
+            if (object instanceof CharSequence) {
+                // only the characters within the max length are copied
+                final CharSequence text = (CharSequence) object;
+                builder.append(text, 0, Math.min(text.length(), maxLength + 1 - builder.length()));
+                return builder.length() <= maxLength;
+            } else if (visiting.contains(object)) {
+                builder.append(CYCLE);
+                return true;
+            } else if (depth > maxDepth) {
+                if (object instanceof Number || object instanceof Boolean || object instanceof Character
+                    || object instanceof Enum) {
+                    builder.append(object);
+                } else {
+                    builder.append(objectClass.getName()).append('@')
+                        .append(Integer.toHexString(System.identityHashCode(object)));
                 }
+                return builder.length() <= maxLength;
+            }
 
-                for (int i = 0; i < Array.getLength(object); i++) {
-                    if (i > 0) {
-                        classArrayType += ", ";
-                    }
+            final boolean appended;
+            visiting.add(object);
+            if (objectClass.isArray()) {
+                appended = appendArray(builder, object, depth, visiting);
+            } else if (object instanceof Collection) {
+                appended = appendCollection(builder, (Collection<?>) object, depth, visiting);
+            } else if (object instanceof Map) {
+                appended = appendMap(builder, (Map<?, ?>) object, depth, visiting);
+            } else {
+                final FieldPlan[] plans = fieldPlans.get(objectClass);
+                if (plans.length == 0) {
+                    builder.append(object);
+                    appended = builder.length() <= maxLength;
+                } else {
+                    appended = appendFields(builder, object, plans, depth, visiting);
+                }
+            }
+            visiting.remove(object);
+            return appended;
+        }
 
-                    Object objectArray = Array.get(object, i);
-                    if (objectClass.getComponentType().isPrimitive()) {
-                        classArrayType += objectArray;
-                    } else {
-                        // recursion call.
-                        classArrayType += toString(objectArray);
-                    }
+        /**
+         * Appends the elements of the <code>collection</code> to the <code>builder</code> as its
+         * <code>toString()</code> does, but stops once the <code>maxLength</code> is reached.
+         *
+         * @param builder
+         * @param collection
+         * @param depth
+         * @param visiting
+         * @return
+         */
+        private boolean appendCollection(final StringBuilder builder, final Collection<?> collection,
+                                         final int depth, final Set<Object> visiting) {
+            builder.append("[");
+            boolean first = true;
+            for (Object element : collection) {
+                if (builder.length() > maxLength) {
+                    return false;
                 }
 
-                return classArrayType + "}";
+                if (!first) {
+                    builder.append(", ");
+                }
+                first = false;
+                if (!append(builder, element, depth + 1, visiting)) {
+                    return false;
+                }
             }
 
-            String className = (excludePackageName ? objectClass.getSimpleName() : objectClass.getName());
-            /*
-             * Check this class fields as well as supper classes, if any.
-             */
-            do {
-                if (includeClassName) {
-                    className += "[";
-                } else {
-                    className = "[";
+            builder.append("]");
+            return builder.length() <= maxLength;
+        }
+
+        /**
+         * Appends the entries of the <code>map</code> to the <code>builder</code> as its <code>toString()</code>
+         * does, but stops once the <code>maxLength</code> is reached.
+         *
+         * @param builder
+         * @param map
+         * @param depth
+         * @param visiting
+         * @return
+         */
+        private boolean appendMap(final StringBuilder builder, final Map<?, ?> map, final int depth,
+                                  final Set<Object> visiting) {
+            builder.append("{");
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (builder.length() > maxLength) {
+                    return false;
                 }
 
-                Field[] classFields = objectClass.getDeclaredFields();
-                AccessibleObject.setAccessible(classFields, true);
-                // get the names and values of all fields
-                for (Field field : classFields) {
-                    if (!Modifier.isStatic(field.getModifiers())) {
-                        if (!className.endsWith("[")) {
-                            className += ", ";
-                        }
-                        className += field.getName() + "=";
-                        try {
-                            Class<?> classType = field.getType();
-                            Object value = field.get(object);
-                            if (classType.isPrimitive()) {
-                                className += value;
-                            } else {
-                                // recursion call.
-                                className += toString(value);
-                            }
-                        } catch (Exception ex) {
-                            ex.printStackTrace();
+                if (!first) {
+                    builder.append(", ");
+                }
+                first = false;
+                if (!append(builder, entry.getKey(), depth + 1, visiting)) {
+                    return false;
+                }
+                builder.append("=");
+                if (!append(builder, entry.getValue(), depth + 1, visiting)) {
+                    return false;
+                }
+            }
+
+            builder.append("}");
+            return builder.length() <= maxLength;
+        }
+
+        /**
+         * Appends the elements of the <code>array</code> to the <code>builder</code>. The primitive arrays are
+         * written without boxing the elements.
+         *
+         * @param builder
+         * @param array
+         * @param depth
+         * @param visiting
+         * @return
+         */
+        private boolean appendArray(final StringBuilder builder, final Object array, final int depth,
+                                    final Set<Object> visiting) {
+            final Class<?> componentType = array.getClass().getComponentType();
+            String classArrayType = (includeClassName ? componentType.toString() : "") + "[]{";
+            if (excludePackageName) {
+                int index = classArrayType.lastIndexOf(".");
+                if (index > 0 && index < classArrayType.length() - 1) {
+                    classArrayType = classArrayType.substring(index + 1);
+                }
+            }
+
+            builder.append(classArrayType);
+            final int length = Array.getLength(array);
+            for (int i = 0; i < length; i++) {
+                if (builder.length() > maxLength) {
+                    return false;
+                }
+
+                if (i > 0) {
+                    builder.append(", ");
+                }
+
+                if (componentType == int.class) {
+                    builder.append(((int[]) array)[i]);
+                } else if (componentType == long.class) {
+                    builder.append(((long[]) array)[i]);
+                } else if (componentType == byte.class) {
+                    builder.append(((byte[]) array)[i]);
+                } else if (componentType == char.class) {
+                    builder.append(((char[]) array)[i]);
+                } else if (componentType == boolean.class) {
+                    builder.append(((boolean[]) array)[i]);
+                } else if (componentType == double.class) {
+                    builder.append(((double[]) array)[i]);
+                } else if (componentType == float.class) {
+                    builder.append(((float[]) array)[i]);
+                } else if (componentType == short.class) {
+                    builder.append(((short[]) array)[i]);
+                } else if (!append(builder, ((Object[]) array)[i], depth + 1, visiting)) {
+                    return false;
+                }
+            }
+
+            builder.append("}");
+            return builder.length() <= maxLength;
+        }
+
+        /**
+         * Appends the fields of the <code>object</code> (and its super classes) to the <code>builder</code>.
+         *
+         * @param builder
+         * @param object
+         * @param plans
+         * @param depth
+         * @param visiting
+         * @return
+         */
+        private boolean appendFields(final StringBuilder builder, final Object object, final FieldPlan[] plans,
+                                     final int depth, final Set<Object> visiting) {
+            if (includeClassName) {
+                final Class<?> objectClass = object.getClass();
+                builder.append(excludePackageName ? objectClass.getSimpleName() : objectClass.getName());
+            }
+
+            for (FieldPlan plan : plans) {
+                builder.append("[");
+                for (int i = 0; i < plan.fields.length; i++) {
+                    if (builder.length() > maxLength) {
+                        return false;
+                    }
+
+                    if (i > 0) {
+                        builder.append(", ");
+                    }
+
+                    builder.append(plan.prefixes[i]);
+                    try {
+                        if (!appendField(builder, object, plan.fields[i], plan.fieldTypes[i], depth, visiting)) {
+                            return false;
                         }
+                    } catch (IllegalAccessException ex) {
+                        LOGGER.warn("Unable to read [{}] field, reason:{}", plan.fields[i], ex.getMessage());
                     }
                 }
-                className += "]";
-                objectClass = objectClass.getSuperclass();
-            } while (objectClass != null && !objectClass.isInstance(Object.class));
+                builder.append("]");
+            }
+
+            return builder.length() <= maxLength;
+        }
+
+        /**
+         * Appends the value of the <code>field</code> to the <code>builder</code>. The primitive values are written
+         * without boxing.
+         *
+         * @param builder
+         * @param object
+         * @param field
+         * @param fieldType
+         * @param depth
+         * @param visiting
+         * @return
+         * @throws IllegalAccessException
+         */
+        private boolean appendField(final StringBuilder builder, final Object object, final Field field,
+                                    final Class<?> fieldType, final int depth, final Set<Object> visiting)
+                throws IllegalAccessException {
+            if (!fieldType.isPrimitive()) {
+                return append(builder, field.get(object), depth + 1, visiting);
+            } else if (fieldType == int.class) {
+                builder.append(field.getInt(object));
+            } else if (fieldType == long.class) {
+                builder.append(field.getLong(object));
+            } else if (fieldType == boolean.class) {
+                builder.append(field.getBoolean(object));
+            } else if (fieldType == double.class) {
+                builder.append(field.getDouble(object));
+            } else if (fieldType == float.class) {
+                builder.append(field.getFloat(object));
+            } else if (fieldType == char.class) {
+                builder.append(field.getChar(object));
+            } else if (fieldType == byte.class) {
+                builder.append(field.getByte(object));
+            } else {
+                builder.append(field.getShort(object));
+            }
 
-            return className;
+            return true;
         }
     }
 
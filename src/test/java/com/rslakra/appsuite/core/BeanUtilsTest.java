@@ -1,6 +1,7 @@
 package com.rslakra.appsuite.core;
 
 import static com.rslakra.appsuite.core.BeanUtils.asType;
+import static com.rslakra.appsuite.core.BeanUtils.copyAll;
 import static com.rslakra.appsuite.core.BeanUtils.copyProperties;
 import static com.rslakra.appsuite.core.BeanUtils.deepCopyProperties;
 import static com.rslakra.appsuite.core.BeanUtils.findEnumByClass;
@@ -38,6 +39,7 @@ import static com.rslakra.appsuite.core.BeanUtils.nextUuid;
 import static com.rslakra.appsuite.core.BeanUtils.notEquals;
 import static com.rslakra.appsuite.core.BeanUtils.partitionBySize;
 import static com.rslakra.appsuite.core.BeanUtils.pathSegments;
+import static com.rslakra.appsuite.core.BeanUtils.planCopy;
 import static com.rslakra.appsuite.core.BeanUtils.replaceUnderscoresWithDashes;
 import static com.rslakra.appsuite.core.BeanUtils.separateCamelCase;
 import static com.rslakra.appsuite.core.BeanUtils.toBytes;
@@ -51,10 +53,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.rslakra.appsuite.core.entity.Color;
 import com.rslakra.appsuite.core.entity.Instance;
+import com.rslakra.appsuite.core.entity.User;
 import com.rslakra.appsuite.core.enums.EntityStatus;
 import com.rslakra.appsuite.core.enums.RoleType;
 import com.rslakra.appsuite.core.text.TextUtils;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -88,6 +93,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 /**
@@ -922,7 +928,7 @@ public class BeanUtilsTest {
     public void testGetAllFields() {
         List<Field> allFields = getAllFields(BeanUtils.class);
         assertNotNull(allFields);
-        assertEquals(23, allFields.size());
+        assertEquals(24, allFields.size());
     }
 
     @Test
@@ -1002,6 +1008,67 @@ public class BeanUtilsTest {
         assertEquals(sourceInstance.getSize(), targetInstance.getSize());
     }
 
+    /**
+     * Copy Plan
+     */
+    @Test
+    public void testPlanCopy() {
+        CopyPlan<User, User> copyPlan = planCopy(User.class, User.class, "id");
+        LOGGER.debug("copyPlan: {}", copyPlan);
+        assertNotNull(copyPlan);
+        assertFalse(copyPlan.getPropertyNames().contains("id"));
+        assertTrue(copyPlan.getPropertyNames().contains("email"));
+        assertTrue(copyPlan == planCopy(User.class, User.class, "id"));
+        assertFalse(copyPlan == planCopy(User.class, User.class));
+
+        User sourceUser = User.of(1L, "rohtash.lakra@devamatre.com", "Rohtash", "Singh", "Lakra", EntityStatus.ACTIVE);
+        User targetUser = copyPlan.copy(sourceUser, new User());
+        LOGGER.debug("targetUser: {}", targetUser);
+        assertNull(targetUser.getId());
+        assertEquals(sourceUser.getEmail(), targetUser.getEmail());
+        assertEquals(sourceUser.getFirstName(), targetUser.getFirstName());
+        assertEquals(sourceUser.getMiddleName(), targetUser.getMiddleName());
+        assertEquals(sourceUser.getLastName(), targetUser.getLastName());
+        assertEquals(sourceUser.getEntityStatus(), targetUser.getEntityStatus());
+
+        // copies only the matching properties
+        CopyPlan<Instance, User> emptyPlan = planCopy(Instance.class, User.class);
+        assertEquals(0, emptyPlan.size());
+    }
+
+    /**
+     * Copy All
+     */
+    @Test
+    public void testCopyAll() {
+        List<User> users = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            users.add(User.of(i, "user" + i + "@devamatre.com", "First" + i, null, "Last" + i, EntityStatus.ACTIVE));
+        }
+        users.add(null);
+
+        List<User> copiedUsers = copyAll(users, User::new, "email");
+        assertEquals(users.size(), copiedUsers.size());
+        assertNull(copiedUsers.get(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(users.get(i) == copiedUsers.get(i));
+            assertEquals(users.get(i).getId(), copiedUsers.get(i).getId());
+            assertEquals(users.get(i).getFirstName(), copiedUsers.get(i).getFirstName());
+            assertNull(copiedUsers.get(i).getEmail());
+        }
+
+        // parallel
+        copiedUsers = copyAll(users, User::new, ForkJoinPool.commonPool(), 100);
+        assertEquals(users.size(), copiedUsers.size());
+        assertNull(copiedUsers.get(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(users.get(i).getId(), copiedUsers.get(i).getId());
+            assertEquals(users.get(i).getEmail(), copiedUsers.get(i).getEmail());
+        }
+
+        assertTrue(copyAll(new ArrayList<User>(), User::new, 100).isEmpty());
+    }
+
     /**
      * Testing Bean Class
      */
@@ -1044,6 +1111,150 @@ public class BeanUtilsTest {
         assertEquals(targetInstance.getColors().size(), targetInstance.getColors().size());
     }
 
+    /**
+     * Testing Node Class with the back-reference to its parent.
+     */
+    @Getter
+    @Setter
+    public static class TestNode {
+
+        private String name;
+        private TestNode parent;
+        private List<TestNode> children = new ArrayList<>();
+        private Map<String, Color> colors;
+        private Color[] palette;
+        private int[] weights;
+    }
+
+    /**
+     * Deep Copy Properties with cycles and shared objects
+     */
+    @Test
+    public void testDeepCopyPropertiesWithCycles() {
+        Color redColor = new Color(1601L, "Red");
+        TestNode root = new TestNode();
+        root.setName("root");
+        root.setWeights(new int[]{1, 6});
+        for (int i = 0; i < 2; i++) {
+            TestNode child = new TestNode();
+            child.setName("child-" + i);
+            child.setParent(root);
+            child.setPalette(new Color[]{redColor, null});
+            root.getChildren().add(child);
+        }
+        Map<String, Color> colors = new HashMap<>();
+        colors.put("red", redColor);
+        root.setColors(colors);
+
+        TestNode target = new TestNode();
+        deepCopyProperties(root, target);
+        assertEquals("root", target.getName());
+        assertNotNull(target.getWeights());
+        assertFalse(root.getWeights() == target.getWeights());
+        assertTrue(Arrays.equals(root.getWeights(), target.getWeights()));
+        assertEquals(2, target.getChildren().size());
+        assertFalse(root.getChildren() == target.getChildren());
+        for (int i = 0; i < 2; i++) {
+            TestNode child = target.getChildren().get(i);
+            assertEquals("child-" + i, child.getName());
+            assertFalse(root.getChildren().get(i) == child);
+            // the back-reference points to the copied parent
+            assertTrue(target == child.getParent());
+            assertEquals(2, child.getPalette().length);
+            assertNull(child.getPalette()[1]);
+        }
+
+        // the shared color is copied only once
+        Color copiedColor = target.getColors().get("red");
+        assertNotNull(copiedColor);
+        assertFalse(redColor == copiedColor);
+        assertEquals(redColor.getName(), copiedColor.getName());
+        assertTrue(copiedColor == target.getChildren().get(0).getPalette()[0]);
+        assertTrue(copiedColor == target.getChildren().get(1).getPalette()[0]);
+    }
+
+    /**
+     * Testing bean with the two colors.
+     */
+    @Getter
+    @Setter
+    public static class TestPalette {
+
+        private Color primary;
+        private Color secondary;
+    }
+
+    /**
+     * Testing view of the <code>Color</code>.
+     */
+    @Getter
+    @Setter
+    public static class TestColorView {
+
+        private Long id;
+        private String name;
+    }
+
+    /**
+     * Testing bean with the different types of the colors.
+     */
+    @Getter
+    @Setter
+    public static class TestPaletteView {
+
+        private TestColorView primary;
+        private Color secondary;
+    }
+
+    /**
+     * Deep Copy Properties of the same object into the properties of the different types
+     */
+    @Test
+    public void testDeepCopyPropertiesWithTargetTypes() {
+        Color redColor = new Color(1601L, "Red");
+        TestPalette palette = new TestPalette();
+        palette.setPrimary(redColor);
+        palette.setSecondary(redColor);
+
+        TestPaletteView target = new TestPaletteView();
+        deepCopyProperties(palette, target);
+        assertNotNull(target.getPrimary());
+        assertEquals("Red", target.getPrimary().getName());
+        assertNotNull(target.getSecondary());
+        assertFalse(redColor == target.getSecondary());
+        assertEquals(1601L, target.getSecondary().getId());
+
+        // the copies of the same type are still shared
+        TestPalette paletteCopy = new TestPalette();
+        deepCopyProperties(palette, paletteCopy);
+        assertTrue(paletteCopy.getPrimary() == paletteCopy.getSecondary());
+    }
+
+    /**
+     * Deep Copy Properties with the depth limit
+     */
+    @Test
+    public void testDeepCopyPropertiesWithMaxDepth() {
+        TestNode root = new TestNode();
+        root.setName("root");
+        TestNode child = new TestNode();
+        child.setName("child");
+        child.setParent(root);
+        root.getChildren().add(child);
+
+        // the nested objects are shared
+        TestNode target = new TestNode();
+        deepCopyProperties(root, target, 0);
+        assertTrue(root.getChildren() == target.getChildren());
+
+        // the children list is copied, but its elements are shared
+        target = new TestNode();
+        deepCopyProperties(root, target, 1, "name");
+        assertNull(target.getName());
+        assertFalse(root.getChildren() == target.getChildren());
+        assertTrue(child == target.getChildren().get(0));
+    }
+
     /**
      * CamelCase Separator Testing Data.
      *
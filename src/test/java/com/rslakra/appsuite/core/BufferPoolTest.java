@@ -0,0 +1,103 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/17/26 9:35 PM
+ */
+public class BufferPoolTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferPoolTest.class);
+
+    @Test
+    public void testBorrowAndRelease() {
+        BufferPool bufferPool = BufferPool.of("test", 64 * IOUtils.BUFFER_1K, 256 * IOUtils.BUFFER_1K);
+        assertEquals(64 * IOUtils.BUFFER_1K, bufferPool.getMaxBufferSize());
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.of("test", 16, 0));
+
+        // rounded up to the size class
+        byte[] buffer = bufferPool.borrow(5000);
+        assertEquals(IOUtils.BUFFER_8K, buffer.length);
+        assertEquals(IOUtils.BUFFER_4K, bufferPool.borrow(1).length);
+        assertEquals(IOUtils.BUFFER_8K + IOUtils.BUFFER_4K, bufferPool.getBytesInUse());
+
+        bufferPool.release(buffer);
+        assertEquals(IOUtils.BUFFER_4K, bufferPool.getBytesInUse());
+        assertEquals(IOUtils.BUFFER_8K, bufferPool.getPooledBytes());
+        assertEquals(1, bufferPool.size());
+        assertSame(buffer, bufferPool.borrow(IOUtils.BUFFER_8K));
+        assertEquals(0, bufferPool.getPooledBytes());
+
+        // the oversized buffers aren't pooled
+        byte[] largeBuffer = bufferPool.borrow(100 * IOUtils.BUFFER_1K);
+        assertEquals(100 * IOUtils.BUFFER_1K, largeBuffer.length);
+        bufferPool.release(largeBuffer);
+        assertNotSame(largeBuffer, bufferPool.borrow(100 * IOUtils.BUFFER_1K));
+
+        CacheStats cacheStats = bufferPool.getStats();
+        LOGGER.debug("cacheStats: {}, bufferPool: {}", cacheStats, bufferPool);
+        assertEquals(1, cacheStats.getHits());
+        assertEquals(4, cacheStats.getMisses());
+        assertEquals(0, cacheStats.getSize());
+    }
+
+    @Test
+    public void testBounded() {
+        BufferPool bufferPool = BufferPool.of("test", 64 * IOUtils.BUFFER_1K, 64 * IOUtils.BUFFER_1K);
+        List<byte[]> buffers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            buffers.add(bufferPool.borrow(32 * IOUtils.BUFFER_1K));
+        }
+
+        buffers.forEach(bufferPool::release);
+        assertEquals(0, bufferPool.getBytesInUse());
+        assertTrue(bufferPool.getPooledBytes() <= 64 * IOUtils.BUFFER_1K);
+        assertTrue(bufferPool.getStats().getEvictions() >= 1);
+
+        bufferPool.clear();
+        assertEquals(0, bufferPool.size());
+        assertEquals(0, bufferPool.getPooledBytes());
+    }
+
+    @Test
+    public void testConcurrentReadBytes() throws Exception {
+        byte[] dataBytes = new byte[3 * IOUtils.BUFFER_20K];
+        new Random(7).nextBytes(dataBytes);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executorService.submit(() -> IOUtils.readBytes(new ByteArrayInputStream(dataBytes))));
+            }
+
+            for (Future<byte[]> future : futures) {
+                assertArrayEquals(dataBytes, future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertEquals(0, IOUtils.getBufferPool().getBytesInUse());
+        assertTrue(IOUtils.getBufferPool().getStats().getHits() > 0);
+    }
+}
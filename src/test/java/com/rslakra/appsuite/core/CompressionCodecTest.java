@@ -0,0 +1,175 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 9:40 AM
+ */
+public class CompressionCodecTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompressionCodecTest.class);
+
+    /**
+     * @param size
+     * @return
+     */
+    private static byte[] newDataBytes(final int size) {
+        byte[] dataBytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            dataBytes[i] = (byte) ("appsuite".charAt(i % 8) + (i / 1000) % 3);
+        }
+
+        return dataBytes;
+    }
+
+    /**
+     * @param codec
+     * @param dataBytes
+     * @return
+     * @throws IOException
+     */
+    private static byte[] compress(final CompressionCodec codec, final byte[] dataBytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (OutputStream compressingOutput = IOUtils.compressingOutput(outputStream, codec)) {
+            // incrementally
+            for (int offset = 0; offset < dataBytes.length; offset += 1000) {
+                compressingOutput.write(dataBytes, offset, Math.min(1000, dataBytes.length - offset));
+            }
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @param codec
+     * @param dataBytes
+     * @return
+     * @throws IOException
+     */
+    private static byte[] decompress(final CompressionCodec codec, final byte[] dataBytes) throws IOException {
+        try (InputStream inputStream = IOUtils.decompressingInput(new ByteArrayInputStream(dataBytes), codec)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Test
+    public void testCodecs() throws IOException {
+        assertSame(CompressionCodec.GZIP, CompressionCodec.of(CompressionCodec.Format.GZIP, -1));
+        assertSame(CompressionCodec.NONE, CompressionCodec.of(CompressionCodec.Format.NONE, 9));
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodec.of(CompressionCodec.Format.GZIP, 10));
+
+        byte[] dataBytes = newDataBytes(100_000);
+        List<CompressionCodec> codecs = new ArrayList<>();
+        codecs.add(CompressionCodec.NONE);
+        codecs.add(CompressionCodec.GZIP);
+        codecs.add(CompressionCodec.DEFLATE);
+        codecs.add(CompressionCodec.of(CompressionCodec.Format.GZIP, 1));
+        codecs.add(CompressionCodec.of(CompressionCodec.Format.DEFLATE, 9));
+        for (CompressionCodec codec : codecs) {
+            // twice to use the pooled deflater and inflater
+            for (int i = 0; i < 2; i++) {
+                byte[] compressedBytes = compress(codec, dataBytes);
+                LOGGER.debug("codec: {}, compressed: {}", codec, compressedBytes.length);
+                if (codec.getFormat() != CompressionCodec.Format.NONE) {
+                    assertTrue(compressedBytes.length < dataBytes.length / 10);
+                }
+                assertArrayEquals(dataBytes, decompress(codec, compressedBytes));
+            }
+        }
+    }
+
+    @Test
+    public void testUseAfterClose() throws IOException {
+        for (CompressionCodec codec : new CompressionCodec[]{CompressionCodec.GZIP, CompressionCodec.DEFLATE}) {
+            ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+            OutputStream firstStream = codec.wrap(firstOutput);
+            firstStream.write("first".getBytes());
+            firstStream.close();
+            firstStream.close();
+
+            // the closed stream can't write into the pooled deflater of the next stream
+            ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+            try (OutputStream secondStream = codec.wrap(secondOutput)) {
+                secondStream.write("second-".getBytes());
+                assertThrows(IOException.class, () -> firstStream.write("STRAY".getBytes()));
+                assertThrows(IOException.class, () -> firstStream.write('S'));
+                assertThrows(IOException.class, firstStream::flush);
+                secondStream.write("payload".getBytes());
+            }
+            assertEquals("second-payload", new String(decompress(codec, secondOutput.toByteArray())));
+
+            InputStream firstInput = codec.wrap(new ByteArrayInputStream(firstOutput.toByteArray()));
+            assertEquals("first", new String(firstInput.readAllBytes()));
+            firstInput.close();
+            try (InputStream secondInput = codec.wrap(new ByteArrayInputStream(secondOutput.toByteArray()))) {
+                assertThrows(IOException.class, firstInput::read);
+                assertThrows(IOException.class, firstInput::available);
+                assertThrows(IOException.class, () -> firstInput.skip(1));
+                assertEquals("second-payload", new String(secondInput.readAllBytes()));
+            }
+        }
+    }
+
+    @Test
+    public void testGzipCompatibility() throws IOException {
+        byte[] dataBytes = newDataBytes(50_000);
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compress(CompressionCodec.GZIP, dataBytes)))) {
+            assertArrayEquals(dataBytes, inputStream.readAllBytes());
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(dataBytes);
+        }
+        assertArrayEquals(dataBytes, decompress(CompressionCodec.GZIP, outputStream.toByteArray()));
+
+        // corrupt trailer
+        byte[] compressedBytes = compress(CompressionCodec.GZIP, dataBytes);
+        compressedBytes[compressedBytes.length - 1]++;
+        assertThrows(ZipException.class, () -> decompress(CompressionCodec.GZIP, compressedBytes));
+        assertThrows(ZipException.class, () -> decompress(CompressionCodec.GZIP, dataBytes));
+    }
+
+    @Test
+    public void testObjectCodecs() throws Exception {
+        ArrayList<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add("value-" + (i % 10));
+        }
+
+        for (CompressionCodec codec : new CompressionCodec[]{CompressionCodec.NONE, CompressionCodec.GZIP, CompressionCodec.DEFLATE}) {
+            byte[] objectBytes = IOUtils.toCompressedBytes(values, codec);
+            assertEquals(values, IOUtils.toObject(objectBytes, codec));
+        }
+        assertEquals(values, IOUtils.toObject(IOUtils.toBytes(values)));
+
+        // the compressed object streams
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        IOUtils.writeObject(outputStream, values, true);
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(0xACED, ((inputStream.read() << 8) | inputStream.read()));
+        }
+        assertEquals(values, IOUtils.readObject(new ByteArrayInputStream(outputStream.toByteArray()), true));
+    }
+}
@@ -0,0 +1,125 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.rslakra.appsuite.core.security.GuardUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 11:40 AM
+ */
+public class DigesterTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(DigesterTest.class);
+
+    /**
+     * @param size
+     * @return
+     */
+    private static byte[] newDataBytes(final int size) {
+        final byte[] dataBytes = new byte[size];
+        new Random(size).nextBytes(dataBytes);
+        return dataBytes;
+    }
+
+    @Test
+    public void testDigest() throws Exception {
+        final byte[] dataBytes = newDataBytes(3 * IOUtils.BUFFER_1M + 17);
+        final byte[] expected = MessageDigest.getInstance(Digester.SHA_256).digest(dataBytes);
+        final Digester digester = Digester.of(Digester.SHA_256);
+        assertArrayEquals(expected, digester.digest(dataBytes));
+        assertArrayEquals(expected, digester.digest(new ByteArrayInputStream(dataBytes)));
+        assertArrayEquals(expected, digester.digest(Channels.newChannel(new ByteArrayInputStream(dataBytes))));
+        assertArrayEquals(MessageDigest.getInstance(Digester.SHA_256).digest(), digester.digest(new byte[0]));
+        LOGGER.debug("digester:{}", digester);
+    }
+
+    @Test
+    public void testDigestPath(@TempDir Path tempDir) throws Exception {
+        final byte[] dataBytes = newDataBytes(IOUtils.BUFFER_1M + 5);
+        final Path path = Files.write(tempDir.resolve("data.bin"), dataBytes);
+        final Digester digester = Digester.of(Digester.MD5);
+        assertArrayEquals(MessageDigest.getInstance(Digester.MD5).digest(dataBytes), digester.digest(path));
+        assertEquals(GuardUtils.getChecksum(dataBytes), GuardUtils.getChecksum(path));
+        assertEquals(HexCodec.encode(GuardUtils.getSHA256Hash(dataBytes)), HashUtils.sha256Hex(path));
+        assertArrayEquals(GuardUtils.getSHA512Hash(dataBytes), GuardUtils.getSHA512Hash(path));
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            assertArrayEquals(GuardUtils.getSHA256Hash(dataBytes), GuardUtils.getSHA256Hash(inputStream));
+        }
+    }
+
+    @Test
+    public void testDigestMapped(@TempDir Path tempDir) throws Exception {
+        // the sparse file over the mapped threshold
+        final Path path = tempDir.resolve("large.bin");
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(path.toFile(), "rw")) {
+            randomAccessFile.setLength(IOUtils.MAPPED_THRESHOLD + IOUtils.BUFFER_4K);
+            randomAccessFile.seek(IOUtils.MAPPED_REGION_SIZE + 1);
+            randomAccessFile.write(newDataBytes(IOUtils.BUFFER_4K));
+        }
+
+        final Digester digester = Digester.of(Digester.SHA_1);
+        try (FileChannel fileChannel = FileChannel.open(path)) {
+            assertArrayEquals(digester.digest(fileChannel), digester.digest(path));
+        }
+    }
+
+    @Test
+    public void testDigestAll(@TempDir Path tempDir) throws Exception {
+        final List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            paths.add(Files.write(tempDir.resolve("file-" + i + ".txt"), newDataBytes(i * 1000)));
+        }
+
+        final Digester digester = Digester.of(Digester.SHA_256);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Map<Path, byte[]> digests = digester.digestAll(paths, executor);
+            assertEquals(paths, new ArrayList<>(digests.keySet()));
+            for (Path path : paths) {
+                assertArrayEquals(digester.digest(Files.readAllBytes(path)), digests.get(path));
+            }
+
+            final Path manifestPath = tempDir.resolve("manifest.txt");
+            assertEquals(paths.size(), digester.writeManifest(paths, manifestPath, executor));
+            final List<String> lines = Files.readAllLines(manifestPath);
+            assertEquals(paths.size(), lines.size());
+            assertEquals(paths.get(3) + Digester.MANIFEST_SEPARATOR + HexCodec.encode(digests.get(paths.get(3))),
+                         lines.get(3));
+
+            paths.add(tempDir.resolve("missing.txt"));
+            assertThrows(IOException.class, () -> digester.digestAll(paths, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> Digester.of("SHA-0"));
+        assertThrows(NullPointerException.class, () -> Digester.of(null));
+    }
+}
@@ -0,0 +1,111 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/17/26 10:40 PM
+ */
+public class FileWalkerTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileWalkerTest.class);
+
+    @TempDir
+    static Path rootPath;
+
+    /**
+     * Creates the tree of the <code>a.txt, b.zip, one/c.txt, one/d.zip, one/two/e.txt ... one/two/three/f.zip</code>
+     * files, and 100 <code>many/*.log</code> files.
+     *
+     * @throws IOException
+     */
+    @BeforeAll
+    public static void setUp() throws IOException {
+        Path onePath = Files.createDirectories(rootPath.resolve("one"));
+        Path twoPath = Files.createDirectories(onePath.resolve("two"));
+        Path threePath = Files.createDirectories(twoPath.resolve("three"));
+        Files.createFile(rootPath.resolve("a.txt"));
+        Files.createFile(rootPath.resolve("b.zip"));
+        Files.createFile(onePath.resolve("c.txt"));
+        Files.createFile(onePath.resolve("d.zip"));
+        Files.createFile(twoPath.resolve("e.txt"));
+        Files.createFile(threePath.resolve("f.zip"));
+        Path manyPath = Files.createDirectories(rootPath.resolve("many"));
+        for (int i = 0; i < 100; i++) {
+            Files.createFile(manyPath.resolve("file-" + i + ".log"));
+        }
+    }
+
+    /**
+     * @param paths
+     * @return
+     */
+    private static Set<String> toNames(final Stream<Path> paths) {
+        try (Stream<Path> stream = paths) {
+            return stream.map(path -> path.getFileName().toString())
+                .filter(name -> !name.endsWith(".log"))
+                .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void testWalk() {
+        assertEquals(Sets.asSet("a.txt", "b.zip", "c.txt", "d.zip", "e.txt", "f.zip"),
+                     toNames(FileWalker.of(rootPath).walk()));
+        assertEquals(106, FileWalker.of(rootPath).toList().size());
+        assertEquals(Sets.asSet("a.txt", "b.zip"), toNames(FileWalker.of(rootPath).maxDepth(1).walk()));
+        assertEquals(Sets.asSet("a.txt", "b.zip", "c.txt", "d.zip"), toNames(FileWalker.of(rootPath).maxDepth(2).walk()));
+        assertEquals(0, FileWalker.of(rootPath).maxDepth(0).toList().size());
+        assertEquals(0, FileWalker.of(rootPath.resolve("missing")).toList().size());
+        assertThrows(IllegalArgumentException.class, () -> FileWalker.of(rootPath).maxDepth(-1));
+    }
+
+    @Test
+    public void testFilters() {
+        assertEquals(Sets.asSet("b.zip", "d.zip", "f.zip"), toNames(FileWalker.of(rootPath).extensions(".zip").walk()));
+        assertEquals(Sets.asSet("a.txt", "b.zip", "c.txt", "d.zip", "e.txt", "f.zip"),
+                     toNames(FileWalker.of(rootPath).extensions((String) null).walk()));
+        // the glob is matched against the relative path
+        assertEquals(Sets.asSet("a.txt", "b.zip"), toNames(FileWalker.of(rootPath).glob("*.{txt,zip}").walk()));
+        assertEquals(Sets.asSet("c.txt", "e.txt"), toNames(FileWalker.of(rootPath).glob("one/**.txt").walk()));
+        assertEquals(Sets.asSet("e.txt"), toNames(IOUtils.walkFiles(rootPath, 3, ".txt").filter(path -> path.startsWith(rootPath.resolve("one/two")))));
+    }
+
+    @Test
+    public void testParallelWalk() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            List<Path> paths = FileWalker.of(rootPath).parallel(forkJoinPool).toList();
+            LOGGER.debug("paths: {}", paths.size());
+            assertEquals(106, paths.size());
+            assertEquals(106, paths.stream().distinct().count());
+            assertEquals(Sets.asSet("d.zip", "f.zip"),
+                         toNames(FileWalker.of(rootPath.resolve("one")).extensions(".zip").parallel(forkJoinPool).walk()));
+
+            // closing the stream stops the walk
+            try (Stream<Path> stream = FileWalker.of(rootPath).parallel(forkJoinPool).walk()) {
+                assertTrue(stream.findFirst().isPresent());
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+}
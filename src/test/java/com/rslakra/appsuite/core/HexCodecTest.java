@@ -0,0 +1,69 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.rslakra.appsuite.core.security.GuardUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.Random;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 10:45 AM
+ */
+public class HexCodecTest {
+
+    @Test
+    public void testEncodeDecode() {
+        HexFormat hexFormat = HexFormat.of();
+        Random random = new Random(19);
+        for (int size = 0; size < 64; size++) {
+            byte[] dataBytes = new byte[size];
+            random.nextBytes(dataBytes);
+            String hexString = hexFormat.formatHex(dataBytes);
+            assertEquals(hexString, HexCodec.encode(dataBytes));
+            assertEquals(hexString.toUpperCase(), HexCodec.encode(dataBytes, true));
+            assertEquals(hexString, new String(HexCodec.encodeToChars(dataBytes, false)));
+            assertEquals(hexString, new String(HexCodec.encodeToBytes(dataBytes, false)));
+            assertArrayEquals(dataBytes, HexCodec.decode(hexString));
+            assertArrayEquals(dataBytes, HexCodec.decode(hexString.toUpperCase()));
+        }
+
+        // ranges
+        byte[] dataBytes = {0x00, 0x0f, (byte) 0xf0, (byte) 0xff};
+        assertEquals("0FF0", HexCodec.encode(dataBytes, 1, 2, true));
+        char[] hexChars = new char[6];
+        assertEquals(4, HexCodec.encode(dataBytes, 2, 2, hexChars, 1, false));
+        assertEquals("\u0000f0ff\u0000", new String(hexChars));
+        assertArrayEquals(new byte[]{(byte) 0xf0, (byte) 0xff}, HexCodec.decode(new StringBuilder("x-f0FF-x"), 2, 4));
+
+        assertThrows(NumberFormatException.class, () -> HexCodec.decode("abc"));
+        assertThrows(NumberFormatException.class, () -> HexCodec.decode("0g"));
+        assertThrows(NumberFormatException.class, () -> HexCodec.decode("é0"));
+        assertThrows(IndexOutOfBoundsException.class, () -> HexCodec.decode("00", 1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> HexCodec.encode(dataBytes, 0, 4, new char[7], 0, true));
+    }
+
+    @Test
+    public void testEntryPoints() {
+        byte[] dataBytes = {0x01, (byte) 0xab, 0x7f};
+        assertEquals("01AB7F", IOUtils.toHexString(dataBytes));
+        assertNull(IOUtils.toHexString(new byte[0]));
+        assertArrayEquals(dataBytes, IOUtils.toHexBytes("01ab7f"));
+        // the last odd digit is ignored
+        assertArrayEquals(dataBytes, IOUtils.toHexBytes("01AB7F0"));
+        assertEquals("01AB7F", GuardUtils.toHexString(dataBytes));
+        assertEquals("", GuardUtils.toHexString(new byte[0]));
+        assertArrayEquals(dataBytes, GuardUtils.hexStringAsBytes("01AB7F"));
+        assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", HashUtils.sha256Hex("hello"));
+
+        // the leading zeros are kept (md5("jk8ssl") = 0000000018e6137ac2caab16074784a6)
+        String checksum = GuardUtils.getChecksum("jk8ssl".getBytes());
+        assertEquals(32, checksum.length());
+        assertEquals("0000000018e6137ac2caab16074784a6", checksum);
+    }
+}
@@ -1,21 +1,33 @@
 package com.rslakra.appsuite.core;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * @author Rohtash Lakra
@@ -262,4 +274,179 @@ public class IOUtilsTest {
 
         LOGGER.debug("-testGetJarFileClasses()");
     }
+
+    /**
+     * @param size
+     * @return
+     */
+    private static byte[] newDataBytes(final int size) {
+        byte[] dataBytes = new byte[size];
+        new Random(size).nextBytes(dataBytes);
+        return dataBytes;
+    }
+
+    /**
+     * Tests <code>copyFile()</code> methods.
+     *
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    public void testCopyFile(@TempDir Path tempDir) throws IOException {
+        LOGGER.debug("+testCopyFile()");
+        byte[] dataBytes = newDataBytes(3 * IOUtils.BUFFER_20K + 7);
+        Path sourcePath = Files.write(tempDir.resolve("source.bin"), dataBytes);
+        Path targetPath = tempDir.resolve("target.bin");
+
+        assertEquals(dataBytes.length, IOUtils.copyFile(sourcePath, targetPath));
+        assertArrayEquals(dataBytes, Files.readAllBytes(targetPath));
+
+        // the existing target is replaced
+        Path streamPath = tempDir.resolve("stream.bin");
+        Files.write(streamPath, newDataBytes(5 * IOUtils.BUFFER_20K));
+        int fileSize = IOUtils.copyFile(new FileInputStream(sourcePath.toFile()),
+                                        new FileOutputStream(streamPath.toFile()), true);
+        assertEquals(dataBytes.length, fileSize);
+        assertArrayEquals(dataBytes, Files.readAllBytes(streamPath));
+
+        assertTrue(IOUtils.copyFile(sourcePath.toString(), tempDir.resolve("path.bin").toString()));
+        assertArrayEquals(dataBytes, Files.readAllBytes(tempDir.resolve("path.bin")));
+        LOGGER.debug("-testCopyFile()");
+    }
+
+    /**
+     * Tests <code>copyStream()</code> method with each kind of the streams.
+     *
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    public void testCopyStream(@TempDir Path tempDir) throws IOException {
+        LOGGER.debug("+testCopyStream()");
+        byte[] dataBytes = newDataBytes(2 * IOUtils.BUFFER_20K + 3);
+        Path sourcePath = Files.write(tempDir.resolve("source.bin"), dataBytes);
+
+        // file to stream
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(dataBytes.length, IOUtils.copyStream(new FileInputStream(sourcePath.toFile()), outputStream, true));
+        assertArrayEquals(dataBytes, outputStream.toByteArray());
+
+        // stream to file (appended after the existing bytes)
+        Path targetPath = Files.write(tempDir.resolve("target.bin"), new byte[]{1, 2});
+        assertEquals(dataBytes.length, IOUtils.copyStream(new ByteArrayInputStream(dataBytes),
+                                                          new FileOutputStream(targetPath.toFile(), true), true));
+        byte[] targetBytes = Files.readAllBytes(targetPath);
+        assertEquals(dataBytes.length + 2, targetBytes.length);
+        assertArrayEquals(dataBytes, Arrays.copyOfRange(targetBytes, 2, targetBytes.length));
+
+        // stream to stream
+        outputStream = new ByteArrayOutputStream();
+        assertEquals(dataBytes.length, IOUtils.copyStream(new ByteArrayInputStream(dataBytes), outputStream, true));
+        assertArrayEquals(dataBytes, outputStream.toByteArray());
+        LOGGER.debug("-testCopyStream()");
+    }
+
+    /**
+     * Tests <code>copyStream()</code> method with the files, which aren't regular (the procfs and the named pipe).
+     *
+     * @param tempDir
+     * @throws Exception
+     */
+    @Test
+    public void testCopySpecialFiles(@TempDir Path tempDir) throws Exception {
+        LOGGER.debug("+testCopySpecialFiles()");
+        // the procfs files report no size
+        Path procPath = Paths.get("/proc/self/status");
+        assumeTrue(Files.isReadable(procPath));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertTrue(IOUtils.copyStream(new FileInputStream(procPath.toFile()), outputStream, true) > 0);
+        assertTrue(outputStream.toString().contains("Name:"));
+
+        // the named pipe isn't seekable
+        Path pipePath = tempDir.resolve("pipe");
+        assumeTrue(new ProcessBuilder("mkfifo", pipePath.toString()).start().waitFor() == 0);
+        byte[] dataBytes = newDataBytes(3 * IOUtils.BUFFER_20K + 5);
+        ByteArrayOutputStream pipeStream = new ByteArrayOutputStream();
+        Thread readerThread = new Thread(() -> {
+            try {
+                IOUtils.copyStream(new FileInputStream(pipePath.toFile()), pipeStream, true);
+            } catch (IOException ex) {
+                LOGGER.error(ex.getMessage(), ex);
+            }
+        });
+        readerThread.start();
+        assertEquals(dataBytes.length, IOUtils.copyStream(new ByteArrayInputStream(dataBytes),
+                                                          new FileOutputStream(pipePath.toFile()), true));
+        readerThread.join(10_000);
+        assertArrayEquals(dataBytes, pipeStream.toByteArray());
+
+        // the file to the named pipe
+        Path sourcePath = Files.write(tempDir.resolve("source.bin"), dataBytes);
+        pipeStream.reset();
+        readerThread = new Thread(() -> {
+            try {
+                IOUtils.copyStream(new FileInputStream(pipePath.toFile()), pipeStream, true);
+            } catch (IOException ex) {
+                LOGGER.error(ex.getMessage(), ex);
+            }
+        });
+        readerThread.start();
+        assertEquals(dataBytes.length, IOUtils.copyFile(new FileInputStream(sourcePath.toFile()),
+                                                        new FileOutputStream(pipePath.toFile()), true));
+        readerThread.join(10_000);
+        assertArrayEquals(dataBytes, pipeStream.toByteArray());
+        LOGGER.debug("-testCopySpecialFiles()");
+    }
+
+    /**
+     * Tests <code>writeMapped()</code> and <code>sendLocalFile()</code> methods.
+     *
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    public void testWriteMapped(@TempDir Path tempDir) throws IOException {
+        LOGGER.debug("+testWriteMapped()");
+        byte[] dataBytes = newDataBytes(IOUtils.BUFFER_20K + 11);
+        Path sourcePath = Files.write(tempDir.resolve("source.bin"), dataBytes);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (FileChannel sourceChannel = FileChannel.open(sourcePath)) {
+            // starts at the current position of the channel
+            sourceChannel.position(11);
+            assertEquals(IOUtils.BUFFER_20K, IOUtils.writeMapped(sourceChannel, Channels.newChannel(outputStream)));
+            assertEquals(dataBytes.length, sourceChannel.position());
+        }
+        assertArrayEquals(Arrays.copyOfRange(dataBytes, 11, dataBytes.length), outputStream.toByteArray());
+
+        outputStream = new ByteArrayOutputStream();
+        assertEquals(dataBytes.length, IOUtils.sendLocalFile(sourcePath.toFile(), Channels.newChannel(outputStream)));
+        assertArrayEquals(dataBytes, outputStream.toByteArray());
+
+        outputStream = new ByteArrayOutputStream();
+        IOUtils.sendLocalFile(sourcePath.toFile(), outputStream);
+        assertArrayEquals(dataBytes, outputStream.toByteArray());
+        LOGGER.debug("-testWriteMapped()");
+    }
+
+    /**
+     * Tests <code>listFiles()</code> method with the sub-directories.
+     *
+     * @param tempDir
+     * @throws IOException
+     */
+    @Test
+    public void testListFilesRecursive(@TempDir Path tempDir) throws IOException {
+        LOGGER.debug("+testListFilesRecursive()");
+        Path subPath = Files.createDirectories(tempDir.resolve("sub").resolve("child"));
+        Files.createFile(tempDir.resolve("root.zip"));
+        Files.createFile(subPath.resolve("child.zip"));
+        Files.createFile(subPath.resolve("child.txt"));
+
+        List<File> files = IOUtils.listFiles(tempDir.toFile(), new String[]{".zip"}, true);
+        assertEquals(Sets.asSet("root.zip", "child.zip"), files.stream().map(File::getName).collect(Collectors.toSet()));
+        assertEquals(3, IOUtils.listFileNames(tempDir.toFile(), null, true).size());
+        assertEquals(Sets.asSet("root.zip", "sub"), Sets.asSet(IOUtils.getAllFiles(tempDir.toFile())));
+        LOGGER.debug("-testListFilesRecursive()");
+    }
 }
@@ -0,0 +1,126 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.rslakra.appsuite.core.entity.Address;
+import com.rslakra.appsuite.core.entity.User;
+import com.rslakra.appsuite.core.enums.EntityStatus;
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/17/26 4:20 PM
+ */
+public class MetadataRegistryTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetadataRegistryTest.class);
+
+    @Test
+    public void testWarmUpClasses() {
+        MetadataRegistry.WarmUpReport warmUpReport = MetadataRegistry.warmUp(User.class, Address.class,
+                                                                             EntityStatus.class);
+        LOGGER.debug("warmUpReport: {}", warmUpReport);
+        assertNotNull(warmUpReport);
+        // enums are skipped
+        assertEquals(2, warmUpReport.getClasses());
+        assertEquals(2, warmUpReport.getLoadedClasses());
+        assertEquals(0, warmUpReport.getFailedClasses());
+        assertTrue(warmUpReport.getProperties() >= 13);
+        assertTrue(warmUpReport.getRegistrySize() >= 2);
+        assertNotNull(warmUpReport.getDuration());
+    }
+
+    @Test
+    public void testFindPackageClassNames() throws IOException {
+        Set<String> classNames = MetadataRegistry.findPackageClassNames(getClass().getClassLoader(),
+                                                                        "com.rslakra.appsuite.core.entity");
+        LOGGER.debug("classNames: {}", classNames);
+        assertTrue(classNames.contains(User.class.getName()));
+        assertTrue(classNames.contains(Address.class.getName()));
+        assertFalse(classNames.contains(BeanUtils.class.getName()));
+
+        List<Class<?>> classes = MetadataRegistry.findPackageClasses("com.rslakra.appsuite.core.entity");
+        assertTrue(classes.contains(User.class));
+    }
+
+    @Test
+    public void testWarmUpPackage() throws IOException {
+        MetadataRegistry.WarmUpReport warmUpReport = MetadataRegistry.warmUp("com.rslakra.appsuite.core.entity");
+        LOGGER.debug("warmUpReport: {}", warmUpReport);
+        assertTrue(warmUpReport.getLoadedClasses() > 0);
+        assertEquals(warmUpReport.getClasses(), warmUpReport.getLoadedClasses() + warmUpReport.getFailedClasses());
+        assertTrue(MetadataRegistry.size() >= warmUpReport.getLoadedClasses());
+    }
+
+    @Test
+    public void testWarmUpJarFile() throws IOException {
+        final String classEntry = Address.class.getName().replace('.', '/') + ".class";
+        final File jarFile = File.createTempFile("entities", ".jar");
+        try {
+            try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jarFile));
+                 InputStream inputStream = Address.class.getClassLoader().getResourceAsStream(classEntry)) {
+                jarOutputStream.putNextEntry(new JarEntry(classEntry));
+                inputStream.transferTo(jarOutputStream);
+                jarOutputStream.closeEntry();
+            }
+
+            // the classes of the jar are resolved with the app's class loader
+            MetadataRegistry.WarmUpReport warmUpReport = MetadataRegistry.warmUp(getClass().getClassLoader(), jarFile);
+            LOGGER.debug("warmUpReport: {}", warmUpReport);
+            assertEquals(1, warmUpReport.getClasses());
+            assertEquals(1, warmUpReport.getLoadedClasses());
+            assertNotNull(BeanUtils.INSTANCE.findByClass(Address.class));
+        } finally {
+            jarFile.delete();
+        }
+    }
+
+    @Test
+    public void testEvict() throws Exception {
+        final URL classesUrl = Address.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader pluginLoader = new URLClassLoader(new URL[]{classesUrl},
+                                                              ClassLoader.getPlatformClassLoader())) {
+            final Class<?> pluginType = pluginLoader.loadClass(Address.class.getName());
+            assertFalse(pluginType == Address.class);
+            assertTrue(ClassMetadataCache.isLoadedBy(pluginType, pluginLoader));
+            assertFalse(ClassMetadataCache.isLoadedBy(Address.class, pluginLoader));
+
+            final Address address = new Address();
+            address.setCity("Fremont");
+            final Object pluginAddress = BeanUtils.newInstance(pluginType);
+            BeanUtils.copyProperties(address, pluginAddress);
+            assertEquals("Fremont", BeanUtils.readObjectProperty(pluginAddress, "city"));
+            final int sizeBefore = MetadataRegistry.size();
+
+            assertTrue(MetadataRegistry.evict(pluginLoader) >= 1);
+            assertEquals(sizeBefore - 1, MetadataRegistry.size());
+            assertEquals(0, MetadataRegistry.evict(pluginLoader));
+            // the metadata of the app classes is kept
+            assertNotNull(BeanUtils.INSTANCE.findByClass(Address.class));
+        }
+
+        final List<CacheStats> cacheStats = BeanUtils.getCacheStats();
+        LOGGER.debug("cacheStats: {}", cacheStats);
+        assertEquals(3, cacheStats.size());
+        cacheStats.forEach(stats -> assertTrue(stats.getMisses() > 0));
+        assertTrue(cacheStats.get(1).getEvictions() > 0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.rslakra.appsuite.core.entity.User;
+import com.rslakra.appsuite.core.enums.EntityStatus;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/17/26 9:48 AM
+ */
+public class PropertyAccessorTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(PropertyAccessorTest.class);
+
+    /**
+     * Bean with the primitive property.
+     */
+    public static class Counter {
+
+        private int count;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            if (count < 0) {
+                throw new IllegalStateException("count must be positive!");
+            }
+            this.count = count;
+        }
+    }
+
+    /**
+     * Bean with the wider primitive properties.
+     */
+    public static class WideCounter {
+
+        private long count;
+        private int code;
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        public void setCode(int code) {
+            this.code = code;
+        }
+    }
+
+    @Test
+    public void testGeneratedAccessor() throws Exception {
+        Method readMethod = User.class.getMethod("getEmail");
+        Method writeMethod = User.class.getMethod("setEmail", String.class);
+        PropertyAccessor accessor = PropertyAccessor.of(readMethod, writeMethod);
+        LOGGER.debug("accessor: {}", accessor);
+        assertTrue(accessor.isGenerated());
+        assertTrue(accessor.isReadable());
+        assertTrue(accessor.isWritable());
+
+        User user = User.of(1L, "rohtash.lakra@devamatre.com", "Rohtash", null, "Lakra", EntityStatus.ACTIVE);
+        assertEquals("rohtash.lakra@devamatre.com", accessor.get(user));
+        accessor.set(user, "rslakra@devamatre.com");
+        assertEquals("rslakra@devamatre.com", user.getEmail());
+        accessor.set(user, null);
+        assertNull(user.getEmail());
+        assertThrows(IllegalArgumentException.class, () -> accessor.set(user, 16L));
+    }
+
+    @Test
+    public void testPrimitiveAccessor() throws Exception {
+        Method readMethod = Counter.class.getMethod("getCount");
+        Method writeMethod = Counter.class.getMethod("setCount", int.class);
+        PropertyAccessor accessor = PropertyAccessor.of(readMethod, writeMethod);
+        assertTrue(accessor.isGenerated());
+
+        Counter counter = new Counter();
+        accessor.set(counter, 16);
+        assertEquals(16, counter.getCount());
+        assertEquals(16, accessor.get(counter));
+        assertThrows(IllegalArgumentException.class, () -> accessor.set(counter, null));
+        assertThrows(InvocationTargetException.class, () -> accessor.set(counter, -1));
+    }
+
+    @Test
+    public void testWideningAccessor() throws Exception {
+        PropertyAccessor countAccessor = PropertyAccessor.of(WideCounter.class.getMethod("getCount"),
+                                                             WideCounter.class.getMethod("setCount", long.class));
+        PropertyAccessor codeAccessor = PropertyAccessor.of(WideCounter.class.getMethod("getCode"),
+                                                            WideCounter.class.getMethod("setCode", int.class));
+        assertTrue(countAccessor.isGenerated());
+
+        WideCounter wideCounter = new WideCounter();
+        // int -> long
+        countAccessor.set(wideCounter, 5);
+        assertEquals(5L, wideCounter.getCount());
+        // char -> int
+        codeAccessor.set(wideCounter, 'x');
+        assertEquals('x', wideCounter.getCode());
+        // the narrowing isn't allowed
+        assertThrows(IllegalArgumentException.class, () -> codeAccessor.set(wideCounter, 16L));
+        assertThrows(IllegalArgumentException.class, () -> countAccessor.set(wideCounter, null));
+    }
+
+    @Test
+    public void testCopyWideningProperties() {
+        Counter counter = new Counter();
+        counter.setCount(5);
+        WideCounter wideCounter = new WideCounter();
+        BeanUtils.copyProperties(counter, wideCounter);
+        assertEquals(5L, wideCounter.getCount());
+    }
+
+    @Test
+    public void testReadOnlyAccessor() throws Exception {
+        Method readMethod = Counter.class.getMethod("getCount");
+        PropertyAccessor accessor = PropertyAccessor.of(readMethod, null);
+        assertTrue(accessor.isReadable());
+        assertFalse(accessor.isWritable());
+        assertEquals(0, accessor.get(new Counter()));
+    }
+
+    @Test
+    public void testReflectiveAccessor() throws Exception {
+        // java.base is not opened to this module, so it falls back to the reflective methods.
+        Method readMethod = StringBuilder.class.getMethod("length");
+        PropertyAccessor accessor = PropertyAccessor.of(readMethod, null);
+        assertFalse(accessor.isGenerated());
+        assertEquals(7, accessor.get(new StringBuilder("Rohtash")));
+    }
+}
@@ -0,0 +1,126 @@
+package com.rslakra.appsuite.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/17/26 11:50 PM
+ */
+public class RetentionSweeperTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetentionSweeperTest.class);
+
+    /**
+     * Creates the <code>count</code> files of 10 bytes in the <code>directory</code>, modified <code>ageInDays</code>
+     * days ago.
+     *
+     * @param directory
+     * @param prefix
+     * @param count
+     * @param ageInDays
+     * @throws IOException
+     */
+    private static void createFiles(final Path directory, final String prefix, final int count, final int ageInDays)
+        throws IOException {
+        Files.createDirectories(directory);
+        final FileTime fileTime = FileTime.from(Instant.now().minus(Duration.ofDays(ageInDays)));
+        for (int i = 0; i < count; i++) {
+            Path file = Files.write(directory.resolve(prefix + i + ".log"), new byte[10]);
+            Files.setLastModifiedTime(file, fileTime);
+        }
+    }
+
+    @Test
+    public void testSweep(@TempDir Path rootPath) throws IOException {
+        createFiles(rootPath, "old-", 20, 40);
+        createFiles(rootPath, "new-", 5, 1);
+        createFiles(rootPath.resolve("sub"), "old-", 30, 40);
+        Files.setLastModifiedTime(Files.createFile(rootPath.resolve("old.txt")), FileTime.from(Instant.EPOCH));
+        assertThrows(IllegalArgumentException.class, () -> RetentionSweeper.of(rootPath, Duration.ofDays(-1)));
+
+        // dry run
+        RetentionSweeper.SweepReport sweepReport = RetentionSweeper.of(rootPath, Duration.ofDays(30))
+            .extensions(".log")
+            .dryRun(true)
+            .sweep();
+        LOGGER.debug("sweepReport: {}", sweepReport);
+        assertTrue(sweepReport.isDryRun());
+        assertEquals(56, sweepReport.getScannedFiles());
+        assertEquals(50, sweepReport.getExpiredFiles());
+        assertEquals(500, sweepReport.getExpiredBytes());
+        assertEquals(0, sweepReport.getDeletedFiles());
+        assertTrue(Files.exists(rootPath.resolve("old-0.log")));
+
+        // only the root directory
+        sweepReport = RetentionSweeper.of(rootPath, Duration.ofDays(30)).extensions(".log").maxDepth(1).sweep();
+        LOGGER.debug("sweepReport: {}", sweepReport);
+        assertEquals(20, sweepReport.getDeletedFiles());
+        assertEquals(200, sweepReport.getFreedBytes());
+        assertFalse(Files.exists(rootPath.resolve("old-0.log")));
+        assertTrue(Files.exists(rootPath.resolve("sub").resolve("old-0.log")));
+
+        // in parallel
+        sweepReport = RetentionSweeper.of(rootPath, Duration.ofDays(30)).concurrency(4).sweep();
+        LOGGER.debug("sweepReport: {}", sweepReport);
+        assertEquals(31, sweepReport.getDeletedFiles());
+        assertEquals(300, sweepReport.getFreedBytes());
+        assertEquals(0, sweepReport.getFailedFiles());
+        assertFalse(Files.exists(rootPath.resolve("old.txt")));
+        assertEquals(5, FileWalker.of(rootPath).toList().size());
+    }
+
+    @Test
+    public void testRateLimit(@TempDir Path rootPath) throws IOException {
+        createFiles(rootPath, "old-", 11, 2);
+        RetentionSweeper.SweepReport sweepReport = RetentionSweeper.of(rootPath, Duration.ofDays(1))
+            .concurrency(2)
+            .maxDeletesPerSecond(100)
+            .sweep();
+        LOGGER.debug("sweepReport: {}", sweepReport);
+        assertEquals(11, sweepReport.getDeletedFiles());
+        // 10 intervals of 10 millis at least
+        assertTrue(sweepReport.getDuration().toMillis() >= 90);
+    }
+
+    @Test
+    public void testSchedule(@TempDir Path rootPath) throws Exception {
+        createFiles(rootPath, "old-", 3, 2);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            CountDownLatch countDownLatch = new CountDownLatch(1);
+            AtomicReference<RetentionSweeper.SweepReport> sweepReport = new AtomicReference<>();
+            ScheduledFuture<?> scheduledFuture = RetentionSweeper.of(rootPath, Duration.ofDays(1))
+                .schedule(scheduler, Duration.ofMinutes(1), report -> {
+                    sweepReport.set(report);
+                    countDownLatch.countDown();
+                });
+            assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+            scheduledFuture.cancel(false);
+            assertEquals(3, sweepReport.get().getDeletedFiles());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
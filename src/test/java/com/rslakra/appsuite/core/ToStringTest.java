@@ -2,12 +2,17 @@ package com.rslakra.appsuite.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Rohtash Lakra
  * @version 1.0.0
@@ -248,4 +253,76 @@ public class ToStringTest {
         assertNotNull(strObject);
         assertEquals(CLASS_NAME + " <>", strObject);
     }
+
+    @Test
+    public void testAddPrimitives() {
+        String strObject = ToString.of(ToStringTest.class, true)
+            .add("count", 5)
+            .add("size", 10L)
+            .add("ratio", 0.5D)
+            .add("active", true)
+            .add(null, 7)
+            .toString();
+        LOGGER.debug("strObject:{}", strObject);
+        assertEquals(CLASS_NAME + " <count=5, size=10, ratio=0.5, active=true, 7>", strObject);
+    }
+
+    @Test
+    public void testAppendTo() throws IOException {
+        ToString toString = ToString.of(ToStringTest.class, true).add("firstName", "Rohtash");
+        StringBuilder buffer = ToString.localBuffer().append("user:");
+        assertSame(buffer, toString.appendTo(buffer));
+        assertEquals("user:" + CLASS_NAME + " <firstName=Rohtash>", buffer.toString());
+        // the local buffer is reused and cleared
+        assertSame(buffer, ToString.localBuffer());
+        assertEquals(0, buffer.length());
+
+        StringWriter writer = toString.appendTo(new StringWriter());
+        assertEquals(toString.toString(), writer.toString());
+        assertEquals(toString.toString().length(), toString.length());
+        // adding after the toString() keeps the suffix at the end
+        assertEquals(CLASS_NAME + " <firstName=Rohtash, lastName=Lakra>", toString.add("lastName", "Lakra").toString());
+        assertEquals(CLASS_NAME + " <>", ToString.of(ToStringTest.class, true).appendTo(new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testPrimitiveValues() {
+        // the same text as the boxed values
+        String strObject = ToString.of()
+            .add("c", 'x')
+            .add("f", 0.1f)
+            .add("b", (byte) 7)
+            .add("s", (short) 8)
+            .add("i", 9)
+            .add("l", 10L)
+            .add("d", 0.1d)
+            .add("z", true)
+            .toString();
+        assertEquals("<c=x, f=0.1, b=7, s=8, i=9, l=10, d=0.1, z=true>", strObject);
+        assertEquals(ToString.of().add("c", (Object) 'x').add("f", (Object) 0.1f).toString(),
+                     ToString.of().add("c", 'x').add("f", 0.1f).toString());
+    }
+
+    @Test
+    public void testMerge() {
+        ToString other = ToString.of(",", "{", "}").add("a", 1).add("b", 2);
+        String strObject = ToString.of().add("name", "x").merge(other).toString();
+        assertEquals("<name=x, a=1,b=2>", strObject);
+        assertEquals("<>", ToString.of().merge(ToString.of()).toString());
+    }
+
+    @Test
+    public void testIfEnabledAndLazy() {
+        ToString disabled = ToString.ifEnabled(false, ToStringTest.class);
+        assertSame(disabled, disabled.add("name", "Rohtash").add("count", 1).setEmptyValue("empty"));
+        assertEquals("", disabled.toString());
+        assertEquals(CLASS_NAME_WITH_PACKAGE + " <count=1>",
+                     ToString.ifEnabled(true, ToStringTest.class).add("count", 1).toString());
+
+        AtomicInteger calls = new AtomicInteger();
+        Object lazy = ToString.lazy(() -> ToString.of().add("calls", calls.incrementAndGet()));
+        LOGGER.trace("lazy:{}", lazy);
+        assertEquals(0, calls.get());
+        assertEquals("<calls=1>", lazy.toString());
+    }
 }
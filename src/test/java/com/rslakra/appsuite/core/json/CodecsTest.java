@@ -0,0 +1,100 @@
+package com.rslakra.appsuite.core.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.rslakra.appsuite.core.entity.Address;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/17/26 7:40 PM
+ */
+public class CodecsTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodecsTest.class);
+    private static final String APPLICATION_TEST = "application/x-test";
+
+    /**
+     * @return
+     */
+    private static Address newAddress() {
+        Address address = new Address();
+        address.setId(1L);
+        address.setCity("Fremont");
+        address.setZipCode("94536");
+        return address;
+    }
+
+    @Test
+    public void testJsonCodec() throws IOException {
+        Codec codec = Codecs.json();
+        LOGGER.debug("codec: {}", codec);
+        assertEquals(Codecs.APPLICATION_JSON, codec.getContentType());
+        assertFalse(codec.isBinary());
+
+        byte[] dataBytes = codec.encode(newAddress());
+        assertEquals("Fremont", codec.decode(dataBytes, Address.class).getCity());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        codec.encode(newAddress(), outputStream);
+        Address address = codec.decode(new ByteArrayInputStream(outputStream.toByteArray()), Address.class);
+        assertEquals("94536", address.getZipCode());
+    }
+
+    @Test
+    public void testForContentType() {
+        assertSame(Codecs.json(), Codecs.forContentType("application/json"));
+        assertSame(Codecs.json(), Codecs.forContentType("Application/JSON; charset=UTF-8"));
+        assertNull(Codecs.forContentType("text/plain"));
+        assertNull(Codecs.forContentType(null));
+    }
+
+    @Test
+    public void testNegotiate() {
+        Codec testCodec = JacksonCodec.of(APPLICATION_TEST, new JsonFactory());
+        try {
+            Codecs.register(testCodec);
+            assertTrue(Codecs.getCodecs().contains(testCodec));
+
+            assertSame(Codecs.json(), Codecs.negotiate(null));
+            assertSame(Codecs.json(), Codecs.negotiate("*/*"));
+            assertSame(Codecs.json(), Codecs.negotiate("text/html"));
+            assertSame(testCodec, Codecs.negotiate("application/x-test"));
+            assertSame(testCodec, Codecs.negotiate("text/html, application/json;q=0.5, application/x-test;q=0.9"));
+            assertSame(Codecs.json(), Codecs.negotiate("application/x-test;q=0, application/*"));
+            assertSame(Codecs.json(), Codecs.negotiate("application/x-test;q=0.5, application/json"));
+        } finally {
+            assertSame(testCodec, Codecs.unregister(APPLICATION_TEST));
+        }
+
+        assertNull(Codecs.forContentType(APPLICATION_TEST));
+        assertSame(Codecs.json(), Codecs.negotiate("application/x-test"));
+    }
+
+    @Test
+    public void testJSONUtilsCodec() throws IOException {
+        Codec testCodec = JacksonCodec.of(APPLICATION_TEST, new JsonFactory());
+        try {
+            JSONUtils.INSTANCE.setCodec(testCodec);
+            assertSame(testCodec, JSONUtils.INSTANCE.getCodec());
+            byte[] dataBytes = JSONUtils.encode(newAddress());
+            assertEquals("Fremont", JSONUtils.decode(dataBytes, Address.class).getCity());
+        } finally {
+            JSONUtils.INSTANCE.setCodec(null);
+        }
+
+        assertEquals(Codecs.APPLICATION_JSON, JSONUtils.INSTANCE.getCodec().getContentType());
+    }
+}
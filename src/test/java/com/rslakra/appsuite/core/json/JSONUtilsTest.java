@@ -3,8 +3,11 @@ package com.rslakra.appsuite.core.json;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.rslakra.appsuite.core.entity.Address;
 import com.rslakra.appsuite.core.entity.Recovery;
 import com.rslakra.appsuite.core.Payload;
 import com.google.gson.FieldNamingPolicy;
@@ -12,7 +15,17 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Rohtash Lakra
@@ -150,4 +163,167 @@ public class JSONUtilsTest {
         assertTrue(jsonRecovery.contains("timeObjective"));
     }
 
+    @Test
+    public void testToJSONStringWithPrettyPrint() {
+        Recovery recovery = new Recovery();
+        recovery.setPointObjective("pointObjective");
+        recovery.setTimeObjective("timeObjective");
+
+        // the cached instances keep their own pretty printing.
+        String prettyJson = JSONUtils.toJSONString(recovery, true);
+        LOGGER.info("prettyJson: {}", prettyJson);
+        assertTrue(prettyJson.contains("\n"));
+        String json = JSONUtils.toJSONString(recovery);
+        LOGGER.info("json: {}", json);
+        assertFalse(json.contains("\n"));
+        assertEquals(json, JSONUtils.toJSONString(recovery, false));
+        assertEquals(JSONUtils.toMap(json), JSONUtils.toMap(prettyJson));
+    }
+
+    /**
+     * Returns the JSON array of the <code>count</code> addresses.
+     *
+     * @param count
+     * @return
+     * @throws IOException
+     */
+    private static byte[] newAddressesJson(final int count) throws IOException {
+        final List<Address> addresses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Address address = new Address();
+            address.setId((long) i);
+            address.setCity("City" + i);
+            addresses.add(address);
+        }
+
+        return JSONUtils.toJson(addresses).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testStreamArray() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream inputStream = new ByteArrayInputStream(newAddressesJson(1000)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        try (Stream<Address> addresses = JSONUtils.streamArray(inputStream, Address.class)) {
+            List<String> cities = addresses.skip(10).limit(3).map(Address::getCity).collect(Collectors.toList());
+            assertEquals(List.of("City10", "City11", "City12"), cities);
+            assertFalse(closed.get());
+        }
+        assertTrue(closed.get());
+
+        try (Stream<Address> addresses = JSONUtils.streamArray(new ByteArrayInputStream(newAddressesJson(1000)),
+                                                               Address.class)) {
+            assertEquals(1000, addresses.count());
+        }
+
+        try (Stream<Address> addresses = JSONUtils.streamArray(new ByteArrayInputStream("[]".getBytes()),
+                                                               Address.class)) {
+            assertEquals(0, addresses.count());
+        }
+
+        assertThrows(IOException.class,
+                     () -> JSONUtils.streamArray(new ByteArrayInputStream("{}".getBytes()), Address.class));
+    }
+
+    @Test
+    public void testStreamArrayInBatches() throws IOException {
+        try (Stream<List<Address>> batches = JSONUtils.streamArray(new ByteArrayInputStream(newAddressesJson(25)),
+                                                                   Address.class, 10)) {
+            List<Integer> batchSizes = batches.map(List::size).collect(Collectors.toList());
+            assertEquals(List.of(10, 10, 5), batchSizes);
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> JSONUtils.streamArray(new ByteArrayInputStream("[]".getBytes()), Address.class, 0));
+    }
+
+    @Test
+    public void testExtract() throws IOException {
+        byte[] jsonBytes = ("{\"route\":{\"region\":\"us-west\",\"hosts\":[\"a\",\"b\",{\"name\":\"c\",\"port\":8080}]},"
+                            + "\"body\":{\"items\":[1,2,3],\"meta\":{\"deep\":[[{}]]}},\"id\":7}")
+            .getBytes(StandardCharsets.UTF_8);
+        assertEquals("us-west", JSONUtils.extract(jsonBytes, "route.region"));
+        assertEquals("b", JSONUtils.extract(jsonBytes, "route.hosts[1]"));
+        assertEquals(8080, (Integer) JSONUtils.extract(jsonBytes, "route.hosts[2].port"));
+        assertEquals(7, (Integer) JSONUtils.extract(jsonBytes, "id"));
+        assertEquals(List.of(1, 2, 3), JSONUtils.extract(jsonBytes, "body.items"));
+        assertNull(JSONUtils.extract(jsonBytes, "route.missing"));
+        assertNull(JSONUtils.extract(jsonBytes, "route.hosts[5]"));
+
+        Map<String, Object> values = JSONUtils.extractAll(jsonBytes, "id", "route.hosts[2]", "route.hosts[2].name",
+                                                          "body.meta.deep[0][0]", "unknown");
+        LOGGER.info("values: {}", values);
+        assertEquals(4, values.size());
+        assertEquals("c", values.get("route.hosts[2].name"));
+        assertEquals(Map.of("name", "c", "port", 8080), values.get("route.hosts[2]"));
+        assertEquals(Map.of(), values.get("body.meta.deep[0][0]"));
+        assertFalse(values.containsKey("unknown"));
+
+        // the root array
+        assertEquals("City1", JSONUtils.extract(new ByteArrayInputStream(newAddressesJson(3)), "[1].city"));
+        assertThrows(IllegalArgumentException.class, () -> JSONUtils.extract(jsonBytes, "route..region"));
+        assertThrows(IllegalArgumentException.class, () -> JSONUtils.extract(jsonBytes, "route.hosts[x]"));
+    }
+
+    @Test
+    public void testExtractStopsWhenFound() throws IOException {
+        // the document is truncated after the requested values, which is never parsed.
+        byte[] jsonBytes = "{\"type\":\"order\",\"tenant\":{\"id\":42,\"skip\":[1,{\"x\":2}]},\"payload\":{\"broken"
+            .getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> values = JSONUtils.extractAll(jsonBytes, "type", "tenant.id");
+        assertEquals(Map.of("type", "order", "tenant.id", 42), values);
+        assertThrows(IOException.class, () -> JSONUtils.extractAll(jsonBytes, "type", "payload.id"));
+    }
+
+    @Test
+    public void testExtractWithDuplicateKeys() throws IOException {
+        // the duplicate keys must not count the same path twice and stop the parsing early.
+        byte[] jsonBytes = "{\"type\":\"order\",\"type\":\"refund\",\"tenant\":{\"id\":42},\"tenant\":{\"id\":43},"
+            .concat("\"id\":7}").getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> values = JSONUtils.extractAll(jsonBytes, "type", "tenant.id", "id");
+        LOGGER.info("values: {}", values);
+        assertEquals(Map.of("type", "order", "tenant.id", 42, "id", 7), values);
+        assertEquals(Map.of("tenant", Map.of("id", 42), "id", 7), JSONUtils.extractAll(jsonBytes, "tenant", "id"));
+    }
+
+    @Test
+    public void testJsonBytes() throws IOException {
+        Address address = new Address();
+        address.setId(5L);
+        address.setCity("Fremont");
+
+        byte[] jsonBytes = JSONUtils.toJsonBytes(address);
+        assertEquals(JSONUtils.toJson(address), new String(jsonBytes, StandardCharsets.UTF_8));
+
+        // the stream is not closed, so more can be written
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new IllegalStateException("closed");
+            }
+        };
+        outputStream.write('[');
+        JSONUtils.writeJson(address, outputStream);
+        outputStream.write(']');
+        byte[] arrayBytes = outputStream.toByteArray();
+        assertEquals(jsonBytes.length + 2, arrayBytes.length);
+
+        Address jsonAddress = JSONUtils.fromJson(arrayBytes, 1, jsonBytes.length, Address.class);
+        assertEquals(5L, jsonAddress.getId());
+        assertEquals("Fremont", jsonAddress.getCity());
+        assertEquals("Fremont", JSONUtils.fromJson(jsonBytes, Address.class).getCity());
+
+        Map<String, Object> addressMap = JSONUtils.toMap(jsonBytes);
+        assertEquals("Fremont", addressMap.get("city"));
+        assertNull(JSONUtils.toMap(new byte[0]));
+        assertEquals(List.of("gzip"),
+                     JSONUtils.asHeaders("{\"Accept-Encoding\":[\"gzip\"]}".getBytes(StandardCharsets.UTF_8))
+                         .get("Accept-Encoding"));
+    }
 }
@@ -0,0 +1,321 @@
+package com.rslakra.appsuite.core.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 4:55 PM
+ */
+public class JwksKeyStoreTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwksKeyStoreTest.class);
+
+    private static RSAKey firstKey;
+    private static RSAKey secondKey;
+
+    /**
+     * The clock, which is moved by the test.
+     */
+    private static final class TestClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        /**
+         * @param duration
+         */
+        private void advance(final Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+    }
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        firstKey = new RSAKeyGenerator(2048).keyID("first").algorithm(JWSAlgorithm.RS256).generate();
+        secondKey = new RSAKeyGenerator(2048).keyID("second").algorithm(JWSAlgorithm.PS256).generate();
+    }
+
+    /**
+     * Returns the JSON of the public JWKS of the <code>rsaKeys</code>.
+     *
+     * @param rsaKeys
+     * @return
+     */
+    private static String jwksOf(final RSAKey... rsaKeys) {
+        return new JWKSet(List.<JWK>of(rsaKeys)).toString();
+    }
+
+    /**
+     * Waits up to 5 seconds for the <code>refreshes</code> of the <code>jwksKeyStore</code>.
+     *
+     * @param jwksKeyStore
+     * @param refreshes
+     * @throws InterruptedException
+     */
+    private static void awaitRefreshes(final JwksKeyStore jwksKeyStore, final long refreshes)
+        throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jwksKeyStore.getRefreshes() < refreshes && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(jwksKeyStore.getRefreshes() >= refreshes, "refreshes:" + jwksKeyStore.getRefreshes());
+    }
+
+    @Test
+    public void testFileSource() throws Exception {
+        final Path jwksFile = Files.createTempFile("jwks", ".json");
+        try {
+            Files.writeString(jwksFile, jwksOf(firstKey, secondKey), StandardCharsets.UTF_8);
+            final JwksKeyStore jwksKeyStore = JwksKeyStore.of("file", JwksKeyStore.JwksSource.ofFile(jwksFile));
+            assertEquals(0, jwksKeyStore.size());
+
+            final JWK jwk = jwksKeyStore.getKey("first");
+            assertNotNull(jwk);
+            assertEquals(firstKey.toPublicJWK(), jwk);
+            assertEquals(2, jwksKeyStore.size());
+            assertSame(jwk, jwksKeyStore.getKey("first", JWSAlgorithm.RS256));
+            assertNull(jwksKeyStore.getKey("first", JWSAlgorithm.PS256));
+            assertEquals(List.of(jwksKeyStore.getKey("second")), jwksKeyStore.getKeys(JWSAlgorithm.PS256));
+            assertTrue(jwksKeyStore.getKeys(JWSAlgorithm.HS256).isEmpty());
+
+            // the kid of the header or the first key of its algorithm
+            assertSame(jwk, jwksKeyStore.resolve(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("first").build()));
+            assertEquals("second", jwksKeyStore.resolve(new JWSHeader.Builder(JWSAlgorithm.PS256)
+                                                            .type(JOSEObjectType.JWT).build()).getKeyID());
+            assertNull(jwksKeyStore.resolve(new JWSHeader(JWSAlgorithm.RS512)));
+
+            final CacheStats cacheStats = jwksKeyStore.getStats();
+            LOGGER.debug("cacheStats:{}, jwksKeyStore:{}", cacheStats, jwksKeyStore);
+            assertEquals(2, cacheStats.getSize());
+            assertEquals(1, jwksKeyStore.getRefreshes());
+        } finally {
+            Files.deleteIfExists(jwksFile);
+        }
+    }
+
+    @Test
+    public void testMissingKeyId() throws Exception {
+        final AtomicReference<String> jwks = new AtomicReference<>(jwksOf(firstKey));
+        final AtomicInteger fetches = new AtomicInteger();
+        final TestClock testClock = new TestClock();
+        final JwksKeyStore jwksKeyStore = JwksKeyStore.of("test", () -> {
+                fetches.incrementAndGet();
+                return jwks.get();
+            })
+            .minRefreshInterval(Duration.ofSeconds(30))
+            .clock(testClock);
+
+        assertNotNull(jwksKeyStore.getKey("first"));
+        assertEquals(1, fetches.get());
+        // the missing kid refreshes the keys once per interval
+        assertNull(jwksKeyStore.getKey("second"));
+        assertEquals(2, fetches.get());
+        assertNull(jwksKeyStore.getKey("second"));
+        assertNull(jwksKeyStore.getKey("unknown"));
+        assertEquals(2, fetches.get());
+
+        // the rotated key is found after the interval
+        jwks.set(jwksOf(secondKey));
+        testClock.advance(Duration.ofSeconds(31));
+        assertNotNull(jwksKeyStore.getKey("second"));
+        assertEquals(3, fetches.get());
+        assertNull(jwksKeyStore.getKey("first"));
+        assertEquals(3, fetches.get());
+        assertEquals(1, jwksKeyStore.getStats().getEvictions());
+    }
+
+    @Test
+    public void testStaleKeysWhileRefreshing() throws Exception {
+        final CountDownLatch fetchLatch = new CountDownLatch(1);
+        final AtomicInteger fetches = new AtomicInteger();
+        final TestClock testClock = new TestClock();
+        final JwksKeyStore jwksKeyStore = JwksKeyStore.of("test", () -> {
+                if (fetches.incrementAndGet() > 1) {
+                    try {
+                        fetchLatch.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return jwksOf(firstKey, secondKey);
+                }
+                return jwksOf(firstKey);
+            })
+            .refreshInterval(Duration.ofMinutes(1))
+            .clock(testClock);
+
+        assertEquals(1, jwksKeyStore.getKeys().size());
+        testClock.advance(Duration.ofMinutes(2));
+        // the expired keys are served while the single background refresh waits
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(jwksKeyStore.getKey("first"));
+        }
+        assertEquals(1, jwksKeyStore.size());
+
+        fetchLatch.countDown();
+        awaitRefreshes(jwksKeyStore, 2);
+        assertEquals(2, fetches.get());
+        assertEquals(2, jwksKeyStore.getKeys().size());
+    }
+
+    @Test
+    public void testFailedRefresh() throws Exception {
+        final AtomicInteger fetches = new AtomicInteger();
+        final JwksKeyStore jwksKeyStore = JwksKeyStore.of("test", () -> {
+            if (fetches.incrementAndGet() > 1) {
+                throw new IOException("JWKS is not available!");
+            }
+            return jwksOf(firstKey);
+        });
+
+        assertEquals(1, jwksKeyStore.refresh());
+        assertThrows(IOException.class, jwksKeyStore::refresh);
+        // the current keys are kept
+        assertNotNull(jwksKeyStore.getKey("first"));
+        assertEquals(1, jwksKeyStore.getRefreshFailures());
+
+        final JwksKeyStore invalidKeyStore = JwksKeyStore.of("invalid", () -> "{invalid");
+        assertThrows(IOException.class, invalidKeyStore::getKeys);
+        assertEquals(0, invalidKeyStore.size());
+        assertThrows(IllegalArgumentException.class, () -> invalidKeyStore.refreshInterval(Duration.ZERO));
+    }
+
+    @Test
+    public void testFailedFirstLoad() throws Exception {
+        final AtomicReference<String> jwks = new AtomicReference<>();
+        final AtomicInteger fetches = new AtomicInteger();
+        final TestClock testClock = new TestClock();
+        final JwksKeyStore jwksKeyStore = JwksKeyStore.of("test", () -> {
+                fetches.incrementAndGet();
+                if (jwks.get() == null) {
+                    throw new IOException("JWKS is not available!");
+                }
+                return jwks.get();
+            })
+            .minRefreshInterval(Duration.ofSeconds(30))
+            .clock(testClock);
+
+        assertThrows(IOException.class, () -> jwksKeyStore.getKey("first"));
+        assertEquals(1, fetches.get());
+        // the lookups fail fast until the retry
+        jwks.set(jwksOf(firstKey));
+        assertThrows(IOException.class, () -> jwksKeyStore.getKey("first"));
+        assertThrows(IOException.class, jwksKeyStore::getKeys);
+        assertEquals(1, fetches.get());
+
+        testClock.advance(Duration.ofSeconds(31));
+        assertNotNull(jwksKeyStore.getKey("first"));
+        assertEquals(2, fetches.get());
+        assertEquals(1, jwksKeyStore.getRefreshFailures());
+    }
+
+    @Test
+    public void testScheduledRefresh() throws Exception {
+        final AtomicInteger fetches = new AtomicInteger();
+        final JwksKeyStore jwksKeyStore = JwksKeyStore.of("test", () -> {
+                fetches.incrementAndGet();
+                return jwksOf(firstKey);
+            })
+            .refreshInterval(Duration.ofMillis(200))
+            .refreshAhead(Duration.ofMillis(100))
+            .minRefreshInterval(Duration.ofMillis(50));
+
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            jwksKeyStore.start(scheduler);
+            assertThrows(IllegalStateException.class, () -> jwksKeyStore.start(scheduler));
+            awaitRefreshes(jwksKeyStore, 3);
+            assertNotNull(jwksKeyStore.getKey("first"));
+            jwksKeyStore.stop();
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        LOGGER.debug("fetches:{}, jwksKeyStore:{}", fetches, jwksKeyStore);
+        assertEquals(jwksKeyStore.getRefreshes(), fetches.get());
+    }
+
+    @Test
+    public void testHttpSource() throws Exception {
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/.well-known/jwks.json", httpExchange -> {
+            final byte[] responseBytes = jwksOf(firstKey, secondKey).getBytes(StandardCharsets.UTF_8);
+            httpExchange.getResponseHeaders().add("Content-Type", "application/json");
+            httpExchange.sendResponseHeaders(200, responseBytes.length);
+            try (OutputStream outputStream = httpExchange.getResponseBody()) {
+                outputStream.write(responseBytes);
+            }
+        });
+        httpServer.start();
+        try {
+            final String baseUrl = "http://localhost:" + httpServer.getAddress().getPort() + "/";
+            final JwksKeyStore jwksKeyStore = JwksKeyStore.of("http", JwksKeyStore.JwksSource
+                .ofUrl(baseUrl + JWTUtils.JWKS_FILE_SUFFIX));
+            assertEquals(secondKey.toPublicJWK(), jwksKeyStore.getKey("second"));
+
+            // the JWTUtils resolves the public key of the kid
+            assertEquals(firstKey.toPublicKey(),
+                         JWTUtils.INSTANCE.fetchPublicKey(baseUrl + JWTUtils.JWKS_FILE_SUFFIX, 60, "first"));
+            assertNull(JWTUtils.INSTANCE.fetchPublicKey(baseUrl + JWTUtils.JWKS_FILE_SUFFIX, 60, "unknown"));
+
+            final JwksKeyStore missingKeyStore = JwksKeyStore.of("missing",
+                                                                 JwksKeyStore.JwksSource.ofUrl(baseUrl + "missing"));
+            assertThrows(IOException.class, missingKeyStore::getKeys);
+        } finally {
+            httpServer.stop(0);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.rslakra.appsuite.core.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.KeyLengthException;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 2:40 PM
+ */
+public class JwsRegistryTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwsRegistryTest.class);
+
+    /**
+     * @param algorithm
+     * @param subject
+     * @param jwsSigner
+     * @return
+     * @throws JOSEException
+     */
+    private static SignedJWT newSignedJWT(final JWSAlgorithm algorithm, final String subject,
+                                          final JWSSigner jwsSigner) throws JOSEException {
+        final JWSHeader jwsHeader = new JWSHeader.Builder(algorithm).type(JOSEObjectType.JWT).build();
+        final SignedJWT signedJwt = new SignedJWT(jwsHeader, new JWTClaimsSet.Builder().subject(subject).build());
+        signedJwt.sign(jwsSigner);
+        return signedJwt;
+    }
+
+    @Test
+    public void testMACSigner() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString() + UUID.randomUUID();
+        final JwsRegistry jwsRegistry = JwsRegistry.of("test");
+        final JWSSigner jwsSigner = jwsRegistry.macSigner(clientSecret);
+        assertSame(jwsSigner, jwsRegistry.macSigner(clientSecret));
+        assertSame(jwsRegistry.macVerifier(clientSecret), jwsRegistry.macVerifier(clientSecret));
+
+        for (JWSAlgorithm algorithm : new JWSAlgorithm[]{JWSAlgorithm.HS256, JWSAlgorithm.HS384,
+                                                         JWSAlgorithm.HS512}) {
+            // the same signatures as of the nimbus signer
+            final SignedJWT signedJwt = newSignedJWT(algorithm, "testClient", jwsSigner);
+            final SignedJWT expected = newSignedJWT(algorithm, "testClient", new MACSigner(clientSecret));
+            assertEquals(expected.serialize(), signedJwt.serialize());
+            assertTrue(signedJwt.verify(jwsRegistry.macVerifier(clientSecret)));
+            assertTrue(expected.verify(new MACVerifier(clientSecret)));
+            assertFalse(signedJwt.verify(jwsRegistry.macVerifier(UUID.randomUUID().toString())));
+        }
+
+        LOGGER.debug("jwsRegistry:{}", jwsRegistry);
+        // the signer and the verifiers of the secret and the 3 other secrets
+        assertEquals(5, jwsRegistry.size());
+        jwsRegistry.removeSecret(clientSecret);
+        assertEquals(3, jwsRegistry.size());
+    }
+
+    @Test
+    public void testMaxSize() throws Exception {
+        final JwsRegistry jwsRegistry = JwsRegistry.of("test", 2);
+        final String clientSecret = UUID.randomUUID().toString();
+        final JWSSigner jwsSigner = jwsRegistry.macSigner(clientSecret);
+        jwsRegistry.macSigner(UUID.randomUUID().toString());
+        // the least recently used signer is evicted
+        assertSame(jwsSigner, jwsRegistry.macSigner(clientSecret));
+        jwsRegistry.macSigner(UUID.randomUUID().toString());
+        assertSame(jwsSigner, jwsRegistry.macSigner(clientSecret));
+        jwsRegistry.macSigner(UUID.randomUUID().toString());
+        jwsRegistry.macSigner(UUID.randomUUID().toString());
+        assertEquals(2, jwsRegistry.size());
+        assertFalse(jwsSigner == jwsRegistry.macSigner(clientSecret));
+        assertThrows(IllegalArgumentException.class, () -> JwsRegistry.of("test", 0));
+
+        // the secrets aren't kept in the clear
+        final String keyIdentity = JwsRegistry.macKeyIdentity(clientSecret);
+        assertFalse(keyIdentity.contains(clientSecret));
+        assertEquals(keyIdentity, JwsRegistry.macKeyIdentity(clientSecret));
+        LOGGER.debug("jwsRegistry:{}, keyIdentity:{}", jwsRegistry, keyIdentity);
+    }
+
+    @Test
+    public void testMACSignerKeyLength() throws Exception {
+        assertThrows(KeyLengthException.class, () -> new PooledMACSigner("short-secret"));
+        // the 256-bit secret can't sign HS512
+        final PooledMACSigner macSigner = new PooledMACSigner(UUID.randomUUID().toString());
+        assertThrows(JOSEException.class, () -> newSignedJWT(JWSAlgorithm.HS512, "testClient", macSigner));
+        assertThrows(JOSEException.class, () -> newSignedJWT(JWSAlgorithm.RS256, "testClient", macSigner));
+    }
+
+    @Test
+    public void testRSASigner() throws Exception {
+        final RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+        final RSAKey rsaPublicKey = rsaKey.toPublicJWK();
+        final JwsRegistry jwsRegistry = JwsRegistry.of("test");
+        final JWSSigner jwsSigner = jwsRegistry.rsaSigner(rsaKey);
+        assertSame(jwsSigner, jwsRegistry.rsaSigner(rsaKey));
+        final JWSVerifier jwsVerifier = jwsRegistry.rsaVerifier(rsaPublicKey);
+        assertSame(jwsVerifier, jwsRegistry.rsaVerifier(rsaKey));
+
+        for (JWSAlgorithm algorithm : new JWSAlgorithm[]{JWSAlgorithm.RS256, JWSAlgorithm.PS256}) {
+            final SignedJWT signedJwt = newSignedJWT(algorithm, "testClient", jwsSigner);
+            assertTrue(signedJwt.verify(jwsVerifier));
+            assertTrue(signedJwt.verify(new RSASSAVerifier(rsaPublicKey)));
+            assertTrue(newSignedJWT(algorithm, "testClient", new RSASSASigner(rsaKey)).verify(jwsVerifier));
+        }
+
+        final RSAKey otherKey = new RSAKeyGenerator(2048).generate();
+        assertFalse(newSignedJWT(JWSAlgorithm.RS256, "testClient", jwsSigner)
+                        .verify(jwsRegistry.rsaVerifier(otherKey.toPublicJWK())));
+        assertThrows(JOSEException.class, () -> jwsRegistry.rsaSigner(rsaPublicKey));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final JwsRegistry jwsRegistry = JwsRegistry.of("test");
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final String subject = "client-" + i;
+                futures.add(executor.submit(() -> {
+                    final SignedJWT signedJwt = newSignedJWT(JWSAlgorithm.HS256, subject,
+                                                             jwsRegistry.macSigner(clientSecret));
+                    return (signedJwt.verify(new MACVerifier(clientSecret))
+                            && SignedJWT.parse(signedJwt.serialize()).verify(jwsRegistry.macVerifier(clientSecret)));
+                }));
+            }
+
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testJWTUtilsRegistry() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final String audience = "http://localhost/identity/oauth2/access_token?realm=lakra";
+        final String jwtToken = JWTUtils.jwtMACSignedToken(audience, "testClient", clientSecret);
+        assertTrue(JWTUtils.jwtMACVerified(jwtToken, clientSecret));
+        final JwsRegistry jwsRegistry = JWTUtils.getJwsRegistry();
+        assertSame(jwsRegistry.macSigner(clientSecret), jwsRegistry.macSigner(clientSecret));
+        assertSame(jwsRegistry.hmacKey(clientSecret), jwsRegistry.hmacKey(clientSecret));
+        jwsRegistry.removeSecret(clientSecret);
+    }
+}
@@ -0,0 +1,197 @@
+package com.rslakra.appsuite.core.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 3:45 PM
+ */
+public class JwtIssuerTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtIssuerTest.class);
+
+    /**
+     * @param clientSecret
+     * @return
+     */
+    private static JwtRequest newJwtRequest(final String clientSecret) {
+        return JwtRequest.builder()
+            .clientId("testClient")
+            .clientSecret(clientSecret)
+            .serverBaseUrl("http://localhost")
+            .pathSegment("/identity/oauth2/access_token?realm=")
+            .realm("lakra")
+            .expiryTimeInMinutes(10)
+            .withJwtId(true)
+            .build();
+    }
+
+    /**
+     * Issues the <code>count</code> tokens on the <code>executor</code> and returns their JWT IDs.
+     *
+     * @param jwtIssuer
+     * @param executor
+     * @param count
+     * @return
+     * @throws Exception
+     */
+    private static Set<String> issueAll(final JwtIssuer jwtIssuer, final ExecutorService executor, final int count)
+        throws Exception {
+        final Set<String> jwtIds = ConcurrentHashMap.newKeySet();
+        final List<Future<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(() -> {
+                jwtIds.add(jwtIssuer.issueSigned("testClient").getJWTClaimsSet().getJWTID());
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        return jwtIds;
+    }
+
+    @Test
+    public void testIssueMAC() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final Instant now = Instant.parse("2026-10-18T10:00:00Z");
+        final JwtIssuer jwtIssuer = JwtIssuer.builder()
+            .macSecret(clientSecret)
+            .issuer("issuer")
+            .subject("subject")
+            .audience("audience")
+            .clientId("client")
+            .expiry(Duration.ofMinutes(3))
+            .clock(Clock.fixed(now, ZoneOffset.UTC))
+            .build();
+        LOGGER.debug("jwtIssuer:{}", jwtIssuer);
+
+        final String jwtToken = jwtIssuer.issue();
+        final JWTClaimsSet jwtClaims = JWTUtils.jwtMACVerifiedClaims(jwtToken, clientSecret);
+        assertNotNull(jwtClaims);
+        assertEquals("issuer", jwtClaims.getIssuer());
+        assertEquals("subject", jwtClaims.getSubject());
+        assertEquals("audience", jwtClaims.getAudience().get(0));
+        assertEquals("client", jwtClaims.getClaim(JwtIssuer.CLAIM_CLIENT_ID));
+        assertEquals(now, jwtClaims.getIssueTime().toInstant());
+        assertEquals(now.plus(Duration.ofMinutes(3)), jwtClaims.getExpirationTime().toInstant());
+        assertEquals(JWSAlgorithm.HS256, SignedJWT.parse(jwtToken).getHeader().getAlgorithm());
+        assertEquals("other", JWTUtils.jwtMACVerifiedClaims(jwtIssuer.issue("other"), clientSecret).getSubject());
+    }
+
+    @Test
+    public void testIssueRSA() throws Exception {
+        final RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("test-kid").generate();
+        final JwtIssuer jwtIssuer = JwtIssuer.of(newJwtRequest(null), rsaKey);
+        final String jwtToken = jwtIssuer.issue();
+        assertEquals("test-kid", SignedJWT.parse(jwtToken).getHeader().getKeyID());
+        final JWTClaimsSet jwtClaims = JWTUtils.jwtRSASSAVerifiedClaims(jwtToken, rsaKey.toPublicJWK());
+        assertNotNull(jwtClaims);
+        assertEquals("testClient", jwtClaims.getSubject());
+        assertEquals("http://localhost/identity/oauth2/access_token?realm=lakra", jwtClaims.getAudience().get(0));
+        assertNotNull(jwtClaims.getJWTID());
+    }
+
+    @Test
+    public void testInvalidBuilder() {
+        assertThrows(IllegalStateException.class, () -> JwtIssuer.builder().build());
+        assertThrows(JOSEException.class, () -> JwtIssuer.builder().macSecret("short-secret").build());
+        assertThrows(JOSEException.class,
+                     () -> JwtIssuer.builder().macSecret(UUID.randomUUID().toString(), JWSAlgorithm.HS512).build());
+        assertThrows(IllegalArgumentException.class, () -> JwtIssuer.builder()
+            .macSecret(UUID.randomUUID().toString())
+            .expiry(Duration.ZERO)
+            .build());
+    }
+
+    @Test
+    public void testIssueShortSecret() throws Exception {
+        final String clientSecret = "short-secret";
+        assertThrows(JOSEException.class, () -> JwtIssuer.of(newJwtRequest(clientSecret)));
+        final JwtIssuer jwtIssuer = JwtIssuer.of(newJwtRequest(clientSecret), true);
+        final String jwtToken = jwtIssuer.issue();
+        LOGGER.debug("jwtIssuer:{}, jwtToken:{}", jwtIssuer, jwtToken);
+
+        // the HS256 signature of the short secret
+        final Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(clientSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        final String signingInput = jwtToken.substring(0, jwtToken.lastIndexOf('.'));
+        final byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(Base64URL.encode(signature), SignedJWT.parse(jwtToken).getSignature());
+        assertEquals("testClient", SignedJWT.parse(jwtToken).getJWTClaimsSet().getSubject());
+
+        // the long secrets are still signed by the pooled signer
+        final String longSecret = UUID.randomUUID().toString();
+        assertTrue(JWTUtils.jwtMACVerified(JwtIssuer.of(newJwtRequest(longSecret), true).issue(), longSecret));
+    }
+
+    /**
+     * Issues the tokens from the increasing number of the platform threads and from the virtual threads, and logs
+     * the tokens/sec of each run. The throughput is only logged, as it depends on the host.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConcurrentIssue() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final JwtIssuer jwtIssuer = JwtIssuer.of(newJwtRequest(clientSecret));
+        final int count = 5_000;
+        // warm up
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            issueAll(jwtIssuer, executor, 1_000);
+        }
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads <<= 1) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                final long startTime = System.nanoTime();
+                assertEquals(count, issueAll(jwtIssuer, executor, count).size());
+                final double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0D;
+                LOGGER.info("threads:{}, tokens/sec:{}", threads, Math.round(count / seconds));
+            }
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final long startTime = System.nanoTime();
+            final Set<String> jwtIds = issueAll(jwtIssuer, executor, count);
+            final double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0D;
+            LOGGER.info("virtual threads, tokens/sec:{}", Math.round(count / seconds));
+            assertEquals(count, jwtIds.size());
+        }
+
+        assertTrue(JWTUtils.jwtMACVerified(jwtIssuer.issue(), clientSecret));
+    }
+}
@@ -0,0 +1,190 @@
+package com.rslakra.appsuite.core.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.rslakra.appsuite.core.monitoring.CacheStats;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 12:55 PM
+ */
+public class VerifiedTokenCacheTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifiedTokenCacheTest.class);
+    private static final String AUDIENCE = "http://localhost/identity/oauth2/access_token?realm=lakra";
+
+    /**
+     * The clock, which is moved by the test.
+     */
+    private static final class TestClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        /**
+         * @param duration
+         */
+        private void advance(final Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+    }
+
+    /**
+     * Returns the HS256 token, which expires a minute after the <code>expiredOn</code>.
+     *
+     * @param subject
+     * @param clientSecret
+     * @param expiredOn
+     * @return
+     * @throws Exception
+     */
+    private static String newToken(final String subject, final String clientSecret, final Date expiredOn)
+        throws Exception {
+        final JWSHeader jwsHeader = new JWSHeader.Builder(JWSAlgorithm.HS256).type(JOSEObjectType.JWT).build();
+        final JWTClaimsSet jwtClaimsSet = JWTUtils.jwtClaimsSet(null, AUDIENCE, subject, subject, new Date(), expiredOn);
+        return JWTUtils.jwtMACSigned(jwsHeader, jwtClaimsSet, clientSecret).serialize();
+    }
+
+    @Test
+    public void testVerifiedClaims() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final String jwtToken = newToken("testClient", clientSecret, JWTUtils.addDays(new Date(), 1));
+        final VerifiedTokenCache tokenCache = VerifiedTokenCache.of("test", 100);
+        final AtomicInteger verifiers = new AtomicInteger();
+        final VerifiedTokenCache.VerifierFactory verifierFactory = () -> {
+            verifiers.incrementAndGet();
+            return new MACVerifier(clientSecret);
+        };
+
+        final JWTClaimsSet jwtClaims = tokenCache.verifiedClaims(jwtToken, clientSecret, verifierFactory);
+        assertNotNull(jwtClaims);
+        assertEquals("testClient", jwtClaims.getSubject());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(jwtClaims, tokenCache.verifiedClaims(jwtToken, clientSecret, verifierFactory));
+        }
+        assertEquals(1, verifiers.get());
+
+        final CacheStats cacheStats = tokenCache.getStats();
+        LOGGER.debug("tokenCache:{}", tokenCache);
+        assertEquals(10, cacheStats.getHits());
+        assertEquals(1, cacheStats.getMisses());
+        assertEquals(1, cacheStats.getSize());
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final String otherSecret = UUID.randomUUID().toString();
+        final String jwtToken = newToken("testClient", clientSecret, JWTUtils.addDays(new Date(), 1));
+        final TestClock testClock = new TestClock();
+        final VerifiedTokenCache tokenCache = VerifiedTokenCache.of("test", 100)
+            .negativeTtl(Duration.ofSeconds(10))
+            .clock(testClock);
+
+        // the bad signature is cached for the other key only
+        assertNull(tokenCache.verifiedClaims(jwtToken, otherSecret, () -> new MACVerifier(otherSecret)));
+        assertNull(tokenCache.verifiedClaims(jwtToken, otherSecret, () -> {
+            throw new AssertionError("Cached bad signature is verified again!");
+        }));
+        assertEquals(1, tokenCache.getNegativeHits());
+        assertNotNull(tokenCache.verifiedClaims(jwtToken, clientSecret, () -> new MACVerifier(clientSecret)));
+
+        testClock.advance(Duration.ofSeconds(11));
+        assertNull(tokenCache.verifiedClaims(jwtToken, otherSecret, () -> new MACVerifier(otherSecret)));
+        assertEquals(1, tokenCache.getNegativeHits());
+        assertEquals(3, tokenCache.getStats().getMisses());
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        // expires a minute later
+        final String jwtToken = newToken("testClient", clientSecret, new Date());
+        final TestClock testClock = new TestClock();
+        final VerifiedTokenCache tokenCache = VerifiedTokenCache.of("test", 100).clock(testClock);
+        assertNotNull(tokenCache.verifiedClaims(jwtToken, clientSecret, () -> new MACVerifier(clientSecret)));
+        assertNotNull(tokenCache.verifiedClaims(jwtToken, clientSecret, () -> new MACVerifier(clientSecret)));
+        assertEquals(1, tokenCache.getStats().getHits());
+
+        testClock.advance(Duration.ofMinutes(2));
+        assertEquals(1, tokenCache.removeExpired());
+        assertNotNull(tokenCache.verifiedClaims(jwtToken, clientSecret, () -> new MACVerifier(clientSecret)));
+        assertEquals(2, tokenCache.getStats().getMisses());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final Date expiredOn = JWTUtils.addDays(new Date(), 1);
+        final VerifiedTokenCache tokenCache = VerifiedTokenCache.of("test", 2);
+        final String[] jwtTokens = new String[3];
+        for (int i = 0; i < jwtTokens.length; i++) {
+            jwtTokens[i] = newToken("client-" + i, clientSecret, expiredOn);
+            tokenCache.verifiedClaims(jwtTokens[i], clientSecret, () -> new MACVerifier(clientSecret));
+        }
+
+        assertEquals(2, tokenCache.size());
+        assertEquals(1, tokenCache.getStats().getEvictions());
+        // the least recently used token is evicted
+        tokenCache.verifiedClaims(jwtTokens[0], clientSecret, () -> new MACVerifier(clientSecret));
+        assertEquals(0, tokenCache.getStats().getHits());
+        tokenCache.invalidateAll();
+        assertEquals(0, tokenCache.size());
+        assertThrows(IllegalArgumentException.class, () -> VerifiedTokenCache.of("test", 0));
+    }
+
+    @Test
+    public void testJWTUtilsCache() throws Exception {
+        final String clientSecret = UUID.randomUUID().toString();
+        final String jwtToken = JWTUtils.jwtMACSignedToken(AUDIENCE, "testClient", clientSecret);
+        final VerifiedTokenCache tokenCache = VerifiedTokenCache.of("test", 100);
+        JWTUtils.setVerifiedTokenCache(tokenCache);
+        try {
+            assertNotNull(JWTUtils.jwtMACVerifiedClaims(jwtToken, clientSecret));
+            assertTrue(JWTUtils.jwtMACVerified(jwtToken, clientSecret));
+            assertFalse(JWTUtils.jwtMACVerified(jwtToken, UUID.randomUUID().toString()));
+            assertEquals(1, tokenCache.getStats().getHits());
+            assertEquals(2, tokenCache.getStats().getMisses());
+        } finally {
+            JWTUtils.setVerifiedTokenCache(null);
+        }
+    }
+}
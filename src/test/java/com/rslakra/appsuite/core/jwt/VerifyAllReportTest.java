@@ -0,0 +1,157 @@
+package com.rslakra.appsuite.core.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author Rohtash Lakra
+ * @created 10/18/26 5:50 PM
+ */
+public class VerifyAllReportTest {
+
+    // LOGGER
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifyAllReportTest.class);
+    private static final String CLIENT_SECRET = UUID.randomUUID().toString();
+
+    private static RSAKey firstKey;
+    private static RSAKey secondKey;
+    private static OctetSequenceKey octetSequenceKey;
+    private static JwksKeyStore jwksKeyStore;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        firstKey = new RSAKeyGenerator(2048).keyID("first").algorithm(JWSAlgorithm.RS256).generate();
+        secondKey = new RSAKeyGenerator(2048).keyID("second").algorithm(JWSAlgorithm.RS256).generate();
+        octetSequenceKey = new OctetSequenceKey.Builder(CLIENT_SECRET.getBytes(StandardCharsets.UTF_8))
+            .keyID("secret")
+            .algorithm(JWSAlgorithm.HS256)
+            .build();
+        final String jwks = new JWKSet(List.<JWK>of(firstKey.toPublicJWK(), secondKey.toPublicJWK(), octetSequenceKey))
+            .toString(false);
+        jwksKeyStore = JwksKeyStore.of("test", () -> jwks);
+    }
+
+    /**
+     * Returns the <code>count</code> tokens signed alternately by the first and the second key.
+     *
+     * @param count
+     * @return
+     * @throws Exception
+     */
+    private static List<String> newTokens(final int count) throws Exception {
+        final JwtIssuer firstIssuer = JwtIssuer.builder().rsaKey(firstKey).subject("first").build();
+        final JwtIssuer secondIssuer = JwtIssuer.builder().rsaKey(secondKey).subject("second").build();
+        final List<String> jwtTokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jwtTokens.add((i % 2 == 0 ? firstIssuer : secondIssuer).issue("subject-" + i));
+        }
+
+        return jwtTokens;
+    }
+
+    @Test
+    public void testVerifyAll() throws Exception {
+        final List<String> jwtTokens = newTokens(4);
+        final String validToken = jwtTokens.get(0);
+        // the signature of the second key with the kid of the first key
+        final String[] secondParts = jwtTokens.get(1).split("\\.");
+        final String[] firstParts = validToken.split("\\.");
+        jwtTokens.add(firstParts[0] + "." + secondParts[1] + "." + secondParts[2]);
+        final RSAKey unknownKey = new RSAKeyGenerator(2048).keyID("unknown").generate();
+        jwtTokens.add(JwtIssuer.builder().rsaKey(unknownKey).build().issue());
+        jwtTokens.add("not.a.token");
+        jwtTokens.add(null);
+        jwtTokens.add(JwtIssuer.builder()
+                          .macSecret(CLIENT_SECRET)
+                          .keyId("secret")
+                          .build()
+                          .issue("mac"));
+
+        final JwsRegistry jwsRegistry = JWTUtils.getJwsRegistry();
+        final int registrySize = jwsRegistry.size();
+        final VerifyAllReport verifyAllReport = JWTUtils.verifyAll(jwtTokens, jwksKeyStore::resolve);
+        LOGGER.debug("verifyAllReport:{}, results:{}", verifyAllReport, verifyAllReport.getResults());
+        assertEquals(jwtTokens.size(), verifyAllReport.getTotal());
+        for (int i = 0; i < 4; i++) {
+            final VerifyAllReport.Result result = verifyAllReport.getResults().get(i);
+            assertTrue(result.isVerified(), result.toString());
+            assertEquals("subject-" + i, result.getJwtClaims().getSubject());
+            assertEquals(i % 2 == 0 ? "first" : "second", result.getKeyId());
+        }
+
+        assertEquals(VerifyAllReport.Status.INVALID_SIGNATURE, verifyAllReport.getResults().get(4).getStatus());
+        assertNull(verifyAllReport.getResults().get(4).getJwtClaims());
+        assertEquals(VerifyAllReport.Status.UNKNOWN_KEY, verifyAllReport.getResults().get(5).getStatus());
+        assertEquals(VerifyAllReport.Status.MALFORMED, verifyAllReport.getResults().get(6).getStatus());
+        assertEquals(VerifyAllReport.Status.MALFORMED, verifyAllReport.getResults().get(7).getStatus());
+        assertEquals("mac", verifyAllReport.getResults().get(8).getJwtClaims().getSubject());
+        assertEquals(5, verifyAllReport.getVerified());
+        assertEquals(4, verifyAllReport.getFailed());
+
+        // the verifiers of the batch aren't registered
+        assertEquals(registrySize, jwsRegistry.size());
+        assertSame(jwsRegistry.verifier(firstKey.toPublicJWK()), jwsRegistry.verifier(firstKey));
+        assertSame(jwsRegistry.verifier(octetSequenceKey), jwsRegistry.verifier(octetSequenceKey));
+        assertFalse(JwsRegistry.octKeyIdentity(octetSequenceKey).contains(octetSequenceKey.getKeyValue().toString()));
+
+        // the single key resolver
+        final VerifyAllReport firstKeyReport = JWTUtils.verifyAll(jwtTokens.subList(0, 4),
+                                                                  KeyResolver.of(firstKey.toPublicJWK()));
+        assertEquals(2, firstKeyReport.getVerified());
+        assertEquals(2, firstKeyReport.getCount(VerifyAllReport.Status.INVALID_SIGNATURE));
+        assertEquals(0, JWTUtils.verifyAll(List.of(), jwksKeyStore::resolve).getTotal());
+    }
+
+    /**
+     * Verifies the same tokens on the increasing number of the platform threads and on the virtual threads, and logs
+     * the throughput of each run.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testVerifyAllExecutors() throws Exception {
+        final List<String> jwtTokens = newTokens(2_000);
+        // warm up
+        JWTUtils.verifyAll(jwtTokens.subList(0, 200), jwksKeyStore::resolve);
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads <<= 1) {
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                final VerifyAllReport verifyAllReport = JWTUtils.verifyAll(jwtTokens, jwksKeyStore::resolve, executor);
+                LOGGER.info("threads:{}, verifyAllReport:{}", threads, verifyAllReport);
+                assertEquals(jwtTokens.size(), verifyAllReport.getVerified());
+            }
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final VerifyAllReport verifyAllReport = JWTUtils.verifyAll(jwtTokens, jwksKeyStore::resolve, executor);
+            LOGGER.info("virtual threads, verifyAllReport:{}", verifyAllReport);
+            assertEquals(jwtTokens.size(), verifyAllReport.getVerified());
+            assertEquals(0, verifyAllReport.getFailed());
+            for (int i = 0; i < jwtTokens.size(); i++) {
+                assertEquals("subject-" + i, verifyAllReport.getResults().get(i).getJwtClaims().getSubject());
+            }
+        }
+    }
+}
@@ -2,13 +2,16 @@ package com.rslakra.appsuite.core.text;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -62,4 +65,118 @@ public class TextUtilsTest {
 // assertNotNull(result);
 // assertEquals(result, "[keySet=null, values=null]");
     }
+
+    public static class Node {
+
+        private String name;
+        private int weight;
+        private Node next;
+
+        public Node(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+    }
+
+    public static class NamedNode extends Node {
+
+        private long[] ids = {1L, 2L};
+
+        public NamedNode(String name, int weight) {
+            super(name, weight);
+        }
+    }
+
+    @Test
+    public void testToStringWithPrimitiveArray() {
+        assertEquals("[]{1, 2, 3}", TextUtils.toString(new int[]{1, 2, 3}));
+        assertEquals("int[]{1, 2, 3}", TextUtils.toString(new int[]{1, 2, 3}, true, true));
+        assertEquals("[]{true, false}", TextUtils.toString(new boolean[]{true, false}));
+        assertEquals("String[]{Rohtash}", TextUtils.toString(new String[]{"Rohtash"}, true, true));
+    }
+
+    @Test
+    public void testToStringWithFields() {
+        Node node = new NamedNode("first", 1);
+        String result = TextUtils.toString(node, true, true);
+        LOGGER.debug("result:{}", result);
+        assertEquals("NamedNode[ids=long[]{1, 2}][name=first, weight=1, next=null]", result);
+        // the JDK classes use their own toString().
+        assertEquals("5", TextUtils.toString(Integer.valueOf(5)));
+    }
+
+    @Test
+    public void testToStringWithCycle() {
+        Node first = new Node("first", 1);
+        Node second = new Node("second", 2);
+        first.next = second;
+        second.next = first;
+        String result = TextUtils.toString(first);
+        LOGGER.debug("result:{}", result);
+        assertEquals("[name=first, weight=1, next=[name=second, weight=2, next=<cycle>]]", result);
+    }
+
+    @Test
+    public void testToStringWithLimits() {
+        Node head = new Node("node0", 0);
+        Node node = head;
+        for (int i = 1; i < 10_000; i++) {
+            node.next = new Node("node" + i, i);
+            node = node.next;
+        }
+
+        // the long graphs are cut at the max length.
+        String result = TextUtils.toString(head, false, false, 100_000, 1024);
+        assertEquals(1024 + 3, result.length());
+        assertTrue(result.endsWith("..."));
+
+        head.next.next = null;
+        result = TextUtils.toString(head, false, false, 0, 1024);
+        LOGGER.debug("result:{}", result);
+        assertTrue(result.startsWith("[name=node0, weight=0, next=" + TextUtilsTest.class.getName()));
+    }
+
+    public static class Holder {
+
+        private Object value;
+
+        public Holder(Object value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    public void testToStringWithHugeCollections() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2_000_000; i++) {
+            values.add(i);
+        }
+
+        // the huge collections are cut at the max length, without rendering them in full.
+        long startTime = System.nanoTime();
+        String result = TextUtils.toString(new Holder(values), false, false, 16, 100);
+        LOGGER.debug("result:{}, took:{} ms", result, (System.nanoTime() - startTime) / 1_000_000);
+        assertEquals(100 + 3, result.length());
+        assertTrue(result.startsWith("[value=[0, 1, 2, 3"));
+        assertTrue(result.endsWith("..."));
+
+        Map<String, Object> valueMap = new LinkedHashMap<>();
+        valueMap.put("values", values);
+        result = TextUtils.toString(new Holder(valueMap), false, false, 16, 100);
+        assertEquals(100 + 3, result.length());
+        assertTrue(result.startsWith("[value={values=[0, 1, 2"));
+
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            text.append("text-");
+        }
+        assertEquals(100 + 3, TextUtils.toString(new Holder(text), false, false, 16, 100).length());
+
+        // the small ones are written as their toString()
+        valueMap.put("values", Arrays.asList(1, "two", null));
+        assertEquals("[value={values=[1, two, null]}]", TextUtils.toString(new Holder(valueMap)));
+        // the collections past the max depth aren't rendered
+        assertTrue(TextUtils.toString(new Holder(values), false, false, 0, 100)
+                       .startsWith("[value=" + ArrayList.class.getName() + "@"));
+    }
 }